@@ -0,0 +1,16 @@
+package com.example.gateway.config;
+
+import com.example.gateway.loadbalancer.ConsistentHashLoadBalancerConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Switches gateway routing to consistent hashing when
+ * {@code gateway.loadbalancer.consistent-hash.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "gateway.loadbalancer.consistent-hash", name = "enabled", havingValue = "true")
+@LoadBalancerClients(defaultConfiguration = ConsistentHashLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+}
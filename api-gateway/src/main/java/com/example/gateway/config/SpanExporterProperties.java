@@ -0,0 +1,21 @@
+package com.example.gateway.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Where finished spans go, under {@code tracing.exporter}
+ */
+@Data
+@ConfigurationProperties(prefix = "tracing.exporter")
+public class SpanExporterProperties {
+    private Type type = Type.NONE;
+    /** Spans kept by the in-memory exporter. */
+    private int memoryCapacity = 2000;
+    /** JSON lines file written by the file exporter. */
+    private String file = "logs/spans.jsonl";
+
+    public enum Type {
+        NONE, MEMORY, FILE
+    }
+}
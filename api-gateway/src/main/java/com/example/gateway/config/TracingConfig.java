@@ -0,0 +1,54 @@
+package com.example.gateway.config;
+
+import com.example.gateway.tracing.FileSpanReporter;
+import com.example.gateway.tracing.InMemorySpanReporter;
+import com.example.gateway.tracing.LatencySpanFilter;
+import com.example.gateway.tracing.SpansEndpoint;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Span exporters for Micrometer Tracing. Any {@code SpanReporter} bean receives finished
+ * spans, so a remote exporter can be added next to (or instead of) these local ones.
+ */
+@Configuration
+@EnableConfigurationProperties(SpanExporterProperties.class)
+public class TracingConfig {
+
+    @Bean
+    public LatencySpanFilter latencySpanFilter() {
+        return new LatencySpanFilter();
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "tracing.exporter.type", havingValue = "memory")
+    static class InMemoryExporterConfig {
+
+        @Bean
+        public InMemorySpanReporter inMemorySpanReporter(SpanExporterProperties properties) {
+            return new InMemorySpanReporter(properties.getMemoryCapacity());
+        }
+
+        @Bean
+        public SpansEndpoint spansEndpoint(InMemorySpanReporter inMemorySpanReporter) {
+            return new SpansEndpoint(inMemorySpanReporter);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "tracing.exporter.type", havingValue = "file")
+    static class FileExporterConfig {
+
+        @Bean
+        public FileSpanReporter fileSpanReporter(SpanExporterProperties properties, ObjectMapper objectMapper)
+                throws IOException {
+            return new FileSpanReporter(Path.of(properties.getFile()), objectMapper);
+        }
+    }
+}
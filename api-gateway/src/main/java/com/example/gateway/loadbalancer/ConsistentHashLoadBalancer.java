@@ -0,0 +1,128 @@
+package com.example.gateway.loadbalancer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.*;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.RoundRobinLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Load balancer that pins entity reads ({@code /employees/{id}}, {@code /departments/{id}})
+ * to one instance using bounded-load consistent hashing, so per-instance caches see
+ * the same keys. Any other request falls back to round-robin.
+ */
+@Slf4j
+public class ConsistentHashLoadBalancer implements ReactorServiceInstanceLoadBalancer,
+        LoadBalancerLifecycle<RequestDataContext, ResponseData, ServiceInstance> {
+
+    private static final Pattern ENTITY_PATH =
+            Pattern.compile("^(?:/api/v\\d+)?/(employees|departments)/(\\d+)(?:/.*)?$");
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final int virtualNodes;
+    private final double loadFactor;
+    private final RoundRobinLoadBalancer fallback;
+
+    private final AtomicReference<ConsistentHashRing> ring = new AtomicReference<>();
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger totalInFlight = new AtomicInteger();
+
+    public ConsistentHashLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider,
+                                      String serviceId, int virtualNodes, double loadFactor) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.virtualNodes = virtualNodes;
+        this.loadFactor = loadFactor;
+        this.fallback = new RoundRobinLoadBalancer(supplierProvider, serviceId);
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        String key = hashKey(request);
+        if (key == null) {
+            return fallback.choose(request);
+        }
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(instances -> select(key, instances));
+    }
+
+    private Response<ServiceInstance> select(String key, List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            log.warn("No servers available for service: {}", serviceId);
+            return new EmptyResponse();
+        }
+        ConsistentHashRing current = ring.get();
+        if (current == null || !current.hasMembers(instances)) {
+            current = new ConsistentHashRing(instances, virtualNodes);
+            ring.set(current);
+        }
+        int capacity = (int) Math.ceil(loadFactor * (totalInFlight.get() + 1) / current.size());
+        ServiceInstance chosen = current.select(key, this::loadOf, capacity);
+        log.debug("Routed key {} of {} to instance {}", key, serviceId, ConsistentHashRing.idOf(chosen));
+        return new DefaultResponse(chosen);
+    }
+
+    private int loadOf(ServiceInstance instance) {
+        AtomicInteger load = inFlight.get(ConsistentHashRing.idOf(instance));
+        return load == null ? 0 : load.get();
+    }
+
+    /** Extracts "collection:id" from the request path, or null when the path is not an entity read. */
+    static String hashKey(Request<?> request) {
+        if (!(request.getContext() instanceof RequestDataContext context) || context.getClientRequest() == null) {
+            return null;
+        }
+        RequestData data = context.getClientRequest();
+        URI url = data.getUrl();
+        if (url == null || data.getHttpMethod() == null || !"GET".equals(data.getHttpMethod().name())) {
+            return null;
+        }
+        Matcher m = ENTITY_PATH.matcher(url.getPath());
+        return m.matches() ? m.group(1) + ":" + m.group(2) : null;
+    }
+
+    @Override
+    public boolean supports(Class requestContextClass, Class responseClass, Class serverTypeClass) {
+        return RequestDataContext.class.isAssignableFrom(requestContextClass)
+                && ServiceInstance.class.isAssignableFrom(serverTypeClass);
+    }
+
+    @Override
+    public void onStart(Request<RequestDataContext> request) {
+    }
+
+    @Override
+    public void onStartRequest(Request<RequestDataContext> request, Response<ServiceInstance> lbResponse) {
+        if (lbResponse.hasServer()) {
+            inFlight.computeIfAbsent(ConsistentHashRing.idOf(lbResponse.getServer()), id -> new AtomicInteger())
+                    .incrementAndGet();
+            totalInFlight.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onComplete(CompletionContext<ResponseData, ServiceInstance, RequestDataContext> completionContext) {
+        Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+        if (lbResponse == null || !lbResponse.hasServer()) {
+            return;
+        }
+        AtomicInteger load = inFlight.get(ConsistentHashRing.idOf(lbResponse.getServer()));
+        if (load != null && load.getAndUpdate(v -> Math.max(0, v - 1)) > 0) {
+            totalInFlight.updateAndGet(v -> Math.max(0, v - 1));
+        }
+    }
+}
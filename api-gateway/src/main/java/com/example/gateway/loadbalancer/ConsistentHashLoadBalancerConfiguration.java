@@ -0,0 +1,27 @@
+package com.example.gateway.loadbalancer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.loadbalancer.core.ReactorLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
+
+/**
+ * Per-client load balancer configuration. Not annotated with {@code @Configuration}
+ * on purpose: it is only instantiated inside each load balancer child context.
+ */
+public class ConsistentHashLoadBalancerConfiguration {
+
+    @Bean
+    public ReactorLoadBalancer<ServiceInstance> consistentHashLoadBalancer(
+            Environment environment,
+            ObjectProvider<ServiceInstanceListSupplier> suppliers,
+            @Value("${gateway.loadbalancer.consistent-hash.virtual-nodes:160}") int virtualNodes,
+            @Value("${gateway.loadbalancer.consistent-hash.load-factor:1.25}") double loadFactor) {
+        String serviceId = environment.getProperty(LoadBalancerClientFactory.PROPERTY_NAME);
+        return new ConsistentHashLoadBalancer(suppliers, serviceId, virtualNodes, loadFactor);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.gateway.loadbalancer;
+
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.ToIntFunction;
+
+/**
+ * Immutable hash ring of service instances with virtual nodes.
+ * Each instance owns {@code virtualNodes} points on the ring, so adding or
+ * removing one instance only moves the keys that hashed next to its points.
+ */
+public class ConsistentHashRing {
+
+    private final NavigableMap<Long, ServiceInstance> ring = new TreeMap<>();
+    private final Set<String> members = new HashSet<>();
+
+    public ConsistentHashRing(List<ServiceInstance> instances, int virtualNodes) {
+        for (ServiceInstance instance : instances) {
+            String id = idOf(instance);
+            members.add(id);
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(id + "#" + i), instance);
+            }
+        }
+    }
+
+    /** True when this ring was built from exactly the given instances. */
+    public boolean hasMembers(List<ServiceInstance> instances) {
+        if (instances.size() != members.size()) {
+            return false;
+        }
+        for (ServiceInstance instance : instances) {
+            if (!members.contains(idOf(instance))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public int size() {
+        return members.size();
+    }
+
+    /**
+     * Walks the ring clockwise from the key's position and returns the first
+     * instance whose current load is below {@code capacity}. Falls back to the
+     * key's owner when every instance is saturated.
+     */
+    public ServiceInstance select(String key, ToIntFunction<ServiceInstance> load, int capacity) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        long h = hash(key);
+        Set<String> visited = new HashSet<>();
+        ServiceInstance owner = null;
+        for (Collection<ServiceInstance> arc : List.of(ring.tailMap(h, true).values(), ring.headMap(h, false).values())) {
+            for (ServiceInstance candidate : arc) {
+                if (owner == null) {
+                    owner = candidate;
+                }
+                if (!visited.add(idOf(candidate))) {
+                    continue;
+                }
+                if (load.applyAsInt(candidate) < capacity) {
+                    return candidate;
+                }
+                if (visited.size() == members.size()) {
+                    return owner;
+                }
+            }
+        }
+        return owner;
+    }
+
+    static String idOf(ServiceInstance instance) {
+        return instance.getInstanceId() != null
+                ? instance.getInstanceId()
+                : instance.getHost() + ":" + instance.getPort();
+    }
+
+    /** FNV-1a 64-bit followed by the MurmurHash3 finalizer for better avalanche. */
+    static long hash(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
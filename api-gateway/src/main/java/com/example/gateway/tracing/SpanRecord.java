@@ -0,0 +1,27 @@
+package com.example.gateway.tracing;
+
+import io.micrometer.tracing.exporter.FinishedSpan;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Exporter-neutral view of a finished span, as written by the file exporter and returned
+ * by {@code /actuator/spans}.
+ */
+public record SpanRecord(String traceId, String parentId, String spanId, String name, String kind,
+                         String remoteServiceName, Instant start, long durationMicros,
+                         Map<String, String> tags, String error) {
+
+    public static SpanRecord from(FinishedSpan span) {
+        return new SpanRecord(span.getTraceId(), span.getParentId(), span.getSpanId(), span.getName(),
+                span.getKind() == null ? null : span.getKind().name(), span.getRemoteServiceName(),
+                span.getStartTimestamp(), durationMicros(span), Map.copyOf(span.getTags()),
+                span.getError() == null ? null : span.getError().toString());
+    }
+
+    static long durationMicros(FinishedSpan span) {
+        return Duration.between(span.getStartTimestamp(), span.getEndTimestamp()).toNanos() / 1_000;
+    }
+}
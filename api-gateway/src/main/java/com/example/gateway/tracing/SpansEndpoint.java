@@ -0,0 +1,23 @@
+package com.example.gateway.tracing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/spans[?traceId=...]}: spans retained by the in-memory exporter.
+ */
+@Endpoint(id = "spans")
+@RequiredArgsConstructor
+public class SpansEndpoint {
+
+    private final InMemorySpanReporter reporter;
+
+    @ReadOperation
+    public List<SpanRecord> spans(@Nullable String traceId) {
+        return reporter.spans(traceId);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.gateway.loadbalancer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    private static ServiceInstance instance(String id, int port) {
+        return new DefaultServiceInstance(id, "EMPLOYEE-SERVICE", "10.0.0.1", port, false);
+    }
+
+    private static final List<ServiceInstance> THREE = List.of(
+            instance("a", 8081), instance("b", 8082), instance("c", 8083));
+
+    @Test
+    @DisplayName("select(): same key always lands on the same instance when unloaded")
+    void same_key_same_instance() {
+        ConsistentHashRing ring = new ConsistentHashRing(THREE, 160);
+
+        ServiceInstance first = ring.select("employees:42", i -> 0, 1);
+        for (int i = 0; i < 10; i++) {
+            assertThat(ring.select("employees:42", x -> 0, 1)).isSameAs(first);
+        }
+    }
+
+    @Test
+    @DisplayName("select(): adding an instance only moves keys onto the new instance")
+    void join_moves_keys_minimally() {
+        ConsistentHashRing before = new ConsistentHashRing(THREE, 160);
+        List<ServiceInstance> four = new ArrayList<>(THREE);
+        four.add(instance("d", 8084));
+        ConsistentHashRing after = new ConsistentHashRing(four, 160);
+
+        int moved = 0;
+        for (int id = 0; id < 10_000; id++) {
+            String key = "employees:" + id;
+            String from = ConsistentHashRing.idOf(before.select(key, i -> 0, 1));
+            String to = ConsistentHashRing.idOf(after.select(key, i -> 0, 1));
+            if (!from.equals(to)) {
+                assertThat(to).isEqualTo("d");
+                moved++;
+            }
+        }
+        // Ideal is 1/4 of the keys; allow for virtual node variance
+        assertThat(moved).isBetween(1_500, 3_500);
+    }
+
+    @Test
+    @DisplayName("select(): saturated owner spills to the next instance on the ring")
+    void bounded_load_skips_saturated_instance() {
+        ConsistentHashRing ring = new ConsistentHashRing(THREE, 160);
+        ServiceInstance owner = ring.select("departments:7", i -> 0, 1);
+
+        ServiceInstance spilled = ring.select("departments:7",
+                i -> ConsistentHashRing.idOf(i).equals(ConsistentHashRing.idOf(owner)) ? 5 : 0, 2);
+
+        assertThat(ConsistentHashRing.idOf(spilled)).isNotEqualTo(ConsistentHashRing.idOf(owner));
+    }
+
+    @Test
+    @DisplayName("hasMembers(): detects instance list changes")
+    void has_members_tracks_instance_set() {
+        ConsistentHashRing ring = new ConsistentHashRing(THREE, 16);
+
+        assertThat(ring.hasMembers(List.of(THREE.get(2), THREE.get(0), THREE.get(1)))).isTrue();
+        assertThat(ring.hasMembers(THREE.subList(0, 2))).isFalse();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.configserver.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Watches the config repository directory tree and drops every cached
+ * snapshot when a file is created, modified or deleted.
+ */
+public class ConfigRepositoryWatcher implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ConfigRepositoryWatcher.class);
+
+    private final Path root;
+    private final ConfigSnapshotCache cache;
+    private volatile WatchService watchService;
+    private volatile Thread thread;
+
+    public ConfigRepositoryWatcher(Path root, ConfigSnapshotCache cache) {
+        this.root = root;
+        this.cache = cache;
+    }
+
+    @Override
+    public void start() {
+        if (!Files.isDirectory(root)) {
+            log.warn("Config repository {} is not a local directory; relying on the snapshot TTL only", root);
+            return;
+        }
+        try {
+            watchService = root.getFileSystem().newWatchService();
+            registerTree(root);
+        } catch (IOException e) {
+            log.warn("Cannot watch config repository {}; relying on the snapshot TTL only", root, e);
+            return;
+        }
+        thread = new Thread(this::watch, "config-repo-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Watching config repository {} for changes", root);
+    }
+
+    private void watch() {
+        while (watchService != null) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+            Path dir = (Path) key.watchable();
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE) {
+                    Path created = dir.resolve((Path) event.context());
+                    if (Files.isDirectory(created)) {
+                        try {
+                            registerTree(created);
+                        } catch (IOException e) {
+                            log.warn("Cannot watch new config directory {}", created, e);
+                        }
+                    }
+                }
+            }
+            key.reset();
+            cache.invalidateAll();
+            log.debug("Config repository changed under {}; dropped cached snapshots", dir);
+        }
+    }
+
+    private void registerTree(Path start) throws IOException {
+        List<Path> dirs;
+        try (Stream<Path> walk = Files.walk(start)) {
+            dirs = walk.filter(Files::isDirectory).toList();
+        }
+        for (Path dir : dirs) {
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+    }
+
+    @Override
+    public void stop() {
+        WatchService ws = watchService;
+        watchService = null;
+        if (ws != null) {
+            try {
+                ws.close();
+            } catch (IOException ignored) { }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return watchService != null;
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.configserver.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory snapshots of resolved config responses, keyed by request and
+ * validated by a content hash. The whole cache is dropped when the backing
+ * repository changes; the generation counter keeps a response resolved before
+ * a change from being stored after it.
+ */
+public class ConfigSnapshotCache {
+
+    private final Map<String, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final Duration ttl;
+
+    public ConfigSnapshotCache(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    public Snapshot get(String key) {
+        Snapshot snapshot = snapshots.get(key);
+        if (snapshot != null && isExpired(snapshot)) {
+            snapshots.remove(key, snapshot);
+            return null;
+        }
+        return snapshot;
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /** Stores the snapshot only if no invalidation happened since {@code expectedGeneration}. */
+    public void put(String key, Snapshot snapshot, long expectedGeneration) {
+        if (generation.get() == expectedGeneration) {
+            snapshots.put(key, snapshot);
+        }
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        snapshots.clear();
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    private boolean isExpired(Snapshot snapshot) {
+        return !ttl.isZero() && System.currentTimeMillis() - snapshot.createdAt() > ttl.toMillis();
+    }
+
+    public record Snapshot(byte[] body, String contentType, String etag, long createdAt) {
+    }
+}
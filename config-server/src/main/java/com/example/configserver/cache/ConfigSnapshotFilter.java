@@ -0,0 +1,110 @@
+package com.example.configserver.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+
+/**
+ * Serves config responses from {@link ConfigSnapshotCache} and answers
+ * {@code If-None-Match} with 304 when the client already holds the current version.
+ */
+public class ConfigSnapshotFilter extends OncePerRequestFilter {
+
+    private final ConfigSnapshotCache cache;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter notModified;
+
+    public ConfigSnapshotFilter(ConfigSnapshotCache cache, MeterRegistry meterRegistry) {
+        this.cache = cache;
+        this.hits = counter(meterRegistry, "hit");
+        this.misses = counter(meterRegistry, "miss");
+        this.notModified = counter(meterRegistry, "not_modified");
+    }
+
+    private static Counter counter(MeterRegistry registry, String result) {
+        return Counter.builder("config.snapshot.requests")
+                .description("Config requests by snapshot cache outcome")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !HttpMethod.GET.matches(request.getMethod())
+                || path.startsWith("/actuator")
+                || path.startsWith("/encrypt")
+                || path.startsWith("/decrypt");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = keyOf(request);
+        ConfigSnapshotCache.Snapshot snapshot = cache.get(key);
+        if (snapshot != null) {
+            hits.increment();
+            write(request, response, snapshot);
+            return;
+        }
+
+        misses.increment();
+        long generation = cache.generation();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+        if (wrapper.getStatus() == HttpServletResponse.SC_OK) {
+            byte[] body = wrapper.getContentAsByteArray();
+            snapshot = new ConfigSnapshotCache.Snapshot(body, wrapper.getContentType(),
+                    "\"" + DigestUtils.md5DigestAsHex(body) + "\"", System.currentTimeMillis());
+            cache.put(key, snapshot, generation);
+            if (notModified(request, wrapper, snapshot)) {
+                wrapper.resetBuffer();
+            }
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response,
+                       ConfigSnapshotCache.Snapshot snapshot) throws IOException {
+        if (notModified(request, response, snapshot)) {
+            return;
+        }
+        if (snapshot.contentType() != null) {
+            response.setContentType(snapshot.contentType());
+        }
+        response.setContentLength(snapshot.body().length);
+        response.getOutputStream().write(snapshot.body());
+    }
+
+    /** Sets the validator headers and switches to 304 when the client's copy is current. */
+    private boolean notModified(HttpServletRequest request, HttpServletResponse response,
+                                ConfigSnapshotCache.Snapshot snapshot) {
+        response.setHeader(HttpHeaders.ETAG, snapshot.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(snapshot.etag()) || ifNoneMatch.trim().equals("*"))) {
+            notModified.increment();
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return true;
+        }
+        return false;
+    }
+
+    /** Same path and query can render differently per Accept header (JSON vs. YAML/properties). */
+    private static String keyOf(HttpServletRequest request) {
+        String query = request.getQueryString();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return request.getRequestURI() + (query == null ? "" : "?" + query) + "|" + (accept == null ? "" : accept);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.configserver.config;
+
+import com.example.configserver.cache.ConfigRepositoryWatcher;
+import com.example.configserver.cache.ConfigSnapshotCache;
+import com.example.configserver.cache.ConfigSnapshotFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for versioned, cached config serving
+ */
+@Configuration
+@ConditionalOnProperty(name = "config.cache.enabled", matchIfMissing = true)
+public class ConfigCacheConfig {
+
+    @Bean
+    public ConfigSnapshotCache configSnapshotCache(@Value("${config.cache.ttl:300s}") Duration ttl) {
+        return new ConfigSnapshotCache(ttl);
+    }
+
+    @Bean
+    public ConfigRepositoryWatcher configRepositoryWatcher(
+            @Value("${config.cache.watch-path:${user.dir}/config-repo}") String watchPath,
+            ConfigSnapshotCache cache) {
+        return new ConfigRepositoryWatcher(Path.of(watchPath), cache);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConfigSnapshotFilter> configSnapshotFilter(ConfigSnapshotCache cache,
+                                                                            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<ConfigSnapshotFilter> registration =
+                new FilterRegistrationBean<>(new ConfigSnapshotFilter(cache, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.configserver.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConfigSnapshotFilterTest {
+
+    private final ConfigSnapshotCache cache = new ConfigSnapshotCache(Duration.ZERO);
+    private final ConfigSnapshotFilter filter = new ConfigSnapshotFilter(cache, new SimpleMeterRegistry());
+    private final AtomicInteger resolutions = new AtomicInteger();
+
+    private final FilterChain repository = (req, res) -> {
+        resolutions.incrementAndGet();
+        res.setContentType("application/json");
+        res.getOutputStream().write("{\"name\":\"employee-service\"}".getBytes(StandardCharsets.UTF_8));
+    };
+
+    private MockHttpServletResponse get(String ifNoneMatch) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employee-service/default");
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, repository);
+        return response;
+    }
+
+    @Test
+    void second_request_is_served_from_snapshot_with_same_etag() throws Exception {
+        MockHttpServletResponse first = get(null);
+        MockHttpServletResponse second = get(null);
+
+        assertThat(resolutions).hasValue(1);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString());
+        assertThat(second.getHeader(HttpHeaders.ETAG)).isNotBlank().isEqualTo(first.getHeader(HttpHeaders.ETAG));
+    }
+
+    @Test
+    void matching_if_none_match_returns_304_without_body() throws Exception {
+        String etag = get(null).getHeader(HttpHeaders.ETAG);
+
+        MockHttpServletResponse response = get(etag);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(resolutions).hasValue(1);
+    }
+
+    @Test
+    void invalidation_resolves_again() throws Exception {
+        get(null);
+        cache.invalidateAll();
+        get(null);
+
+        assertThat(resolutions).hasValue(2);
+    }
+
+    @Test
+    void actuator_requests_are_not_cached() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        filter.doFilter(request, new MockHttpServletResponse(), repository);
+        filter.doFilter(request, new MockHttpServletResponse(), repository);
+
+        assertThat(resolutions).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.department.cache;
+
+/**
+ * Names of the two-tier caches used by the department service.
+ */
+public final class CacheNames {
+
+    /** Department DTOs keyed by department code. */
+    public static final String DEPARTMENTS_BY_CODE = "departments-by-code";
+
+    /** Listing totals, keyed by filter signature; cleared on every department write. */
+    public static final String DEPARTMENT_COUNTS = "department-counts";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.department.cache;
+
+import java.time.Duration;
+
+/**
+ * Resolved settings of one named two-tier cache.
+ *
+ * @param ttl                  how long an entry is fresh
+ * @param maxEntries           local (L1) bound in entries
+ * @param singleFlight         concurrent misses for one key share a single load
+ * @param earlyRefreshBeta     probabilistic early refresh aggressiveness (0 disables; 1 is the usual choice)
+ * @param staleWhileRevalidate how long past expiry an entry may still be served while it is reloaded
+ */
+public record CachePolicy(Duration ttl, long maxEntries, boolean singleFlight, double earlyRefreshBeta,
+                          Duration staleWhileRevalidate) {
+}
@@ -0,0 +1,49 @@
+package com.example.department.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process-local stand-in for the shared L2, used in tests and when Redis is
+ * not available. Several cache managers can share one instance to act as
+ * separate service instances.
+ */
+public class InMemoryL2Cache implements L2Cache {
+
+    private record Entry(Object value, long expiresAt) { }
+
+    private final Map<String, Map<String, Entry>> caches = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> T get(String cacheName, String key, Class<T> type) {
+        Entry entry = cache(cacheName).get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            cache(cacheName).remove(key, entry);
+            return null;
+        }
+        return type.cast(entry.value());
+    }
+
+    @Override
+    public void put(String cacheName, String key, Object value, Duration ttl) {
+        cache(cacheName).put(key, new Entry(value, System.currentTimeMillis() + ttl.toMillis()));
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        cache(cacheName).remove(key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        cache(cacheName).clear();
+    }
+
+    private Map<String, Entry> cache(String cacheName) {
+        return caches.computeIfAbsent(cacheName, name -> new ConcurrentHashMap<>());
+    }
+}
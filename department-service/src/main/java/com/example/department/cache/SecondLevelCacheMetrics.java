@@ -0,0 +1,75 @@
+package com.example.department.cache;
+
+import com.example.department.config.SecondLevelCacheConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Exposes hit, miss and put counts plus the hit ratio of the department
+ * second-level cache regions, read from Hibernate statistics.
+ */
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final ObjectProvider<EntityManagerFactory> entityManagerFactory;
+
+    public SecondLevelCacheMetrics(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry meterRegistry) {
+        EntityManagerFactory factory = entityManagerFactory.getIfAvailable();
+        if (factory == null) {
+            return;
+        }
+        Statistics statistics = factory.unwrap(SessionFactory.class).getStatistics();
+        register(meterRegistry, SecondLevelCacheConfig.DEPARTMENT_REGION, statistics::getDomainDataRegionStatistics);
+        register(meterRegistry, SecondLevelCacheConfig.DEPARTMENT_QUERY_REGION, statistics::getQueryRegionStatistics);
+    }
+
+    private void register(MeterRegistry registry, String region, Function<String, CacheRegionStatistics> lookup) {
+        counter(registry, region, "hit", lookup, CacheRegionStatistics::getHitCount);
+        counter(registry, region, "miss", lookup, CacheRegionStatistics::getMissCount);
+        FunctionCounter.builder("department.cache.puts", lookup,
+                        l -> count(l.apply(region), CacheRegionStatistics::getPutCount))
+                .description("Entries put into the second-level cache region")
+                .tag("region", region)
+                .register(registry);
+        Gauge.builder("department.cache.hit.ratio", lookup, l -> hitRatio(l.apply(region)))
+                .description("Share of second-level cache lookups served from the cache")
+                .tag("region", region)
+                .register(registry);
+    }
+
+    private static void counter(MeterRegistry registry, String region, String result,
+                                Function<String, CacheRegionStatistics> lookup,
+                                ToDoubleFunction<CacheRegionStatistics> value) {
+        FunctionCounter.builder("department.cache.gets", lookup, l -> count(l.apply(region), value))
+                .description("Second-level cache lookups by result")
+                .tag("region", region)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static double count(CacheRegionStatistics stats, ToDoubleFunction<CacheRegionStatistics> value) {
+        return stats == null ? 0 : value.applyAsDouble(stats);
+    }
+
+    static double hitRatio(CacheRegionStatistics stats) {
+        if (stats == null) {
+            return Double.NaN;
+        }
+        long lookups = stats.getHitCount() + stats.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) stats.getHitCount() / lookups;
+    }
+}
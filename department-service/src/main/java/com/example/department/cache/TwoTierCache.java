@@ -0,0 +1,285 @@
+package com.example.department.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Bounded per-instance L1 in front of the shared {@link L2Cache}. Reads fall
+ * through L1 to L2 to the loader; L2 hits warm L1. Values are shared between
+ * callers and must not be mutated.
+ * <p>
+ * So that expiry of a hot key never sends every caller to the backend at once,
+ * loads can be single-flighted per key, entries can be refreshed in the
+ * background shortly before they expire (probabilistic early refresh), and
+ * expired entries can be served while they are reloaded (stale-while-revalidate).
+ */
+@Slf4j
+public class TwoTierCache {
+
+    private record Entry(Object value, long expiresAt, long loadMillis) { }
+
+    private final String name;
+    private final boolean enabled;
+    private final CachePolicy policy;
+    private final Cache<String, Entry> local;
+    private final L2Cache shared;
+    private final Executor refreshExecutor;
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter l1Hits;
+    private final Counter l2Hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter loads;
+    private final Counter coalescedLoads;
+    private final Counter earlyRefreshes;
+    private final Counter staleRefreshes;
+
+    public TwoTierCache(String name, boolean enabled, CachePolicy policy, L2Cache shared,
+                        Executor refreshExecutor, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.enabled = enabled;
+        this.policy = policy;
+        // Entries outlive their TTL by the stale window so they can still be served while reloading
+        this.local = Caffeine.newBuilder()
+                .maximumSize(policy.maxEntries())
+                .expireAfterWrite(policy.ttl().plus(policy.staleWhileRevalidate()))
+                .build();
+        this.shared = shared;
+        this.refreshExecutor = refreshExecutor;
+        this.l1Hits = getCounter(meterRegistry, "l1_hit");
+        this.l2Hits = getCounter(meterRegistry, "l2_hit");
+        this.staleHits = getCounter(meterRegistry, "stale_hit");
+        this.misses = getCounter(meterRegistry, "miss");
+        this.evictions = Counter.builder("cache.tiered.evictions")
+                .description("Explicit evictions from the two-tier cache")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.loads = loadCounter(meterRegistry, "executed");
+        this.coalescedLoads = loadCounter(meterRegistry, "coalesced");
+        this.earlyRefreshes = refreshCounter(meterRegistry, "early");
+        this.staleRefreshes = refreshCounter(meterRegistry, "stale");
+        Gauge.builder("cache.tiered.l1.size", local, Cache::estimatedSize)
+                .description("Entries held in the local tier")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    private Counter getCounter(MeterRegistry registry, String result) {
+        return Counter.builder("cache.tiered.gets")
+                .description("Two-tier cache lookups by the tier that answered")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private Counter loadCounter(MeterRegistry registry, String result) {
+        return Counter.builder("cache.tiered.loads")
+                .description("Loader calls made, and misses that joined a load already in flight")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private Counter refreshCounter(MeterRegistry registry, String trigger) {
+        return Counter.builder("cache.tiered.refreshes")
+                .description("Background reloads by what triggered them")
+                .tag("cache", name)
+                .tag("trigger", trigger)
+                .register(registry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** Returns the cached value or loads, caches and returns it. Null results are not cached. */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type, Supplier<T> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        String k = String.valueOf(key);
+        long now = System.currentTimeMillis();
+        Entry entry = local.getIfPresent(k);
+        if (entry != null) {
+            if (now < entry.expiresAt()) {
+                l1Hits.increment();
+                if (shouldRefreshEarly(entry, now)) {
+                    earlyRefreshes.increment();
+                    refreshAsync(k, loader);
+                }
+                return type.cast(entry.value());
+            }
+            if (now < entry.expiresAt() + policy.staleWhileRevalidate().toMillis()) {
+                staleHits.increment();
+                staleRefreshes.increment();
+                refreshAsync(k, loader);
+                return type.cast(entry.value());
+            }
+        }
+        T value = shared.get(name, k, type);
+        if (value != null) {
+            l2Hits.increment();
+            local.put(k, new Entry(value, now + policy.ttl().toMillis(), 0));
+            return value;
+        }
+        misses.increment();
+        return (T) load(k, loader);
+    }
+
+    public <T> T getIfPresent(Object key, Class<T> type) {
+        if (!enabled) {
+            return null;
+        }
+        String k = String.valueOf(key);
+        Entry entry = local.getIfPresent(k);
+        if (entry != null && System.currentTimeMillis() < entry.expiresAt()) {
+            l1Hits.increment();
+            return type.cast(entry.value());
+        }
+        T value = shared.get(name, k, type);
+        if (value != null) {
+            l2Hits.increment();
+            local.put(k, new Entry(value, System.currentTimeMillis() + policy.ttl().toMillis(), 0));
+            return value;
+        }
+        misses.increment();
+        return null;
+    }
+
+    public void put(Object key, Object value) {
+        if (!enabled || value == null) {
+            return;
+        }
+        store(String.valueOf(key), value, 0);
+    }
+
+    private void store(String key, Object value, long loadMillis) {
+        local.put(key, new Entry(value, System.currentTimeMillis() + policy.ttl().toMillis(), loadMillis));
+        shared.put(name, key, value, policy.ttl());
+    }
+
+    /**
+     * XFetch: refresh with a probability that grows as expiry approaches, scaled
+     * by how long the value took to load, so exactly one caller usually refreshes first.
+     */
+    private boolean shouldRefreshEarly(Entry entry, long now) {
+        if (policy.earlyRefreshBeta() <= 0 || entry.loadMillis() <= 0) {
+            return false;
+        }
+        double gap = -entry.loadMillis() * policy.earlyRefreshBeta()
+                * Math.log(ThreadLocalRandom.current().nextDouble(Double.MIN_VALUE, 1.0));
+        return now + gap >= entry.expiresAt();
+    }
+
+    private Object load(String key, Supplier<?> loader) {
+        if (!policy.singleFlight()) {
+            return loadAndStore(key, loader);
+        }
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            coalescedLoads.increment();
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException re ? re : e;
+            }
+        }
+        try {
+            Object value = loadAndStore(key, loader);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private Object loadAndStore(String key, Supplier<?> loader) {
+        loads.increment();
+        long start = System.currentTimeMillis();
+        Object value = loader.get();
+        if (value != null) {
+            store(key, value, Math.max(1, System.currentTimeMillis() - start));
+        }
+        return value;
+    }
+
+    private void refreshAsync(String key, Supplier<?> loader) {
+        if (inFlight.containsKey(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, loader);
+                } catch (RuntimeException e) {
+                    log.warn("Background refresh of {}::{} failed, keeping the cached value: {}",
+                            name, key, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Refresh queue full, skipping background refresh of {}::{}", name, key);
+        }
+    }
+
+    /** Evicts from both tiers, after commit when called inside a transaction. */
+    public void evict(Object key) {
+        afterCommit(() -> {
+            String k = String.valueOf(key);
+            local.invalidate(k);
+            shared.evict(name, k);
+            evictions.increment();
+        });
+    }
+
+    /** Drops the entry from this instance only, e.g. on another instance's write event. */
+    public void evictLocal(Object key) {
+        local.invalidate(String.valueOf(key));
+    }
+
+    /** Clears both tiers, after commit when called inside a transaction. */
+    public void clear() {
+        afterCommit(() -> {
+            local.invalidateAll();
+            shared.clear(name);
+            evictions.increment();
+        });
+    }
+
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
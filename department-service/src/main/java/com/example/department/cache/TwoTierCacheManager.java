@@ -0,0 +1,51 @@
+package com.example.department.cache;
+
+import com.example.department.config.DepartmentCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates and holds the named two-tier caches, configured from {@link DepartmentCacheProperties},
+ * and the small pool that runs their background refreshes.
+ */
+public class TwoTierCacheManager {
+
+    private final DepartmentCacheProperties properties;
+    private final L2Cache shared;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public TwoTierCacheManager(DepartmentCacheProperties properties, L2Cache shared, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.shared = shared;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threads = new AtomicInteger();
+        // Refreshes are best effort: when the queue is full the cached value is simply served a while longer
+        this.refreshExecutor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(256), r -> {
+                    Thread t = new Thread(r, "cache-refresh-" + threads.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public TwoTierCache getCache(String name) {
+        return caches.computeIfAbsent(name, this::create);
+    }
+
+    private TwoTierCache create(String name) {
+        return new TwoTierCache(name, properties.isEnabled(), properties.policyFor(name), shared,
+                refreshExecutor, meterRegistry);
+    }
+
+    public void close() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.department.client;
 
+import com.example.department.dto.EmployeeBatchGetRequest;
+import com.example.department.dto.EmployeeBatchGetResponse;
 import com.example.department.resilience.EmployeeServiceFallback;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
@@ -15,4 +19,9 @@ public interface EmployeeClient {
     
     @GetMapping("/api/v1/employees")
     List<Object> getEmployeesByDepartment(@RequestParam Long departmentId);
+
+    /** Employees for up to {@code employee.service.bulk.batch-get-max-ids} ids in one call. */
+    @PostMapping(value = "/api/employees/batch-get", headers = "API-Version=v2")
+    EmployeeBatchGetResponse getEmployees(@RequestBody EmployeeBatchGetRequest request,
+                                          @RequestParam("enrichWithDepartment") boolean enrichWithDepartment);
 }
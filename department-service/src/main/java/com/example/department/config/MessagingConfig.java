@@ -0,0 +1,44 @@
+package com.example.department.config;
+
+import com.example.department.messaging.AvroEventCodec;
+import com.example.department.messaging.AvroEventMessageConverter;
+import com.example.department.messaging.BatchEventProcessor;
+import com.example.department.messaging.EventCoalescer;
+import com.example.department.messaging.EventSchemaRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.converter.MessageConverter;
+
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+@EnableConfigurationProperties(MessagingProperties.class)
+public class MessagingConfig {
+
+    @Bean
+    public BatchEventProcessor batchEventProcessor(MessagingProperties properties, MeterRegistry meterRegistry) {
+        return new BatchEventProcessor(properties.getConsumer().getConcurrency(), meterRegistry, Clock.systemDefaultZone());
+    }
+
+    @Bean
+    public EventSchemaRegistry eventSchemaRegistry() {
+        return EventSchemaRegistry.fromClasspath();
+    }
+
+    /** Picked up by Spring Cloud Stream ahead of its JSON converter. */
+    @Bean
+    public MessageConverter avroEventMessageConverter(EventSchemaRegistry eventSchemaRegistry) {
+        return new AvroEventMessageConverter(new AvroEventCodec(eventSchemaRegistry));
+    }
+
+    /** Coalesces department updated events; a pass-through unless coalescing is enabled. */
+    @Bean
+    public EventCoalescer departmentUpdatedCoalescer(MessagingProperties properties, MeterRegistry meterRegistry) {
+        MessagingProperties.Coalescing coalescing = properties.getCoalescing();
+        return new EventCoalescer("departmentUpdated-out-0",
+                coalescing.isEnabled() ? coalescing.getWindow() : Duration.ZERO, meterRegistry);
+    }
+}
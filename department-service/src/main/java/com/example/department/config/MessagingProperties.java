@@ -0,0 +1,54 @@
+package com.example.department.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Event encoding and batch consumer settings under {@code department.service.messaging}; the
+ * binder reads the same keys from {@code application-messaging.yml}.
+ */
+@Data
+@ConfigurationProperties(prefix = "department.service.messaging")
+public class MessagingProperties {
+
+    /**
+     * Content type of published created/updated/deleted events: {@code application/*+avro}
+     * or {@code application/json}. Consumers read both.
+     */
+    private String contentType = "application/*+avro";
+
+    /**
+     * Partitions of published created/updated/deleted events. employee-service instances each
+     * bind every partition, so this only needs to change if a partitioned consumer group is
+     * added, and then must equal that group's instance count.
+     */
+    private int partitionCount = 1;
+
+    private Consumer consumer = new Consumer();
+
+    private Coalescing coalescing = new Coalescing();
+
+    @Data
+    public static class Consumer {
+        /** Unacknowledged messages the broker pushes ahead of the listener. */
+        private int prefetch = 250;
+        /** Messages per batch handed to a consumer function. */
+        private int batchSize = 100;
+        /** How long a partial batch waits for more messages (milliseconds in the binder). */
+        private Duration batchTimeout = Duration.ofMillis(100);
+        /** Lanes a batch is spread over; events of one aggregate always share a lane. */
+        private int concurrency = 4;
+        /** Times a failed batch is handled before its messages go to the dead-letter queue. */
+        private int maxAttempts = 3;
+    }
+
+    @Data
+    public static class Coalescing {
+        /** Collapse bursts of department updated events to the latest state per department. */
+        private boolean enabled = false;
+        /** How long an update waits for a newer one of the same department. */
+        private Duration window = Duration.ofMillis(200);
+    }
+}
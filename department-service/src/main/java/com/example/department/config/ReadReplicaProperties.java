@@ -0,0 +1,28 @@
+package com.example.department.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica settings under {@code department.service.datasource.read-replicas}
+ */
+@Data
+@ConfigurationProperties(prefix = "department.service.datasource.read-replicas")
+public class ReadReplicaProperties {
+    private boolean enabled = false;
+    /** Replicas lagging further behind the primary than this stop receiving reads. */
+    private Duration maxReplicationLag = Duration.ofSeconds(5);
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+    private List<Replica> replicas = new ArrayList<>();
+
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
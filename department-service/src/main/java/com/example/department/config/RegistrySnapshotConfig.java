@@ -0,0 +1,44 @@
+package com.example.department.config;
+
+import com.example.department.discovery.RegistrySnapshotStore;
+import com.example.department.discovery.RegistrySnapshotWriter;
+import com.example.department.discovery.SnapshotDiscoveryClient;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.netflix.discovery.EurekaClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration for the persistent registry snapshot used as a discovery fallback
+ */
+@Configuration
+@ConditionalOnProperty(name = {"discovery.snapshot.enabled", "eureka.client.enabled"}, matchIfMissing = true)
+public class RegistrySnapshotConfig {
+
+    @Bean
+    public RegistrySnapshotStore registrySnapshotStore(
+            @Value("${discovery.snapshot.path:${user.dir}/data/${spring.application.name}-registry.json}") String path) {
+        ObjectMapper mapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        return new RegistrySnapshotStore(Path.of(path), mapper);
+    }
+
+    @Bean
+    public SnapshotDiscoveryClient snapshotDiscoveryClient(RegistrySnapshotStore store) {
+        return new SnapshotDiscoveryClient(store);
+    }
+
+    @Bean
+    public RegistrySnapshotWriter registrySnapshotWriter(ObjectProvider<EurekaClient> eurekaClient,
+                                                         RegistrySnapshotStore store) {
+        return new RegistrySnapshotWriter(eurekaClient, store);
+    }
+}
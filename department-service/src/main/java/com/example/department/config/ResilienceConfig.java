@@ -1,41 +1,39 @@
 package com.example.department.config;
 
-import io.github.resilience4j.circuitbreaker.CircuitBreaker;
-import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
-import io.github.resilience4j.retry.Retry;
-import io.github.resilience4j.retry.RetryConfig;
+import com.example.department.resilience.CircuitBreakerExecutor;
+import com.example.department.resilience.FeignBulkheadCapability;
+import feign.Capability;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.openfeign.CircuitBreakerNameResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-import java.time.Duration;
-
 /**
- * Configuration for resilience patterns
+ * Isolation of Feign calls. With {@code spring.cloud.openfeign.circuitbreaker.enabled} every
+ * method runs under a circuit breaker and time limiter on the circuit breaker's own threads,
+ * and falls back to the client's fallback bean; the semaphore bulkhead is applied inside, on
+ * the HTTP call itself. All three come from the {@code resilience4j.*} instance named after
+ * the client, so they are configured in {@code application-resilience.yml} and reported by
+ * the {@code resilience4j.*} meters.
  */
 @Configuration
 public class ResilienceConfig {
 
+    /** One circuit breaker per client rather than per method, so a sick sibling trips once. */
     @Bean
-    public CircuitBreaker employeeServiceCircuitBreaker() {
-        CircuitBreakerConfig config = CircuitBreakerConfig.custom()
-                .slidingWindowSize(10)
-                .minimumNumberOfCalls(5)
-                .permittedNumberOfCallsInHalfOpenState(3)
-                .automaticTransitionFromOpenToHalfOpenEnabled(true)
-                .waitDurationInOpenState(Duration.ofSeconds(5))
-                .failureRateThreshold(50)
-                .build();
-
-        return CircuitBreaker.of("employee-service", config);
+    public CircuitBreakerNameResolver circuitBreakerNameResolver() {
+        return (feignClientName, target, method) -> FeignBulkheadCapability.instanceName(feignClientName);
     }
 
     @Bean
-    public Retry employeeServiceRetry() {
-        RetryConfig config = RetryConfig.custom()
-                .maxAttempts(3)
-                .waitDuration(Duration.ofSeconds(1))
-                .build();
+    public CircuitBreakerExecutor circuitBreakerExecutor(
+            @Value("${department.service.resilience.max-threads:40}") int maxThreads) {
+        return new CircuitBreakerExecutor(maxThreads);
+    }
 
-        return Retry.of("employee-service", config);
+    @Bean
+    public Capability feignBulkheadCapability(BulkheadRegistry bulkheadRegistry) {
+        return new FeignBulkheadCapability(bulkheadRegistry);
     }
 }
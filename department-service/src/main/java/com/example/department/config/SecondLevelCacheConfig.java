@@ -0,0 +1,86 @@
+package com.example.department.config;
+
+import com.example.department.cache.SecondLevelCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level and query cache for departments, backed by a local,
+ * heap-bounded Ehcache JCache manager. Turned off with {@code department.service.cache.enabled=false}.
+ */
+@Configuration
+@EnableConfigurationProperties(DepartmentCacheProperties.class)
+public class SecondLevelCacheConfig {
+
+    public static final String DEPARTMENT_REGION = "department";
+    public static final String DEPARTMENT_QUERY_REGION = "department-queries";
+    private static final String DEFAULT_QUERY_REGION = "default-query-results-region";
+    private static final String TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "department.service.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheManager hibernateCacheManager(DepartmentCacheProperties properties) {
+        EhcacheCachingProvider provider = (EhcacheCachingProvider) Caching.getCachingProvider(
+                EhcacheCachingProvider.class.getName());
+        // Unique URI so every application context gets its own manager
+        CacheManager cacheManager = provider.getCacheManager(URI.create("urn:department-l2:" + UUID.randomUUID()),
+                new DefaultConfiguration(getClass().getClassLoader()));
+        cacheManager.createCache(DEPARTMENT_REGION, region(properties.getTtl(), properties.getMaxEntries()));
+        cacheManager.createCache(DEPARTMENT_QUERY_REGION, region(properties.getTtl(), properties.getMaxEntries()));
+        cacheManager.createCache(DEFAULT_QUERY_REGION, region(properties.getTtl(), properties.getMaxEntries()));
+        // Update timestamps must outlive every query result they guard
+        cacheManager.createCache(TIMESTAMPS_REGION, region(null, properties.getMaxEntries()));
+        return cacheManager;
+    }
+
+    private static javax.cache.configuration.Configuration<Object, Object> region(Duration ttl, long maxEntries) {
+        return Eh107Configuration.fromEhcacheCacheConfiguration(
+                CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                                ResourcePoolsBuilder.heap(maxEntries))
+                        .withExpiry(ttl == null
+                                ? ExpiryPolicyBuilder.noExpiration()
+                                : ExpiryPolicyBuilder.timeToLiveExpiration(ttl)));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(ObjectProvider<CacheManager> hibernateCacheManager) {
+        return hibernateProperties -> {
+            CacheManager cacheManager = hibernateCacheManager.getIfAvailable();
+            if (cacheManager == null) {
+                hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+                hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, false);
+                return;
+            }
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "department.service.cache.enabled", havingValue = "true", matchIfMissing = true)
+    public SecondLevelCacheMetrics secondLevelCacheMetrics(ObjectProvider<EntityManagerFactory> entityManagerFactory) {
+        return new SecondLevelCacheMetrics(entityManagerFactory);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.department.config;
+
+import com.example.department.cache.InMemoryL2Cache;
+import com.example.department.cache.L2Cache;
+import com.example.department.cache.RedisL2Cache;
+import com.example.department.cache.TwoTierCacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Configuration for the two-tier (local L1 + shared L2) caches. The L2 is
+ * selected by {@code department.service.cache.l2.type}; the redis profile switches it to Redis.
+ */
+@Configuration
+@EnableConfigurationProperties(DepartmentCacheProperties.class)
+public class TwoTierCacheConfig {
+
+    @Bean
+    public L2Cache l2Cache(DepartmentCacheProperties properties, ObjectProvider<StringRedisTemplate> redisTemplate,
+                           ObjectMapper objectMapper) {
+        return switch (properties.getL2().getType()) {
+            case "redis" -> new RedisL2Cache(redisTemplate.getObject(), objectMapper, properties.getL2().getKeyPrefix());
+            case "in-memory" -> new InMemoryL2Cache();
+            default -> L2Cache.NONE;
+        };
+    }
+
+    @Bean
+    public TwoTierCacheManager twoTierCacheManager(DepartmentCacheProperties properties, L2Cache l2Cache,
+                                                   MeterRegistry meterRegistry) {
+        return new TwoTierCacheManager(properties, l2Cache, meterRegistry);
+    }
+}
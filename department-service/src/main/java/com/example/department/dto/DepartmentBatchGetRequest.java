@@ -0,0 +1,23 @@
+package com.example.department.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Ids to fetch in one call; duplicates are answered once.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DepartmentBatchGetRequest {
+    @NotEmpty(message = "ids are required")
+    @Size(max = 500, message = "cannot fetch more than 500 ids at once")
+    private List<Long> ids;
+}
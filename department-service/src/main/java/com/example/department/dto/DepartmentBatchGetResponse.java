@@ -0,0 +1,20 @@
+package com.example.department.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Departments found, in request order, and the requested ids that do not exist.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DepartmentBatchGetResponse {
+    private List<DepartmentDTO> found;
+    private List<Long> missingIds;
+}
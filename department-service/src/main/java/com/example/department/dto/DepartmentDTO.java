@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @AllArgsConstructor
@@ -14,4 +16,6 @@ public class DepartmentDTO {
     private String name;
     private String code;
     private String description;
+    private Long version; // response only
+    private LocalDateTime updatedAt; // response only, Last-Modified of the record
 }
@@ -18,4 +18,6 @@ public class DepartmentSearchRequest {
     private int size = 20;
     @Builder.Default
     private String sort = "name,asc";
+    /** Null means the configured default. */
+    private CountStrategy countStrategy;
 }
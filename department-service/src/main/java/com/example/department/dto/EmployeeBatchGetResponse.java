@@ -0,0 +1,21 @@
+package com.example.department.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Employees found by employee-service's batch-get endpoint, in request order, and the
+ * requested ids that do not exist.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeBatchGetResponse {
+    private List<DepartmentEmployeesResponse.EmployeeSummaryDTO> found;
+    private List<Long> missingIds;
+}
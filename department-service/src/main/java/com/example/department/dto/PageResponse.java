@@ -22,6 +22,7 @@ public class PageResponse<T> {
     private boolean last;
     private boolean hasNext;
     private boolean hasPrevious;
+    private CountStrategy countStrategy;
 
     @Data
     @Builder
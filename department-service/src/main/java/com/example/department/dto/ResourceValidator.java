@@ -0,0 +1,28 @@
+package com.example.department.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * HTTP validators for conditional GET. A single department gets a strong ETag from
+ * id + version; a page gets a weak ETag over its total and the ETags of its rows.
+ */
+public record ResourceValidator(String etag, LocalDateTime lastModified) {
+
+    public static ResourceValidator of(Long id, Long version, LocalDateTime lastModified) {
+        return new ResourceValidator("\"" + id + "-" + (version != null ? version : 0) + "\"", lastModified);
+    }
+
+    public static ResourceValidator ofPage(long totalElements, List<ResourceValidator> rows) {
+        int hash = Objects.hash(totalElements, rows.size());
+        LocalDateTime lastModified = null;
+        for (ResourceValidator row : rows) {
+            hash = 31 * hash + row.etag().hashCode();
+            if (row.lastModified() != null && (lastModified == null || row.lastModified().isAfter(lastModified))) {
+                lastModified = row.lastModified();
+            }
+        }
+        return new ResourceValidator("W/\"" + totalElements + "-" + Integer.toHexString(hash) + "\"", lastModified);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.department.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Employee deleted event as published by employee-service
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeDeletedEvent {
+    private Long employeeId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private Long departmentId;
+    private LocalDateTime deletedAt;
+    @Builder.Default
+    private String eventType = "EMPLOYEE_DELETED";
+}
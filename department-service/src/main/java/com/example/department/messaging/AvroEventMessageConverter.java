@@ -0,0 +1,54 @@
+package com.example.department.messaging;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.SmartMessageConverter;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+
+/**
+ * Stream message converter for {@code application/*+avro}. Outbound, it encodes events that
+ * have a schema when the binding asks for Avro and leaves everything else to the JSON
+ * converter. Inbound, it recognises Avro by the single-object marker rather than the header,
+ * so consumers read Avro and JSON producers side by side during a rollout.
+ */
+@RequiredArgsConstructor
+public class AvroEventMessageConverter implements SmartMessageConverter {
+
+    public static final MimeType AVRO = MimeType.valueOf("application/*+avro");
+
+    private final AvroEventCodec codec;
+
+    @Override
+    public Object fromMessage(Message<?> message, Class<?> targetClass) {
+        if (message.getPayload() instanceof byte[] payload && AvroEventCodec.isAvro(payload)
+                && codec.canDecode(targetClass)) {
+            return codec.decode(payload, targetClass);
+        }
+        return null;
+    }
+
+    @Override
+    public Object fromMessage(Message<?> message, Class<?> targetClass, Object conversionHint) {
+        return fromMessage(message, targetClass);
+    }
+
+    @Override
+    public Message<?> toMessage(Object payload, MessageHeaders headers) {
+        Object contentType = headers == null ? null : headers.get(MessageHeaders.CONTENT_TYPE);
+        if (contentType == null || !AVRO.includes(MimeType.valueOf(contentType.toString()))
+                || !codec.canEncode(payload.getClass())) {
+            return null;
+        }
+        return MessageBuilder.withPayload(codec.encode(payload))
+                .copyHeaders(headers)
+                .setHeader(MessageHeaders.CONTENT_TYPE, codec.contentType(payload.getClass()))
+                .build();
+    }
+
+    @Override
+    public Message<?> toMessage(Object payload, MessageHeaders headers, Object conversionHint) {
+        return toMessage(payload, headers);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.department.messaging;
+
+import com.example.department.cache.CacheNames;
+import com.example.department.cache.TwoTierCacheManager;
+import com.example.department.snapshot.DepartmentReadSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Drops departments changed by any instance from this instance's L1 cache.
+ * The writing instance already evicted the shared L2. Events only carry the
+ * new code, so the whole (small) local cache is cleared, together with the local
+ * listing totals. The department snapshot evicts the changed department from the
+ * Hibernate second-level cache and re-reads it from the primary.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DepartmentCacheEvictionListener {
+
+    private final TwoTierCacheManager cacheManager;
+    private final DepartmentReadSnapshot readSnapshot;
+
+    @Bean
+    public Consumer<Map<String, Object>> departmentCacheEviction() {
+        return event -> {
+            log.debug("Clearing local department cache after event: {}", event);
+            cacheManager.getCache(CacheNames.DEPARTMENTS_BY_CODE).clearLocal();
+            cacheManager.getCache(CacheNames.DEPARTMENT_COUNTS).clearLocal();
+            if (event.get("departmentId") instanceof Number departmentId) {
+                readSnapshot.reload(departmentId.longValue());
+            }
+        };
+    }
+}
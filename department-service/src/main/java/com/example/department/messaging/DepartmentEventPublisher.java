@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class DepartmentEventPublisher {
 
     private final StreamBridge streamBridge;
+    private final EventCoalescer departmentUpdatedCoalescer;
 
     public void publishDepartmentCreated(DepartmentCreatedEvent event) {
         try {
@@ -26,15 +27,20 @@ public class DepartmentEventPublisher {
     }
 
     public void publishDepartmentUpdated(DepartmentUpdatedEvent event) {
-        try {
-            streamBridge.send("departmentUpdated-out-0", event);
-            log.info("Published department updated event: {}", event);
-        } catch (Exception e) {
-            log.error("Failed to publish department updated event: {}", event, e);
-        }
+        // Bursts of updates to one department go out as the latest state within the coalescing window
+        departmentUpdatedCoalescer.submit(event.getDepartmentId(), () -> {
+            try {
+                streamBridge.send("departmentUpdated-out-0", event);
+                log.info("Published department updated event: {}", event);
+            } catch (Exception e) {
+                log.error("Failed to publish department updated event: {}", event, e);
+            }
+        });
     }
 
     public void publishDepartmentDeleted(DepartmentDeletedEvent event) {
+        // A pending update must not arrive after the delete
+        departmentUpdatedCoalescer.flush(event.getDepartmentId());
         try {
             streamBridge.send("departmentDeleted-out-0", event);
             log.info("Published department deleted event: {}", event);
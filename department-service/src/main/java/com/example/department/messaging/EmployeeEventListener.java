@@ -1,15 +1,20 @@
 package com.example.department.messaging;
 
+import com.example.department.event.EmployeeCreatedEvent;
+import com.example.department.event.EmployeeDeletedEvent;
+import com.example.department.event.EmployeeUpdatedEvent;
 import com.example.department.service.DepartmentService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
- * Event listener for employee events in department service
+ * Event listener for employee events in department service. Bindings run in batch mode and
+ * are partitioned by employee id, so each instance receives batches for its own employees.
  */
 @Component
 @RequiredArgsConstructor
@@ -18,30 +23,37 @@ public class EmployeeEventListener {
 
     @SuppressWarnings("unused")
     private final DepartmentService departmentService;
+    private final BatchEventProcessor batchProcessor;
 
     @Bean
-    public Consumer<Object> employeeCreated() {
-        return event -> {
-            log.info("Received employee created event: {}", event);
-            // Here you could update department statistics, send notifications, etc.
-            // For example: update department employee count
-        };
+    public Consumer<List<EmployeeCreatedEvent>> employeeCreated() {
+        return events -> batchProcessor.process("employeeCreated", events,
+                EmployeeCreatedEvent::getEmployeeId, EmployeeCreatedEvent::getCreatedAt,
+                event -> {
+                    log.info("Received employee created event: {}", event);
+                    // Here you could update department statistics, send notifications, etc.
+                    // For example: update department employee count
+                });
     }
 
     @Bean
-    public Consumer<Object> employeeUpdated() {
-        return event -> {
-            log.info("Received employee updated event: {}", event);
-            // Handle employee update in department context
-        };
+    public Consumer<List<EmployeeUpdatedEvent>> employeeUpdated() {
+        return events -> batchProcessor.process("employeeUpdated", events,
+                EmployeeUpdatedEvent::getEmployeeId, EmployeeUpdatedEvent::getUpdatedAt,
+                event -> {
+                    log.info("Received employee updated event: {}", event);
+                    // Handle employee update in department context
+                });
     }
 
     @Bean
-    public Consumer<Object> employeeDeleted() {
-        return event -> {
-            log.info("Received employee deleted event: {}", event);
-            // Handle employee deletion in department context
-            // For example: update department employee count
-        };
+    public Consumer<List<EmployeeDeletedEvent>> employeeDeleted() {
+        return events -> batchProcessor.process("employeeDeleted", events,
+                EmployeeDeletedEvent::getEmployeeId, EmployeeDeletedEvent::getDeletedAt,
+                event -> {
+                    log.info("Received employee deleted event: {}", event);
+                    // Handle employee deletion in department context
+                    // For example: update department employee count
+                });
     }
 }
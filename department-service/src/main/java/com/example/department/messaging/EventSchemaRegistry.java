@@ -0,0 +1,76 @@
+package com.example.department.messaging;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.message.SchemaStore;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for a schema registry, loaded from {@code avro/<Record>-v<n>.avsc} on the
+ * classpath. Schemas are looked up by record name and version when publishing, and by the
+ * 64-bit parsing fingerprint that prefixes every single-object encoded message when
+ * consuming. Retired versions stay in the folder so older messages still resolve.
+ */
+public class EventSchemaRegistry implements SchemaStore {
+
+    static final String LOCATION = "classpath*:avro/*.avsc";
+
+    private static final Pattern FILE_NAME = Pattern.compile("(\\w+)-v(\\d+)\\.avsc");
+
+    private final Map<String, NavigableMap<Integer, Schema>> versions = new ConcurrentHashMap<>();
+    private final Map<Long, Schema> byFingerprint = new ConcurrentHashMap<>();
+
+    public static EventSchemaRegistry fromClasspath() {
+        try {
+            EventSchemaRegistry registry = new EventSchemaRegistry();
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(LOCATION)) {
+                registry.register(resource);
+            }
+            return registry;
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot list event schemas at " + LOCATION, ex);
+        }
+    }
+
+    void register(Resource resource) throws IOException {
+        Matcher name = FILE_NAME.matcher(String.valueOf(resource.getFilename()));
+        if (!name.matches()) {
+            throw new IllegalStateException("Event schema " + resource + " is not named <Record>-v<n>.avsc");
+        }
+        try (InputStream in = resource.getInputStream()) {
+            register(new Schema.Parser().parse(in), Integer.parseInt(name.group(2)));
+        }
+    }
+
+    /** The same file may be on the classpath twice (a sibling service's jar); a changed one may not. */
+    public void register(Schema schema, int version) {
+        Schema existing = versions.computeIfAbsent(schema.getName(), n -> new TreeMap<>()).putIfAbsent(version, schema);
+        if (existing != null && !existing.equals(schema)) {
+            throw new IllegalStateException("Conflicting definitions of " + schema.getName() + " v" + version);
+        }
+        byFingerprint.put(SchemaNormalization.parsingFingerprint64(schema), schema);
+    }
+
+    /** Latest version of the record named after the event class, e.g. {@code EmployeeCreatedEvent}. */
+    public Optional<Map.Entry<Integer, Schema>> latest(String recordName) {
+        NavigableMap<Integer, Schema> schemas = versions.get(recordName);
+        return schemas == null ? Optional.empty() : Optional.of(schemas.lastEntry());
+    }
+
+    @Override
+    public Schema findByFingerprint(long fingerprint) {
+        return byFingerprint.get(fingerprint);
+    }
+}
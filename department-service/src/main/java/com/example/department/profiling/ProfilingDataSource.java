@@ -0,0 +1,112 @@
+package com.example.department.profiling;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+
+/**
+ * DataSource proxy that times every statement execution against the current
+ * {@link RequestProfile} and, inside a traced request or message, observes it as a
+ * {@code jdbc.query} span. Connections and statements are wrapped in JDK proxies; with
+ * neither a request nor a trace the only cost is two thread-local lookups.
+ */
+public class ProfilingDataSource extends DelegatingDataSource {
+
+    private final ObservationRegistry observationRegistry;
+
+    public ProfilingDataSource(DataSource target) {
+        this(target, ObservationRegistry.NOOP);
+    }
+
+    public ProfilingDataSource(DataSource target, ObservationRegistry observationRegistry) {
+        super(target);
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof Statement statement) {
+                        String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                        return wrap(statement, sql);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement wrap(Statement statement, String preparedSql) {
+        Class<?> type = statement instanceof CallableStatement ? CallableStatement.class
+                : statement instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (!method.getName().startsWith("execute")) {
+                return invoke(statement, method, args);
+            }
+            RequestProfile profile = RequestProfile.current();
+            boolean traced = observationRegistry.getCurrentObservation() != null;
+            if (profile == null && !traced) {
+                return invoke(statement, method, args);
+            }
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : preparedSql;
+            Observation observation = traced ? observation(sql).start() : null;
+            long start = System.nanoTime();
+            try (Observation.Scope scope = observation == null ? null : observation.openScope()) {
+                return invoke(statement, method, args);
+            } catch (Throwable ex) {
+                if (observation != null) {
+                    observation.error(ex);
+                }
+                throw ex;
+            } finally {
+                if (profile != null) {
+                    profile.recordStatement(sql, System.nanoTime() - start);
+                }
+                if (observation != null) {
+                    observation.stop();
+                }
+            }
+        };
+        return (Statement) Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(),
+                new Class<?>[]{type}, handler);
+    }
+
+    private Observation observation(String sql) {
+        String operation = sql == null || sql.isBlank() ? "unknown"
+                : sql.stripLeading().split("\\s", 2)[0].toLowerCase(Locale.ROOT);
+        return Observation.createNotStarted("jdbc.query", observationRegistry)
+                .contextualName("jdbc " + operation)
+                .lowCardinalityKeyValue("db.system", "postgresql")
+                .lowCardinalityKeyValue("db.operation", operation)
+                .highCardinalityKeyValue("db.statement", sql == null ? "" : sql);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+}
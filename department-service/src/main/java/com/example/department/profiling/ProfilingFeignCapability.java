@@ -0,0 +1,27 @@
+package com.example.department.profiling;
+
+import feign.Capability;
+import feign.Client;
+
+/**
+ * Wraps every Feign client so each remote call is counted and timed against the current
+ * {@link RequestProfile}, retries and load-balanced attempts included.
+ */
+public class ProfilingFeignCapability implements Capability {
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            RequestProfile profile = RequestProfile.current();
+            if (profile == null) {
+                return client.execute(request, options);
+            }
+            long start = System.nanoTime();
+            try {
+                return client.execute(request, options);
+            } finally {
+                profile.recordRemoteCall(System.nanoTime() - start);
+            }
+        };
+    }
+}
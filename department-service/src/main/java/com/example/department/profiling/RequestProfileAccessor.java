@@ -0,0 +1,33 @@
+package com.example.department.profiling;
+
+import io.micrometer.context.ThreadLocalAccessor;
+
+/**
+ * Lets Micrometer context propagation carry the current {@link RequestProfile} to the threads
+ * that work for a request, next to the observation (and so the trace context) it already
+ * carries. Registered through {@code META-INF/services}.
+ */
+public class RequestProfileAccessor implements ThreadLocalAccessor<RequestProfile> {
+
+    public static final String KEY = "department.request-profile";
+
+    @Override
+    public Object key() {
+        return KEY;
+    }
+
+    @Override
+    public RequestProfile getValue() {
+        return RequestProfile.current();
+    }
+
+    @Override
+    public void setValue(RequestProfile value) {
+        RequestProfile.set(value);
+    }
+
+    @Override
+    public void reset() {
+        RequestProfile.clear();
+    }
+}
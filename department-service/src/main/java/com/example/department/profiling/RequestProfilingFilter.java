@@ -0,0 +1,156 @@
+package com.example.department.profiling;
+
+import com.example.department.config.RequestProfilingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Profiles each request: counts and times the SQL statements and remote calls it triggers,
+ * reports them in a {@code Server-Timing} header, records per-endpoint metrics and logs
+ * requests above the configured statement or remote call thresholds.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    private final RequestProfilingProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestProfile profile = RequestProfile.start();
+        ServerTimingResponse timed = new ServerTimingResponse(response, profile);
+        try {
+            chain.doFilter(request, timed);
+        } finally {
+            RequestProfile.clear();
+            timed.addServerTiming();
+            record(request, profile);
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestProfile profile) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", pattern == null ? "UNKNOWN" : pattern.toString());
+
+        DistributionSummary.builder("http.server.requests.db.statements")
+                .description("SQL statements executed per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(profile.getStatements());
+        Timer.builder("http.server.requests.db")
+                .description("Time spent in SQL statements per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(profile.getDbNanos(), TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("http.server.requests.remote.calls")
+                .description("Outbound Feign calls per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(profile.getRemoteCalls());
+        Timer.builder("http.server.requests.remote")
+                .description("Time spent in outbound Feign calls per request")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(profile.getRemoteNanos(), TimeUnit.NANOSECONDS);
+
+        boolean tooManyStatements = profile.getStatements() > properties.getMaxStatements();
+        boolean tooManyRemoteCalls = profile.getRemoteCalls() > properties.getMaxRemoteCalls();
+        if (!tooManyStatements && !tooManyRemoteCalls) {
+            return;
+        }
+        if (tooManyStatements) {
+            countExcessive(tags, "statements");
+        }
+        if (tooManyRemoteCalls) {
+            countExcessive(tags, "remote-calls");
+        }
+        Map.Entry<String, Integer> repeated = profile.mostRepeatedStatement();
+        log.warn("{} {} ran {} SQL statements ({} ms) and {} remote calls ({} ms); most repeated statement ({}x): {}",
+                request.getMethod(), request.getRequestURI(),
+                profile.getStatements(), Math.round(RequestProfile.millis(profile.getDbNanos())),
+                profile.getRemoteCalls(), Math.round(RequestProfile.millis(profile.getRemoteNanos())),
+                repeated == null ? 0 : repeated.getValue(), repeated == null ? "-" : repeated.getKey());
+    }
+
+    private void countExcessive(Tags tags, String reason) {
+        Counter.builder("http.server.requests.excessive")
+                .description("Requests above the statement or remote call threshold")
+                .tags(tags.and("reason", reason))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Adds {@code Server-Timing} just before the body is first written, while headers can
+     * still be set, or after the chain for responses without a body.
+     */
+    private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestProfile profile;
+        private boolean added;
+
+        ServerTimingResponse(HttpServletResponse response, RequestProfile profile) {
+            super(response);
+            this.profile = profile;
+        }
+
+        void addServerTiming() {
+            if (!added && !isCommitted()) {
+                added = true;
+                setHeader(SERVER_TIMING, profile.serverTiming());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            addServerTiming();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            addServerTiming();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.department.repo;
+
+import com.example.department.domain.Department;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Listing queries over {@code Department} built from {@link DepartmentSpecifications}, leaving
+ * counting to the caller, plus tuple projections that select only the requested attributes. Each tuple element is aliased
+ * with its attribute name.
+ */
+public interface DepartmentProjectionRepository {
+
+    /** One page of the filtered listing without the accompanying count query. */
+    List<Department> findContentByFilters(String name, String code, Pageable pageable);
+
+    List<Tuple> findProjectedByFilters(Collection<String> attributes, String name, String code, Pageable pageable);
+
+    long countByFilters(String name, String code);
+
+    Optional<Tuple> findProjectedById(Collection<String> attributes, Long id);
+}
@@ -0,0 +1,83 @@
+package com.example.department.repo;
+
+import com.example.department.config.SecondLevelCacheConfig;
+import com.example.department.domain.Department;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+class DepartmentProjectionRepositoryImpl implements DepartmentProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<Department> findContentByFilters(String name, String code, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Department> query = cb.createQuery(Department.class);
+        Root<Department> root = query.from(Department.class);
+        query.select(root)
+                .where(DepartmentSpecifications.withFilters(name, code).toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        // Listing pages stay in the department query cache region
+        return page(em.createQuery(query), pageable)
+                .setHint(HibernateHints.HINT_CACHEABLE, true)
+                .setHint(HibernateHints.HINT_CACHE_REGION, SecondLevelCacheConfig.DEPARTMENT_QUERY_REGION)
+                .getResultList();
+    }
+
+    @Override
+    public List<Tuple> findProjectedByFilters(Collection<String> attributes, String name, String code, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Department> root = query.from(Department.class);
+        query.multiselect(selections(root, attributes))
+                .where(DepartmentSpecifications.withFilters(name, code).toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        return page(em.createQuery(query), pageable).getResultList();
+    }
+
+    @Override
+    public long countByFilters(String name, String code) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Department> root = query.from(Department.class);
+        query.select(cb.count(root)).where(DepartmentSpecifications.withFilters(name, code).toPredicate(root, query, cb));
+        return em.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public Optional<Tuple> findProjectedById(Collection<String> attributes, Long id) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Department> root = query.from(Department.class);
+        query.multiselect(selections(root, attributes)).where(cb.equal(root.get("id"), id));
+        return em.createQuery(query).getResultList().stream().findFirst();
+    }
+
+    private static <T> TypedQuery<T> page(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query;
+    }
+
+    private static List<Selection<?>> selections(Root<Department> root, Collection<String> attributes) {
+        List<Selection<?>> selections = new ArrayList<>(attributes.size());
+        for (String attribute : attributes) {
+            selections.add(root.get(attribute).alias(attribute));
+        }
+        return selections;
+    }
+}
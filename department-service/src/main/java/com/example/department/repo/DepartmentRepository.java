@@ -1,29 +1,27 @@
 package com.example.department.repo;
 
 import com.example.department.domain.Department;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Optional;
 
-public interface DepartmentRepository extends JpaRepository<Department, Long> {
+public interface DepartmentRepository extends JpaRepository<Department, Long>, DepartmentProjectionRepository {
     boolean existsByCode(String code);
     
     boolean existsByCodeAndIdNot(String code, Long id);
     
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "department-queries")
+    })
     Optional<Department> findByCode(String code);
     
-    Page<Department> findByNameContainingIgnoreCase(String name, Pageable pageable);
-    
-    Page<Department> findByCodeContainingIgnoreCase(String code, Pageable pageable);
-    
-    @Query("SELECT d FROM Department d WHERE " +
-           "(:name IS NULL OR LOWER(d.name) LIKE LOWER(CONCAT('%', :name, '%'))) AND " +
-           "(:code IS NULL OR LOWER(d.code) LIKE LOWER(CONCAT('%', :code, '%')))")
-    Page<Department> findByFilters(@Param("name") String name, 
-                                  @Param("code") String code, 
-                                  Pageable pageable);
+    /** Planner statistics row estimate for the whole table; negative until the table is first analyzed. */
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('department.departments' AS regclass)",
+           nativeQuery = true)
+    long estimateCount();
 }
@@ -0,0 +1,53 @@
+package com.example.department.repo;
+
+import com.example.department.domain.Department;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Listing filters that emit only the predicates actually supplied. {@code name} and
+ * {@code code} match as case-insensitive prefixes so their indexes apply; a leading
+ * {@code *} ({@code *ops}) asks for a substring match instead, which always scans.
+ */
+public final class DepartmentSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private DepartmentSpecifications() {
+    }
+
+    public static Specification<Department> withFilters(String name, String code) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(2);
+            if (hasText(name)) {
+                predicates.add(matches(cb, cb.lower(root.get("name")), name.trim().toLowerCase(Locale.ROOT)));
+            }
+            if (hasText(code)) {
+                predicates.add(matches(cb, cb.lower(root.get("code")), code.trim().toLowerCase(Locale.ROOT)));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    /** Prefix match, or substring match when the value starts with {@code *}. */
+    private static Predicate matches(CriteriaBuilder cb, Expression<String> column, String value) {
+        if (value.startsWith("*")) {
+            return cb.like(column, "%" + escape(value.substring(1)) + "%", ESCAPE);
+        }
+        return cb.like(column, escape(value) + "%", ESCAPE);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
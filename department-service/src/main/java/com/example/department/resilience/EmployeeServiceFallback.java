@@ -1,27 +1,32 @@
 package com.example.department.resilience;
 
-import lombok.extern.slf4j.Slf4j;
+import com.example.department.client.EmployeeClient;
+import com.example.department.dto.EmployeeBatchGetRequest;
+import com.example.department.dto.EmployeeBatchGetResponse;
+import com.example.department.exception.EmployeeServiceException;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
 import java.util.List;
 
 /**
- * Fallback service for Employee Service when it's unavailable
+ * Answers {@link EmployeeClient} calls that failed, timed out, were rejected by the bulkhead
+ * or met an open circuit. Neither call has a safe empty answer: an empty employee list would
+ * let a department with employees be deleted, and a batch-get would report employees missing.
+ * Both fail with {@link EmployeeServiceException}; read paths that can show an empty list
+ * catch it themselves.
  */
 @Component
-@Slf4j
-public class EmployeeServiceFallback {
+public class EmployeeServiceFallback implements EmployeeClient {
 
-    public List<Object> getEmployeesByDepartmentFallback(Long departmentId, Exception ex) {
-        log.warn("Employee service is unavailable, using fallback for department ID: {}", departmentId, ex);
-        
-        return Collections.emptyList();
+    @Override
+    public List<Object> getEmployeesByDepartment(Long departmentId) {
+        throw new EmployeeServiceException("Employee service unavailable to list employees of department "
+                + departmentId);
     }
 
-    public Integer getEmployeeCountByDepartmentFallback(Long departmentId, Exception ex) {
-        log.warn("Employee service is unavailable, using fallback for department ID: {}", departmentId, ex);
-        
-        return 0;
+    @Override
+    public EmployeeBatchGetResponse getEmployees(EmployeeBatchGetRequest request, boolean enrichWithDepartment) {
+        throw new EmployeeServiceException("Employee service unavailable for batch-get of "
+                + request.getIds().size() + " employees");
     }
 }
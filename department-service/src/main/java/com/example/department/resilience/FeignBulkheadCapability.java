@@ -0,0 +1,50 @@
+package com.example.department.resilience;
+
+import feign.Capability;
+import feign.Client;
+import feign.Target;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+
+import java.util.Locale;
+
+/**
+ * Semaphore bulkhead around every remote call of a Feign client, using the Resilience4j
+ * instance named after the client ({@code EMPLOYEE-SERVICE} uses {@code employee-service}).
+ * It sits inside the circuit breaker's time limiter: a call abandoned on timeout keeps its
+ * permit until the HTTP exchange really ends, so a sibling that stops answering fills the
+ * bulkhead and further calls are rejected at once instead of piling up threads.
+ */
+public class FeignBulkheadCapability implements Capability {
+
+    private final BulkheadRegistry registry;
+
+    public FeignBulkheadCapability(BulkheadRegistry registry) {
+        this.registry = registry;
+    }
+
+    /** Resilience4j instance name shared by a Feign client's circuit breaker, time limiter and bulkhead. */
+    public static String instanceName(String feignClientName) {
+        return feignClientName.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public Client enrich(Client client) {
+        return (request, options) -> {
+            Target<?> target = request.requestTemplate().feignTarget();
+            if (target == null) {
+                return client.execute(request, options);
+            }
+            Bulkhead bulkhead = registry.bulkhead(instanceName(target.name()));
+            if (!bulkhead.tryAcquirePermission()) {
+                throw BulkheadFullException.createBulkheadFullException(bulkhead);
+            }
+            try {
+                return client.execute(request, options);
+            } finally {
+                bulkhead.onComplete();
+            }
+        };
+    }
+}
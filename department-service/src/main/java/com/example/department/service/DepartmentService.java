@@ -1,5 +1,7 @@
 package com.example.department.service;
 
+import com.example.department.cache.CacheNames;
+import com.example.department.cache.TwoTierCacheManager;
 import com.example.department.client.EmployeeClient;
 import com.example.department.domain.Department;
 import com.example.department.dto.*;
@@ -8,14 +10,19 @@ import com.example.department.exception.*;
 import com.example.department.messaging.DepartmentEventPublisher;
 import com.example.department.metrics.DepartmentMetrics;
 import com.example.department.repo.DepartmentRepository;
+import com.example.department.snapshot.DepartmentReadSnapshot;
+import com.example.department.snapshot.DepartmentSnapshot;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -24,13 +31,26 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class DepartmentService {
 
+    /** Response fields selectable with {@code fields=}. */
+    public static final Set<String> SELECTABLE_FIELDS = Set.of("id", "name", "code", "description");
+
+    /** Sort keys with a backing index; anything else would sort the whole filtered set. */
+    public static final Set<String> SORTABLE_FIELDS = Set.of("id", "name", "code");
+
+    private static final List<String> VALIDATOR_ATTRIBUTES = List.of("id", "version", "updatedAt", "createdAt");
+
     private final DepartmentRepository repository;
     private final EmployeeClient employeeClient;
     private final DepartmentEventPublisher eventPublisher;
     private final DepartmentMetrics metrics;
+    private final TwoTierCacheManager cacheManager;
+    private final ListingCounter listingCounter;
+    private final DepartmentReadSnapshot readSnapshot;
 
     public List<Department> getAll() {
-        return repository.findAll();
+        return readSnapshot.current()
+                .map(DepartmentSnapshot::findAll)
+                .orElseGet(repository::findAll);
     }
 
     public PageResponse<DepartmentDTO> getAllPaginated(DepartmentSearchRequest request) {
@@ -38,25 +58,137 @@ public class DepartmentService {
         Sort sort = parseSort(request.getSort());
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
         
-        // Use repository method with filters
-        Page<Department> page = repository.findByFilters(
+        Optional<DepartmentSnapshot> snapshot = readSnapshot.current();
+        if (snapshot.isPresent()) {
+            Page<Department> page = snapshot.get().find(request.getName(), request.getCode(), pageable);
+            return buildPageResponse(page, page.getContent().stream()
+                    .map(this::toDTO)
+                    .collect(Collectors.toList()), CountStrategy.EXACT);
+        }
+        
+        // Page content only; the total comes from the counting strategy
+        List<Department> content = repository.findContentByFilters(
                 request.getName(), 
                 request.getCode(), 
                 pageable
         );
         
-        return buildPageResponse(page);
+        ListingCounter.Total total = countTotal(request, pageable, content.size());
+        return buildPageResponse(new PageImpl<>(content, pageable, total.value()), content.stream()
+                .map(this::toDTO)
+                .collect(Collectors.toList()), total.strategy());
+    }
+
+    /** Sparse variant of {@link #getAllPaginated(DepartmentSearchRequest)} selecting only {@code fields}. */
+    public PageResponse<Map<String, Object>> getAllPaginated(DepartmentSearchRequest request, String fields) {
+        List<String> selected = parseFields(fields);
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), parseSort(request.getSort()));
+        List<Tuple> content = repository.findProjectedByFilters(selected, request.getName(), request.getCode(), pageable);
+        ListingCounter.Total total = countTotal(request, pageable, content.size());
+        return buildPageResponse(new PageImpl<>(content, pageable, total.value()), content.stream()
+                .map(t -> toRow(t, selected))
+                .collect(Collectors.toList()), total.strategy());
+    }
+
+    public Map<String, Object> getById(Long id, String fields) {
+        List<String> selected = parseFields(fields);
+        Tuple tuple = repository.findProjectedById(selected, id)
+                .orElseThrow(() -> new DepartmentNotFoundException(id));
+        return toRow(tuple, selected);
+    }
+
+    /** Validator of one department from its id, version and timestamps, without loading it. */
+    public ResourceValidator getValidator(Long id) {
+        Optional<Department> cached = readSnapshot.current().flatMap(s -> s.findById(id));
+        if (cached.isPresent()) {
+            return validatorOf(cached.get());
+        }
+        return repository.findProjectedById(VALIDATOR_ATTRIBUTES, id)
+                .map(DepartmentService::validatorOf)
+                .orElseThrow(() -> new DepartmentNotFoundException(id));
+    }
+
+    /** Validator of one listing page; matches {@link #validatorOf(PageResponse)} of the same page. */
+    public ResourceValidator getPageValidator(DepartmentSearchRequest request) {
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), parseSort(request.getSort()));
+        Optional<DepartmentSnapshot> snapshot = readSnapshot.current();
+        if (snapshot.isPresent()) {
+            Page<Department> page = snapshot.get().find(request.getName(), request.getCode(), pageable);
+            return ResourceValidator.ofPage(page.getTotalElements(), page.getContent().stream()
+                    .map(DepartmentService::validatorOf)
+                    .collect(Collectors.toList()));
+        }
+        List<Tuple> content = repository.findProjectedByFilters(VALIDATOR_ATTRIBUTES, request.getName(), request.getCode(), pageable);
+        Page<Tuple> page = new PageImpl<>(content, pageable, countTotal(request, pageable, content.size()).value());
+        return ResourceValidator.ofPage(page.getTotalElements(), content.stream()
+                .map(DepartmentService::validatorOf)
+                .collect(Collectors.toList()));
     }
 
+    public static ResourceValidator validatorOf(Department d) {
+        return ResourceValidator.of(d.getId(), d.getVersion(), d.getUpdatedAt() != null ? d.getUpdatedAt() : d.getCreatedAt());
+    }
+
+    public static ResourceValidator validatorOf(DepartmentDTO dto) {
+        return ResourceValidator.of(dto.getId(), dto.getVersion(), dto.getUpdatedAt());
+    }
+
+    public static ResourceValidator validatorOf(PageResponse<DepartmentDTO> page) {
+        return ResourceValidator.ofPage(page.getTotalElements(), page.getContent().stream()
+                .map(DepartmentService::validatorOf)
+                .collect(Collectors.toList()));
+    }
+
+    private static ResourceValidator validatorOf(Tuple tuple) {
+        LocalDateTime updatedAt = tuple.get("updatedAt", LocalDateTime.class);
+        return ResourceValidator.of(tuple.get("id", Long.class), tuple.get("version", Long.class),
+                updatedAt != null ? updatedAt : tuple.get("createdAt", LocalDateTime.class));
+    }
+
+    /** A snapshot miss may be a department another instance just created, so it falls back to the table. */
     public Department getById(Long id) {
-        return repository.findById(id)
+        return readSnapshot.current().flatMap(s -> s.findById(id))
+                .or(() -> repository.findById(id))
                 .orElseThrow(() -> new DepartmentNotFoundException(id));
     }
 
+    /** Departments for a list of ids, from the snapshot when loaded, otherwise with one {@code IN} query. */
+    public DepartmentBatchGetResponse getByIds(List<Long> ids) {
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        distinct.remove(null);
+        Map<Long, Department> departments = new HashMap<>();
+        Optional<DepartmentSnapshot> snapshot = readSnapshot.current();
+        List<Long> unresolved = new ArrayList<>();
+        for (Long id : distinct) {
+            snapshot.flatMap(s -> s.findById(id)).ifPresentOrElse(d -> departments.put(id, d), () -> unresolved.add(id));
+        }
+        if (!unresolved.isEmpty()) {
+            repository.findAllById(unresolved).forEach(d -> departments.put(d.getId(), d));
+        }
+        List<DepartmentDTO> found = new ArrayList<>(departments.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : distinct) {
+            Department d = departments.get(id);
+            if (d != null) {
+                found.add(toDTO(d));
+            } else {
+                missing.add(id);
+            }
+        }
+        return DepartmentBatchGetResponse.builder()
+                .found(found)
+                .missingIds(missing)
+                .build();
+    }
+
     public DepartmentDTO getByCode(String code) {
-        Department department = repository.findByCode(code)
-                .orElseThrow(() -> new DepartmentNotFoundException(code, true));
-        return toDTO(department);
+        Optional<Department> cached = readSnapshot.current().flatMap(s -> s.findByCode(code));
+        if (cached.isPresent()) {
+            return toDTO(cached.get());
+        }
+        return cacheManager.getCache(CacheNames.DEPARTMENTS_BY_CODE).get(code, DepartmentDTO.class,
+                () -> toDTO(repository.findByCode(code)
+                        .orElseThrow(() -> new DepartmentNotFoundException(code, true))));
     }
 
     @Transactional
@@ -66,6 +198,7 @@ public class DepartmentService {
             throw new DepartmentConflictException("code", department.getCode());
         }
         Department saved = repository.save(department);
+        readSnapshot.put(saved);
         
         // Publish department created event
         DepartmentCreatedEvent event = DepartmentCreatedEvent.builder()
@@ -80,6 +213,7 @@ public class DepartmentService {
         // Record metrics
         metrics.incrementDepartmentCreated();
         metrics.setTotalDepartments(repository.count());
+        listingCounter.invalidate();
         
         return saved;
     }
@@ -96,12 +230,15 @@ public class DepartmentService {
             }
         }
         
+        cacheManager.getCache(CacheNames.DEPARTMENTS_BY_CODE).evict(d.getCode());
+        
         // Update fields
         if (request.getName() != null) d.setName(request.getName());
         if (request.getCode() != null) d.setCode(request.getCode());
         if (request.getDescription() != null) d.setDescription(request.getDescription());
         
-        d = repository.save(d);
+        d = repository.saveAndFlush(d); // flush so the response carries the new version and updatedAt
+        readSnapshot.put(d);
         
         // Publish department updated event
         DepartmentUpdatedEvent event = DepartmentUpdatedEvent.builder()
@@ -115,6 +252,7 @@ public class DepartmentService {
         
         // Record metrics
         metrics.incrementDepartmentUpdated();
+        listingCounter.invalidate();
         
         return toDTO(d);
     }
@@ -131,12 +269,28 @@ public class DepartmentService {
             }
         }
         
+        cacheManager.getCache(CacheNames.DEPARTMENTS_BY_CODE).evict(d.getCode());
+        
         // Update only provided fields
         if (request.getName() != null) d.setName(request.getName());
         if (request.getCode() != null) d.setCode(request.getCode());
         if (request.getDescription() != null) d.setDescription(request.getDescription());
         
-        d = repository.save(d);
+        d = repository.saveAndFlush(d);
+        readSnapshot.put(d);
+        
+        // Other instances re-read the department when this event arrives
+        DepartmentUpdatedEvent event = DepartmentUpdatedEvent.builder()
+                .departmentId(d.getId())
+                .name(d.getName())
+                .code(d.getCode())
+                .description(d.getDescription())
+                .updatedAt(d.getUpdatedAt())
+                .build();
+        eventPublisher.publishDepartmentUpdated(event);
+        
+        metrics.incrementDepartmentUpdated();
+        listingCounter.invalidate();
         return toDTO(d);
     }
 
@@ -145,17 +299,18 @@ public class DepartmentService {
         Department department = repository.findById(id)
                 .orElseThrow(() -> new DepartmentNotFoundException(id));
         
-        // Check if department has employees (protective delete)
+        // Check if department has employees (protective delete); fails closed when the
+        // employee service cannot answer, so an outage never deletes a staffed department
+        List<Object> employees;
         try {
-            List<Object> employees = employeeClient.getEmployeesByDepartment(id);
-            if (employees != null && !employees.isEmpty()) {
-                throw new DepartmentDeletionException(id, employees.size());
-            }
-        } catch (DepartmentDeletionException e) {
-            throw e; // Re-throw our custom exception
-        } catch (Exception e) {
-            // If we can't check employees, we'll allow deletion but log the issue
-            // In a real scenario, you might want to be more strict about this
+            employees = employeeClient.getEmployeesByDepartment(id);
+        } catch (EmployeeServiceException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new EmployeeServiceException("Could not check employees of department " + id, e);
+        }
+        if (employees != null && !employees.isEmpty()) {
+            throw new DepartmentDeletionException(id, employees.size());
         }
         
         // Publish department deleted event before deletion
@@ -168,15 +323,17 @@ public class DepartmentService {
         eventPublisher.publishDepartmentDeleted(event);
         
         repository.deleteById(id);
+        readSnapshot.remove(id);
+        cacheManager.getCache(CacheNames.DEPARTMENTS_BY_CODE).evict(department.getCode());
         
         // Record metrics
         metrics.incrementDepartmentDeleted();
         metrics.setTotalDepartments(repository.count());
+        listingCounter.invalidate();
     }
 
     public DepartmentEmployeesResponse getDepartmentEmployees(Long id) {
-        Department department = repository.findById(id)
-                .orElseThrow(() -> new DepartmentNotFoundException(id));
+        Department department = getById(id);
         
         List<Object> employees = new ArrayList<>();
         try {
@@ -203,6 +360,8 @@ public class DepartmentService {
                 .name(d.getName())
                 .code(d.getCode())
                 .description(d.getDescription())
+                .version(d.getVersion())
+                .updatedAt(d.getUpdatedAt() != null ? d.getUpdatedAt() : d.getCreatedAt())
                 .build();
     }
 
@@ -218,28 +377,71 @@ public class DepartmentService {
                 .build();
     }
 
+    /**
+     * Parses {@code property[,asc|desc]}. Only keys backed by an index are sortable, so a page
+     * never needs a full sort of the table; {@code id} breaks ties for stable paging.
+     */
     private Sort parseSort(String sortParam) {
         if (sortParam == null || sortParam.trim().isEmpty()) {
-            return Sort.by(Sort.Direction.ASC, "name");
+            return Sort.by(Sort.Direction.ASC, "name").and(Sort.by("id"));
         }
         
         String[] parts = sortParam.split(",");
-        if (parts.length != 2) {
-            return Sort.by(Sort.Direction.ASC, "name");
-        }
-        
         String property = parts[0].trim();
-        String direction = parts[1].trim().toUpperCase();
+        if (!SORTABLE_FIELDS.contains(property)) {
+            throw new DepartmentValidationException("Cannot sort by '" + property + "'; sortable fields are " + SORTABLE_FIELDS);
+        }
+        String direction = parts.length > 1 ? parts[1].trim().toUpperCase() : "ASC";
         
         Sort.Direction sortDirection = direction.equals("DESC") ? Sort.Direction.DESC : Sort.Direction.ASC;
-        return Sort.by(sortDirection, property);
+        Sort sort = Sort.by(sortDirection, property);
+        return property.equals("id") ? sort : sort.and(Sort.by(sortDirection, "id"));
     }
 
-    private PageResponse<DepartmentDTO> buildPageResponse(Page<Department> page) {
-        List<DepartmentDTO> content = page.getContent().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    /** Requested fields in request order; {@code id} is always included so rows stay addressable. */
+    private List<String> parseFields(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        List<String> unknown = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (SELECTABLE_FIELDS.contains(name)) {
+                selected.add(name);
+            } else {
+                unknown.add(name);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new DepartmentValidationException("Unknown fields " + unknown + "; selectable fields are " + SELECTABLE_FIELDS);
+        }
+        return new ArrayList<>(selected);
+    }
+
+    private Map<String, Object> toRow(Tuple tuple, List<String> fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            row.put(field, tuple.get(field));
+        }
+        return row;
+    }
+
+    private ListingCounter.Total countTotal(DepartmentSearchRequest request, Pageable pageable, int contentSize) {
+        boolean filtered = request.getName() != null || request.getCode() != null;
+        // Filters match case-insensitively, so the signature is normalized the same way
+        String signature = "name=" + normalize(request.getName()) + "&code=" + normalize(request.getCode());
+        return listingCounter.count(request.getCountStrategy(), signature, filtered, pageable, contentSize,
+                () -> repository.countByFilters(request.getName(), request.getCode()),
+                repository::estimateCount);
+    }
+
+    private static String normalize(String filter) {
+        return filter != null ? filter.toLowerCase(Locale.ROOT) : "";
+    }
 
+    private <T> PageResponse<T> buildPageResponse(Page<?> page, List<T> content, CountStrategy countStrategy) {
         PageResponse.SortInfo sortInfo = null;
         if (page.getSort().isSorted()) {
             Sort.Order order = page.getSort().iterator().next();
@@ -249,7 +451,7 @@ public class DepartmentService {
                     .build();
         }
 
-        return PageResponse.<DepartmentDTO>builder()
+        return PageResponse.<T>builder()
                 .content(content)
                 .page(page.getNumber())
                 .size(page.getSize())
@@ -260,6 +462,7 @@ public class DepartmentService {
                 .last(page.isLast())
                 .hasNext(page.hasNext())
                 .hasPrevious(page.hasPrevious())
+                .countStrategy(countStrategy)
                 .build();
     }
 }
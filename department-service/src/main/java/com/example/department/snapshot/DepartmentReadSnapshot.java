@@ -0,0 +1,103 @@
+package com.example.department.snapshot;
+
+import com.example.department.domain.Department;
+import com.example.department.repo.DepartmentRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+/**
+ * Holds the current {@link DepartmentSnapshot}. Loaded once the application is ready; own
+ * writes swap in a new snapshot after their transaction commits and other instances' writes
+ * are re-read when their events arrive. Empty until the first load succeeds, in which case
+ * callers read the database.
+ */
+@Component
+@Slf4j
+public class DepartmentReadSnapshot {
+
+    private final DepartmentRepository repository;
+    private final TransactionTemplate primary;
+    private final EntityManagerFactory entityManagerFactory;
+    private final AtomicReference<DepartmentSnapshot> current = new AtomicReference<>();
+
+    public DepartmentReadSnapshot(DepartmentRepository repository, TransactionTemplate transactionTemplate,
+                                  EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.primary = transactionTemplate;
+        this.entityManagerFactory = entityManagerFactory;
+        Gauge.builder("department.snapshot.size", current, c -> c.get() != null ? c.get().size() : 0)
+                .description("Departments held in the in-memory snapshot")
+                .register(meterRegistry);
+    }
+
+    public Optional<DepartmentSnapshot> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            // Read on the primary: a lagging replica would start the snapshot behind
+            DepartmentSnapshot loaded = DepartmentSnapshot.of(primary.execute(status -> repository.findAll()));
+            // Writes that raced the load are re-read when their events arrive
+            current.compareAndSet(null, loaded);
+            log.info("Loaded department snapshot with {} departments", loaded.size());
+        } catch (RuntimeException ex) {
+            log.warn("Could not load department snapshot; reads stay on the database", ex);
+        }
+    }
+
+    /** Swaps in a snapshot with this instance's write once its transaction commits. */
+    public void put(Department department) {
+        afterCommit(snapshot -> snapshot.with(department));
+    }
+
+    public void remove(Long id) {
+        afterCommit(snapshot -> snapshot.without(id));
+    }
+
+    /**
+     * Re-reads a department another instance changed. Events carry neither version nor
+     * creation time, so the row comes from the primary rather than from the event. The
+     * second-level cache is per instance and still holds the old entity, so it is evicted
+     * first; otherwise the read would return it and the snapshot would keep it indefinitely.
+     */
+    public void reload(Long id) {
+        entityManagerFactory.getCache().evict(Department.class, id);
+        if (current.get() == null) {
+            load();
+            return;
+        }
+        Optional<Department> row = primary.execute(status -> repository.findById(id));
+        swap(snapshot -> row.map(snapshot::with).orElseGet(() -> snapshot.without(id)));
+    }
+
+    private void afterCommit(UnaryOperator<DepartmentSnapshot> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    swap(change);
+                }
+            });
+        } else {
+            swap(change);
+        }
+    }
+
+    private void swap(UnaryOperator<DepartmentSnapshot> change) {
+        current.updateAndGet(snapshot -> snapshot != null ? change.apply(snapshot) : null);
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.department.snapshot;
+
+import com.example.department.domain.Department;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable copy of the whole departments table: rows in id order, id and code hash maps, and
+ * positions sorted by name and by code. Changes build a new snapshot, so readers never lock
+ * and never see a half-applied write. The departments are detached copies and must not be
+ * modified.
+ */
+public final class DepartmentSnapshot {
+
+    private final Department[] rows;
+    private final List<Department> all;
+    private final Map<Long, Department> byId;
+    private final Map<String, Department> byCode;
+    private final int[] nameOrder;
+    private final int[] codeOrder;
+    private final String[] lowerNames;
+    private final String[] lowerCodes;
+
+    private DepartmentSnapshot(Department[] rows) {
+        Arrays.sort(rows, Comparator.comparing(Department::getId));
+        this.rows = rows;
+        this.all = List.of(rows);
+        this.byId = new HashMap<>(rows.length * 2);
+        this.byCode = new HashMap<>(rows.length * 2);
+        this.lowerNames = new String[rows.length];
+        this.lowerCodes = new String[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            byId.put(rows[i].getId(), rows[i]);
+            byCode.put(rows[i].getCode(), rows[i]);
+            lowerNames[i] = lower(rows[i].getName());
+            lowerCodes[i] = lower(rows[i].getCode());
+        }
+        this.nameOrder = order(rows, Department::getName);
+        this.codeOrder = order(rows, Department::getCode);
+    }
+
+    public static DepartmentSnapshot of(Collection<Department> departments) {
+        return new DepartmentSnapshot(departments.stream().map(DepartmentSnapshot::copyOf).toArray(Department[]::new));
+    }
+
+    /** Snapshot with {@code department} added or replaced, unless the held version is newer. */
+    public DepartmentSnapshot with(Department department) {
+        Department current = byId.get(department.getId());
+        if (current != null && version(current) > version(department)) {
+            return this;
+        }
+        List<Department> next = new ArrayList<>(rows.length + 1);
+        for (Department row : rows) {
+            if (!row.getId().equals(department.getId())) {
+                next.add(row);
+            }
+        }
+        next.add(copyOf(department));
+        return new DepartmentSnapshot(next.toArray(Department[]::new));
+    }
+
+    public DepartmentSnapshot without(Long id) {
+        if (!byId.containsKey(id)) {
+            return this;
+        }
+        return new DepartmentSnapshot(Arrays.stream(rows)
+                .filter(row -> !row.getId().equals(id))
+                .toArray(Department[]::new));
+    }
+
+    public Optional<Department> findById(Long id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public Optional<Department> findByCode(String code) {
+        return Optional.ofNullable(byCode.get(code));
+    }
+
+    /** All departments in id order. */
+    public List<Department> findAll() {
+        return all;
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    /**
+     * One page of the listing with the same filter semantics as {@code DepartmentSpecifications}:
+     * case-insensitive prefixes, or substrings for values starting with {@code *}. Sorted by
+     * the first order, ties broken by id in the same direction, as the service's sort parsing
+     * always produces.
+     */
+    public Page<Department> find(String name, String code, Pageable pageable) {
+        Sort.Order order = pageable.getSort().stream().findFirst().orElse(Sort.Order.asc("id"));
+        int[] positions = switch (order.getProperty()) {
+            case "name" -> nameOrder;
+            case "code" -> codeOrder;
+            case "id" -> null;
+            default -> throw new IllegalArgumentException("Cannot sort departments by " + order.getProperty());
+        };
+        String namePattern = pattern(name);
+        String codePattern = pattern(code);
+        long offset = pageable.getOffset();
+        List<Department> content = new ArrayList<>(pageable.getPageSize());
+        int total = 0;
+        for (int i = 0; i < rows.length; i++) {
+            int n = order.isAscending() ? i : rows.length - 1 - i;
+            int position = positions != null ? positions[n] : n;
+            if (matches(lowerNames[position], namePattern) && matches(lowerCodes[position], codePattern)) {
+                if (total >= offset && content.size() < pageable.getPageSize()) {
+                    content.add(rows[position]);
+                }
+                total++;
+            }
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static String pattern(String filter) {
+        return filter == null || filter.isBlank() ? null : filter.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean matches(String value, String pattern) {
+        if (pattern == null) {
+            return true;
+        }
+        if (value == null) {
+            return false;
+        }
+        return pattern.startsWith("*") ? value.contains(pattern.substring(1)) : value.startsWith(pattern);
+    }
+
+    /** Positions of {@code rows} (already in id order) sorted by {@code key}, then id. */
+    private static int[] order(Department[] rows, Function<Department, String> key) {
+        Comparator<String> keys = Comparator.nullsLast(DepartmentSnapshot::compareCodePoints);
+        // Stable sort over id-ordered positions keeps id as the tie-breaker
+        return IntStream.range(0, rows.length)
+                .boxed()
+                .sorted((a, b) -> keys.compare(key.apply(rows[a]), key.apply(rows[b])))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    /**
+     * Code point order, which is how the {@code "C"} collation of the name and code columns
+     * sorts UTF-8 text. {@link String#compareTo} differs for characters outside the BMP.
+     */
+    private static int compareCodePoints(String a, String b) {
+        int i = 0;
+        while (i < a.length() && i < b.length()) {
+            int x = a.codePointAt(i);
+            int y = b.codePointAt(i);
+            if (x != y) {
+                return Integer.compare(x, y);
+            }
+            i += Character.charCount(x);
+        }
+        return Integer.compare(a.length(), b.length());
+    }
+
+    private static String lower(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : null;
+    }
+
+    private static long version(Department department) {
+        return department.getVersion() != null ? department.getVersion() : 0;
+    }
+
+    private static Department copyOf(Department d) {
+        return Department.builder()
+                .id(d.getId())
+                .name(d.getName())
+                .code(d.getCode())
+                .description(d.getDescription())
+                .createdAt(d.getCreatedAt())
+                .updatedAt(d.getUpdatedAt())
+                .version(d.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.department.web;
+
+import com.example.department.dto.ResourceValidator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.ZoneId;
+
+/**
+ * Conditional GET helpers shared by the v1 and v2 controllers
+ */
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /** True when the client sent a validator, i.e. a cheap validator lookup may save the full load. */
+    public static boolean isConditional(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /**
+     * Evaluates the request against {@code validator} and sets ETag/Last-Modified on the
+     * response. Returns true when the response has been turned into a 304.
+     */
+    public static boolean checkNotModified(WebRequest request, ResourceValidator validator) {
+        long lastModified = validator.lastModified() != null
+                ? validator.lastModified().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+                : -1;
+        return request.checkNotModified(validator.etag(), lastModified);
+    }
+}
@@ -8,6 +8,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/departments")
@@ -23,7 +24,9 @@ public class DepartmentController {
             @RequestParam(required = false) String code,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "name,asc") String sort) {
+            @RequestParam(defaultValue = "name,asc") String sort,
+            @RequestParam(required = false) String count,
+            WebRequest webRequest) {
         
         DepartmentSearchRequest request = DepartmentSearchRequest.builder()
                 .name(name)
@@ -31,14 +34,27 @@ public class DepartmentController {
                 .page(page)
                 .size(size)
                 .sort(sort)
+                .countStrategy(CountStrategy.from(count))
                 .build();
         
-        return service.getAllPaginated(request);
+        if (ConditionalRequests.isConditional(webRequest)
+                && ConditionalRequests.checkNotModified(webRequest, service.getPageValidator(request))) {
+            return null;
+        }
+        PageResponse<DepartmentDTO> response = service.getAllPaginated(request);
+        ConditionalRequests.checkNotModified(webRequest, DepartmentService.validatorOf(response));
+        return response;
     }
 
     @GetMapping("/{id}")
-    public Department byId(@PathVariable Long id) {
-        return service.getById(id);
+    public Department byId(@PathVariable Long id, WebRequest webRequest) {
+        if (ConditionalRequests.isConditional(webRequest)
+                && ConditionalRequests.checkNotModified(webRequest, service.getValidator(id))) {
+            return null;
+        }
+        Department department = service.getById(id);
+        ConditionalRequests.checkNotModified(webRequest, DepartmentService.validatorOf(department));
+        return department;
     }
 
     @GetMapping("/by-code/{code}")
@@ -4,10 +4,14 @@ import com.example.department.annotation.ApiVersion;
 import com.example.department.domain.Department;
 import com.example.department.dto.*;
 import com.example.department.service.DepartmentService;
+import com.example.department.web.ConditionalRequests;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Map;
 
 /**
  * Department Controller V2 - Enhanced API with additional features
@@ -26,7 +30,9 @@ public class DepartmentControllerV2 {
             @RequestParam(required = false) String code,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "name,asc") String sort) {
+            @RequestParam(defaultValue = "name,asc") String sort,
+            @RequestParam(required = false) String count,
+            WebRequest webRequest) {
         
         DepartmentSearchRequest request = DepartmentSearchRequest.builder()
                 .name(name)
@@ -34,15 +40,61 @@ public class DepartmentControllerV2 {
                 .page(page)
                 .size(size)
                 .sort(sort)
+                .countStrategy(CountStrategy.from(count))
                 .build();
         
-        return service.getAllPaginated(request);
+        if (ConditionalRequests.isConditional(webRequest)
+                && ConditionalRequests.checkNotModified(webRequest, service.getPageValidator(request))) {
+            return null;
+        }
+        PageResponse<DepartmentDTO> response = service.getAllPaginated(request);
+        ConditionalRequests.checkNotModified(webRequest, DepartmentService.validatorOf(response));
+        return response;
+    }
+
+    /** Sparse fieldset, e.g. {@code ?fields=id,code}; only those columns are selected. */
+    @GetMapping(params = "fields")
+    public PageResponse<Map<String, Object>> getAllFields(
+            @RequestParam String fields,
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String code,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "name,asc") String sort,
+            @RequestParam(required = false) String count) {
+
+        DepartmentSearchRequest request = DepartmentSearchRequest.builder()
+                .name(name)
+                .code(code)
+                .page(page)
+                .size(size)
+                .sort(sort)
+                .countStrategy(CountStrategy.from(count))
+                .build();
+
+        return service.getAllPaginated(request, fields);
     }
 
     @GetMapping("/{id}")
-    public DepartmentDTO getById(@PathVariable Long id) {
-        Department department = service.getById(id);
-        return service.toDTO(department);
+    public DepartmentDTO getById(@PathVariable Long id, WebRequest webRequest) {
+        if (ConditionalRequests.isConditional(webRequest)
+                && ConditionalRequests.checkNotModified(webRequest, service.getValidator(id))) {
+            return null;
+        }
+        DepartmentDTO dto = service.toDTO(service.getById(id));
+        ConditionalRequests.checkNotModified(webRequest, DepartmentService.validatorOf(dto));
+        return dto;
+    }
+
+    /** Up to 500 departments in one call. */
+    @PostMapping("/batch-get")
+    public DepartmentBatchGetResponse batchGet(@Valid @RequestBody DepartmentBatchGetRequest request) {
+        return service.getByIds(request.getIds());
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public Map<String, Object> getByIdFields(@PathVariable Long id, @RequestParam String fields) {
+        return service.getById(id, fields);
     }
 
     @GetMapping("/code/{code}")
@@ -0,0 +1,4 @@
+-- Columns mapped by Department that V1 did not create, plus a version for ETags and optimistic locking
+ALTER TABLE department.departments ADD COLUMN IF NOT EXISTS created_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE department.departments ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP;
+ALTER TABLE department.departments ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,13 @@
+-- Indexes behind the listing filters and sort keys (see DepartmentSpecifications).
+-- text_pattern_ops lets lower(col) LIKE 'prefix%' use the index under any collation.
+
+-- Default listing order (name, id)
+CREATE INDEX IF NOT EXISTS idx_departments_name
+    ON department.departments (name, id);
+
+-- Case-insensitive name and code prefix filters
+CREATE INDEX IF NOT EXISTS idx_departments_name_lower
+    ON department.departments (lower(name) text_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_departments_code_lower
+    ON department.departments (lower(code) text_pattern_ops);
@@ -0,0 +1,7 @@
+-- Listings sort by name and code, and DepartmentSnapshot serves the same pages from memory.
+-- The "C" collation orders by code point whatever the server locale, which the snapshot
+-- reproduces exactly; locale collations such as en_US.utf8 have no Java equivalent.
+-- The indexes on these columns are rebuilt with the new collation.
+ALTER TABLE department.departments
+    ALTER COLUMN name TYPE VARCHAR(120) COLLATE "C",
+    ALTER COLUMN code TYPE VARCHAR(20) COLLATE "C";
@@ -0,0 +1,51 @@
+package com.example.department.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class SecondLevelCacheConfigTest {
+
+    private final SecondLevelCacheConfig config = new SecondLevelCacheConfig();
+
+    @Test
+    @DisplayName("cache regions are bounded by max-entries")
+    void regions_are_heap_bounded() {
+        DepartmentCacheProperties properties = new DepartmentCacheProperties();
+        properties.setMaxEntries(10);
+
+        try (CacheManager cacheManager = config.hibernateCacheManager(properties)) {
+            Cache<Object, Object> region = cacheManager.getCache(SecondLevelCacheConfig.DEPARTMENT_REGION);
+            for (long id = 0; id < 50; id++) {
+                region.put(id, "department-" + id);
+            }
+
+            assertThat(StreamSupport.stream(region.spliterator(), false).count()).isLessThanOrEqualTo(10);
+            assertThat(cacheManager.getCache(SecondLevelCacheConfig.DEPARTMENT_QUERY_REGION)).isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("without a cache manager the second-level and query caches are switched off")
+    @SuppressWarnings("unchecked")
+    void disabled_switches_off_hibernate_caching() {
+        ObjectProvider<CacheManager> none = mock(ObjectProvider.class);
+        Map<String, Object> hibernateProperties = new HashMap<>();
+
+        config.secondLevelCacheCustomizer(none).customize(hibernateProperties);
+
+        assertThat(hibernateProperties)
+                .containsEntry(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+                .containsEntry(AvailableSettings.USE_QUERY_CACHE, false);
+    }
+}
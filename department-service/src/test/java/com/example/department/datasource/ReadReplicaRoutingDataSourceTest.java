@@ -0,0 +1,78 @@
+package com.example.department.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.transaction.support.TransactionSynchronizationManager.*;
+
+class ReadReplicaRoutingDataSourceTest {
+
+    private final ReplicationLagMonitor monitor = mock(ReplicationLagMonitor.class);
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ReadReplicaRoutingDataSource routing = routing();
+
+    private ReadReplicaRoutingDataSource routing() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", mock(DataSource.class));
+        replicas.put("replica-1", mock(DataSource.class));
+        return new ReadReplicaRoutingDataSource(mock(DataSource.class), replicas, monitor, registry);
+    }
+
+    @AfterEach
+    void clearTransaction() {
+        setActualTransactionActive(false);
+        setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("write transactions and non-transactional access go to the primary")
+    void writes_go_to_primary() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+
+        setActualTransactionActive(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("read-only transactions skip lagging replicas")
+    void read_only_uses_healthy_replica() {
+        when(monitor.isHealthy("replica-0")).thenReturn(false);
+        when(monitor.isHealthy("replica-1")).thenReturn(true);
+        setActualTransactionActive(true);
+        setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    @DisplayName("read-only transactions fall back to the primary when every replica lags")
+    void read_only_falls_back_when_all_lag() {
+        setActualTransactionActive(true);
+        setCurrentTransactionReadOnly(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+        assertThat(registry.counter("datasource.routing", "target", "lag_fallback").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("read-only transactions use the primary when no replica is configured")
+    void read_only_without_replicas_uses_primary() {
+        ReadReplicaRoutingDataSource primaryOnly =
+                new ReadReplicaRoutingDataSource(mock(DataSource.class), Map.of(), monitor, registry);
+        setActualTransactionActive(true);
+        setCurrentTransactionReadOnly(true);
+
+        assertThat(primaryOnly.determineCurrentLookupKey()).isEqualTo(ReadReplicaRoutingDataSource.PRIMARY);
+        assertThat(registry.counter("datasource.routing", "target", "primary").count()).isEqualTo(1.0);
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.department.repo;
+
+import com.example.department.repo.QueryPlanHarness.QueryCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.testcontainers.DockerClientFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/**
+ * Plan regression suite for every {@link DepartmentRepository} query over a table seeded with
+ * {@link QueryPlanHarness#ROWS} departments, explaining the SQL the repository actually sends.
+ * The plans are tagged {@code query-plan} and need Docker; run them with
+ * {@code mvn test -Pquery-plans}.
+ */
+class DepartmentQueryPlanTest {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20, Sort.by("name", "id"));
+
+    /**
+     * Each repository method called with representative arguments; the harness explains every
+     * statement the call sends. Budgets are shared buffers (hit + read) per statement; a
+     * sequential scan of the seeded heap is tens of thousands of pages, so any budget here is
+     * only exceeded by a plan change.
+     */
+    static List<QueryCase<DepartmentRepository>> cases() {
+        return List.of(
+                QueryCase.of("existsByCode", repo -> repo.existsByCode("D4242"), 20),
+                QueryCase.of("existsByCodeAndIdNot", repo -> repo.existsByCodeAndIdNot("D4242", 1L), 20),
+                QueryCase.of("findByCode", repo -> repo.findByCode("D4242"), 20),
+                QueryCase.of("estimateCount", DepartmentRepository::estimateCount, 20),
+                QueryCase.of("findContentByFilters", "unfiltered",
+                        repo -> repo.findContentByFilters(null, null, FIRST_PAGE), 100),
+                QueryCase.of("findContentByFilters", "name prefix",
+                        repo -> repo.findContentByFilters("dept 00012", null, FIRST_PAGE), 500),
+                QueryCase.of("findContentByFilters", "code prefix",
+                        repo -> repo.findContentByFilters(null, "d4242", FIRST_PAGE), 500),
+                QueryCase.of("findContentByFilters", "by code",
+                        repo -> repo.findContentByFilters(null, null,
+                                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "code", "id"))), 100),
+                QueryCase.of("findProjectedByFilters",
+                        repo -> repo.findProjectedByFilters(List.of("id", "name"), "dept 00012", null, FIRST_PAGE), 500),
+                QueryCase.of("countByFilters", repo -> repo.countByFilters("dept 00012", null), 500),
+                QueryCase.of("findProjectedById", repo -> repo.findProjectedById(List.of("id", "code"), 42L), 20));
+    }
+
+    @Test
+    @DisplayName("every repository method has a plan case")
+    void every_repository_method_is_covered() {
+        Set<String> methods = Stream.of(DepartmentRepository.class, DepartmentProjectionRepository.class)
+                .flatMap(type -> Arrays.stream(type.getDeclaredMethods()))
+                .filter(method -> !method.isSynthetic() && !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+
+        assertThat(cases().stream().map(QueryCase::method).collect(Collectors.toSet()))
+                .containsExactlyInAnyOrderElementsOf(methods);
+    }
+
+    @Tag("query-plan")
+    @TestFactory
+    @DisplayName("repository queries use indexes within their buffer budget")
+    Stream<DynamicTest> plans() throws SQLException {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "query plan tests need Docker");
+        QueryPlanHarness harness = QueryPlanHarness.start("department", "flyway_schema_history_departments");
+        harness.seed("INSERT INTO department.departments (name, code, description) "
+                + "SELECT 'Dept ' || lpad((i % 100000)::text, 6, '0'), 'D' || i, 'Seeded department ' || i "
+                + "FROM generate_series(1, " + QueryPlanHarness.ROWS + ") AS i");
+        DepartmentRepository repository = harness.repository(DepartmentRepository.class);
+        return cases().stream()
+                .map(queryCase -> dynamicTest(queryCase.name(), () -> harness.assertPlan(queryCase, repository)))
+                .onClose(() -> {
+                    try {
+                        harness.close();
+                    } catch (SQLException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                });
+    }
+}
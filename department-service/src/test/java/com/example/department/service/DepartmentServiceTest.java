@@ -1,17 +1,31 @@
 package com.example.department.service;
 
+import com.example.department.cache.TwoTierCache;
+import com.example.department.cache.TwoTierCacheManager;
+import com.example.department.client.EmployeeClient;
 import com.example.department.domain.Department;
+import com.example.department.dto.DepartmentBatchGetResponse;
+import com.example.department.dto.DepartmentDTO;
+import com.example.department.dto.DepartmentPatchRequest;
+import com.example.department.event.DepartmentUpdatedEvent;
+import com.example.department.exception.EmployeeServiceException;
+import com.example.department.messaging.DepartmentEventPublisher;
+import com.example.department.metrics.DepartmentMetrics;
 import com.example.department.repo.DepartmentRepository;
+import com.example.department.snapshot.DepartmentReadSnapshot;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -24,6 +38,24 @@ class DepartmentServiceTest {
     @Mock
     DepartmentRepository repository;
 
+    @Mock
+    ListingCounter listingCounter;
+
+    @Mock
+    DepartmentReadSnapshot readSnapshot;
+
+    @Mock
+    DepartmentEventPublisher eventPublisher;
+
+    @Mock
+    EmployeeClient employeeClient;
+
+    @Mock
+    DepartmentMetrics metrics;
+
+    @Mock
+    TwoTierCacheManager cacheManager;
+
     @InjectMocks
     DepartmentService service;
 
@@ -75,6 +107,23 @@ class DepartmentServiceTest {
         verify(repository).findById(999L);
     }
 
+    @Test
+    @DisplayName("getByIds(): one IN query for the distinct ids; missing ids reported")
+    void getByIds_loads_once_and_reports_missing() {
+        // Given
+        when(repository.findAllById(List.of(2L, 1L, 3L))).thenReturn(List.of(
+                Department.builder().id(1L).name("IT").code("IT").build(),
+                Department.builder().id(2L).name("HR").code("HR").build()));
+
+        // When
+        DepartmentBatchGetResponse result = service.getByIds(List.of(2L, 1L, 2L, 3L));
+
+        // Then
+        assertThat(result.getFound()).extracting(DepartmentDTO::getCode).containsExactly("HR", "IT");
+        assertThat(result.getMissingIds()).containsExactly(3L);
+        verify(repository).findAllById(List.of(2L, 1L, 3L));
+    }
+
     @Test
     @DisplayName("create(): saves and returns department")
     void create_saves_and_returns_department() {
@@ -92,4 +141,59 @@ class DepartmentServiceTest {
         assertThat(result.getName()).isEqualTo("Finance");
         verify(repository).save(input);
     }
+
+    @Test
+    @DisplayName("getById(fields): returns only the requested columns plus id")
+    void getById_with_fields_returns_projection() {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("id")).thenReturn(1L);
+        when(tuple.get("code")).thenReturn("IT");
+        when(repository.findProjectedById(List.of("id", "code"), 1L)).thenReturn(Optional.of(tuple));
+
+        Map<String, Object> row = service.getById(1L, "code");
+
+        assertThat(row).containsExactly(entry("id", 1L), entry("code", "IT"));
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("patch(): publishes the update so other instances refresh their snapshots")
+    void patch_publishes_department_updated() {
+        Department department = Department.builder().id(1L).name("IT").code("IT").build();
+        when(repository.findById(1L)).thenReturn(Optional.of(department));
+        when(repository.saveAndFlush(department)).thenReturn(department);
+        when(cacheManager.getCache(any())).thenReturn(mock(TwoTierCache.class));
+
+        service.patch(1L, DepartmentPatchRequest.builder().name("Information Technology").build());
+
+        ArgumentCaptor<DepartmentUpdatedEvent> event = ArgumentCaptor.forClass(DepartmentUpdatedEvent.class);
+        verify(eventPublisher).publishDepartmentUpdated(event.capture());
+        assertThat(event.getValue().getDepartmentId()).isEqualTo(1L);
+        assertThat(event.getValue().getName()).isEqualTo("Information Technology");
+        verify(readSnapshot).put(department);
+    }
+
+    @Test
+    @DisplayName("delete(): fails closed when the employee service cannot list the department's employees")
+    void delete_fails_closed_when_employees_cannot_be_checked() {
+        when(repository.findById(1L)).thenReturn(Optional.of(Department.builder().id(1L).code("IT").build()));
+        when(employeeClient.getEmployeesByDepartment(1L))
+                .thenThrow(new EmployeeServiceException("Employee service unavailable"));
+
+        assertThatThrownBy(() -> service.delete(1L)).isInstanceOf(EmployeeServiceException.class);
+        verify(repository, never()).deleteById(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("delete(): an unexpected client error also blocks the delete")
+    void delete_fails_closed_on_unexpected_client_error() {
+        when(repository.findById(1L)).thenReturn(Optional.of(Department.builder().id(1L).code("IT").build()));
+        when(employeeClient.getEmployeesByDepartment(1L)).thenThrow(new IllegalStateException("decode"));
+
+        assertThatThrownBy(() -> service.delete(1L))
+                .isInstanceOf(EmployeeServiceException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        verify(repository, never()).deleteById(any());
+    }
 }
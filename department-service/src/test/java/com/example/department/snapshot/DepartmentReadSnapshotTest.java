@@ -0,0 +1,52 @@
+package com.example.department.snapshot;
+
+import com.example.department.domain.Department;
+import com.example.department.repo.DepartmentRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.example.department.snapshot.DepartmentSnapshotTest.department;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DepartmentReadSnapshotTest {
+
+    final DepartmentRepository repository = mock(DepartmentRepository.class);
+    final EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+    final Cache secondLevel = mock(Cache.class);
+    final DepartmentReadSnapshot readSnapshot = new DepartmentReadSnapshot(repository,
+            new TransactionTemplate(mock(PlatformTransactionManager.class)), entityManagerFactory,
+            new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("reload re-reads past a stale second-level cache entry")
+    void reload_evicts_stale_second_level_entry() {
+        Department stale = department(1, "Engineering", "ENG", 0);
+        Department fresh = department(1, "Platform Engineering", "ENG", 1);
+        // The L2 region answers findById until the entry is evicted
+        AtomicReference<Department> cached = new AtomicReference<>(stale);
+        when(entityManagerFactory.getCache()).thenReturn(secondLevel);
+        doAnswer(invocation -> {
+            cached.set(fresh);
+            return null;
+        }).when(secondLevel).evict(Department.class, 1L);
+        when(repository.findAll()).thenReturn(List.of(stale));
+        when(repository.findById(1L)).thenAnswer(invocation -> Optional.of(cached.get()));
+        readSnapshot.load();
+
+        readSnapshot.reload(1L);
+
+        verify(secondLevel).evict(Department.class, 1L);
+        assertThat(readSnapshot.current().flatMap(snapshot -> snapshot.findById(1L)))
+                .map(Department::getName).contains("Platform Engineering");
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.department.snapshot;
+
+import com.example.department.domain.Department;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class DepartmentSnapshotTest {
+
+    static Department department(long id, String name, String code, long version) {
+        return Department.builder().id(id).name(name).code(code).version(version).build();
+    }
+
+    final DepartmentSnapshot snapshot = DepartmentSnapshot.of(List.of(
+            department(3, "Operations", "OPS", 0),
+            department(1, "Engineering", "ENG", 0),
+            department(2, "Finance", "FIN", 0),
+            department(4, "Engineering Tools", "ETL", 0)));
+
+    @Test
+    @DisplayName("pages filter and sort like the database listing")
+    void filters_sorts_and_pages() {
+        Sort byName = Sort.by("name").and(Sort.by("id"));
+
+        Page<Department> first = snapshot.find(null, null, PageRequest.of(0, 2, byName));
+        assertThat(first.getContent()).extracting(Department::getId).containsExactly(1L, 4L);
+        assertThat(first.getTotalElements()).isEqualTo(4);
+
+        assertThat(snapshot.find("engineering", null, PageRequest.of(0, 10, byName)).getContent())
+                .extracting(Department::getCode).containsExactly("ENG", "ETL");
+        assertThat(snapshot.find("*ion", null, PageRequest.of(0, 10, byName)).getContent())
+                .extracting(Department::getCode).containsExactly("OPS");
+        assertThat(snapshot.find(null, "e", PageRequest.of(0, 10,
+                Sort.by(Sort.Direction.DESC, "code").and(Sort.by(Sort.Direction.DESC, "id")))).getContent())
+                .extracting(Department::getCode).containsExactly("ETL", "ENG");
+        assertThat(snapshot.find(null, null, PageRequest.of(1, 3, Sort.by("id"))).getContent())
+                .extracting(Department::getId).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("names sort by code point like the C collation of the name column")
+    void sorts_mixed_case_names_like_the_database() {
+        DepartmentSnapshot mixed = DepartmentSnapshot.of(List.of(
+                department(1, "legal", "LEG", 0),
+                department(2, "Marketing", "MKT", 0),
+                department(3, "\uFF21udit", "AUD", 0),
+                department(4, "\uD83D\uDE00 Fun", "FUN", 0),
+                department(5, "IT", "IT", 0)));
+
+        assertThat(mixed.find(null, null, PageRequest.of(0, 10, Sort.by("name").and(Sort.by("id")))).getContent())
+                .extracting(Department::getId).containsExactly(5L, 2L, 1L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("changes return a new snapshot and leave the old one untouched")
+    void copy_on_write() {
+        DepartmentSnapshot renamed = snapshot.with(department(2, "Accounting", "ACC", 1));
+        DepartmentSnapshot removed = renamed.without(3L);
+
+        assertThat(snapshot.findByCode("FIN")).isPresent();
+        assertThat(renamed.findByCode("FIN")).isEmpty();
+        assertThat(renamed.findByCode("ACC")).get().extracting(Department::getName).isEqualTo("Accounting");
+        assertThat(renamed.with(department(2, "Stale", "STL", 0))).isSameAs(renamed);
+        assertThat(removed.findAll()).extracting(Department::getId).containsExactly(1L, 2L, 4L);
+        assertThat(snapshot.findById(3L)).isPresent();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.department.web;
+
+import com.example.department.config.ApiVersionHandlerMapping;
+import com.example.department.domain.Department;
+import com.example.department.dto.DepartmentBatchGetResponse;
+import com.example.department.dto.DepartmentDTO;
+import com.example.department.service.DepartmentService;
+import com.example.department.web.v2.DepartmentControllerV2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * The requests employee-service's DepartmentClient sends, against the versioned mapping of
+ * both department controllers.
+ */
+class DepartmentClientMappingTest {
+
+    final DepartmentService service = mock(DepartmentService.class);
+    final MockMvc mvc = MockMvcBuilders
+            .standaloneSetup(new DepartmentController(service), new DepartmentControllerV2(service))
+            .setCustomHandlerMapping(ApiVersionHandlerMapping::new)
+            .build();
+
+    @Test
+    @DisplayName("batch-get is served by v2 under /api/departments")
+    void batch_get_is_mapped() throws Exception {
+        when(service.getByIds(List.of(1L, 2L))).thenReturn(DepartmentBatchGetResponse.builder()
+                .found(List.of(DepartmentDTO.builder().id(1L).code("ENG").build()))
+                .missingIds(List.of(2L))
+                .build());
+
+        mvc.perform(post("/api/departments/batch-get").header("API-Version", "v2")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"ids\":[1,2]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.found[0].code").value("ENG"))
+                .andExpect(jsonPath("$.missingIds[0]").value(2));
+        mvc.perform(post("/api/v1/departments/batch-get").header("API-Version", "v2")
+                        .contentType(MediaType.APPLICATION_JSON).content("{\"ids\":[1,2]}"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("single lookups by id (v1) and by code (v2) are mapped")
+    void single_lookups_are_mapped() throws Exception {
+        when(service.getById(1L)).thenReturn(Department.builder().id(1L).code("ENG").build());
+        when(service.getByCode("ENG")).thenReturn(DepartmentDTO.builder().id(1L).code("ENG").build());
+
+        mvc.perform(get("/api/departments/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("ENG"));
+        mvc.perform(get("/api/departments/code/ENG").header("API-Version", "v2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.employee.cache;
+
+import java.util.Set;
+
+/**
+ * Names of the two-tier caches used by the employee service.
+ */
+public final class CacheNames {
+
+    /** Department lookups from department-service, keyed by department id. */
+    public static final String DEPARTMENTS = "departments";
+
+    /** Department-enriched employee DTOs, keyed by employee id. */
+    public static final String EMPLOYEES = "employees";
+
+    /** Listing totals, keyed by filter signature; cleared on every employee write. */
+    public static final String EMPLOYEE_COUNTS = "employee-counts";
+
+    /**
+     * Department-enriched listing pages, keyed by normalized filter, page and sort; cleared on
+     * every employee write and department change. Local only: the shared tier stores JSON by
+     * class and cannot restore the page's element type.
+     */
+    public static final String EMPLOYEE_PAGES = "employee-pages";
+
+    /** Caches that never use the shared tier. */
+    public static final Set<String> LOCAL_ONLY = Set.of(EMPLOYEE_PAGES);
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.employee.cache;
+
+import java.time.Duration;
+
+/**
+ * Resolved settings of one named two-tier cache.
+ *
+ * @param ttl                  how long an entry is fresh
+ * @param maxEntries           local (L1) bound in entries
+ * @param maxBytes             local (L1) bound in estimated bytes; 0 bounds by entries only
+ * @param singleFlight         concurrent misses for one key share a single load
+ * @param earlyRefreshBeta     probabilistic early refresh aggressiveness (0 disables; 1 is the usual choice)
+ * @param staleWhileRevalidate how long past expiry an entry may still be served while it is reloaded
+ */
+public record CachePolicy(Duration ttl, long maxEntries, long maxBytes, boolean singleFlight, double earlyRefreshBeta,
+                          Duration staleWhileRevalidate) {
+}
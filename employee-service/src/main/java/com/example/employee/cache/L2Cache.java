@@ -0,0 +1,38 @@
+package com.example.employee.cache;
+
+import java.time.Duration;
+
+/**
+ * Shared second tier behind the per-instance L1 caches. Implementations must
+ * treat backend failures as misses so a cache outage never fails a request.
+ */
+public interface L2Cache {
+
+    /** Used when no shared tier is configured. */
+    L2Cache NONE = new L2Cache() {
+        @Override
+        public <T> T get(String cacheName, String key, Class<T> type) {
+            return null;
+        }
+
+        @Override
+        public void put(String cacheName, String key, Object value, Duration ttl) {
+        }
+
+        @Override
+        public void evict(String cacheName, String key) {
+        }
+
+        @Override
+        public void clear(String cacheName) {
+        }
+    };
+
+    <T> T get(String cacheName, String key, Class<T> type);
+
+    void put(String cacheName, String key, Object value, Duration ttl);
+
+    void evict(String cacheName, String key);
+
+    void clear(String cacheName);
+}
@@ -0,0 +1,124 @@
+package com.example.employee.cache;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rough heap footprint of cached values, for weighing L1 entries against a byte budget.
+ * Application objects are walked field by field; strings, numbers, dates, collections and
+ * maps get flat estimates instead of reflecting into JDK internals. Objects reachable
+ * twice, such as a department shared by a page of employees, are counted once.
+ * Accurate to within a small factor, which is all a cache bound needs.
+ */
+public final class ObjectSizeEstimator {
+
+    private static final int HEADER = 16;
+    private static final int REFERENCE = 8;
+    private static final int ENTRY = 32;
+
+    private static final Map<Class<?>, List<Field>> FIELDS = new ConcurrentHashMap<>();
+
+    private ObjectSizeEstimator() {
+    }
+
+    public static long estimate(Object value) {
+        return estimate(value, Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private static long estimate(Object value, Set<Object> seen) {
+        if (value == null || value instanceof Enum<?> || value instanceof Class<?> || !seen.add(value)) {
+            return 0;
+        }
+        if (value instanceof CharSequence text) {
+            return HEADER + 24 + text.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return HEADER + 8;
+        }
+        if (value instanceof TemporalAccessor) {
+            return HEADER + 32;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = HEADER + 16 + (long) collection.size() * REFERENCE;
+            for (Object element : collection) {
+                size += estimate(element, seen);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = HEADER + 32 + (long) map.size() * ENTRY;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += estimate(entry.getKey(), seen) + estimate(entry.getValue(), seen);
+            }
+            return size;
+        }
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(value);
+            Class<?> component = type.getComponentType();
+            if (component.isPrimitive()) {
+                return HEADER + (long) length * primitiveSize(component);
+            }
+            long size = HEADER + (long) length * REFERENCE;
+            for (int i = 0; i < length; i++) {
+                size += estimate(Array.get(value, i), seen);
+            }
+            return size;
+        }
+        if (type.getName().startsWith("java.")) {
+            // Not reflectable under the module system; close enough for the few that end up here
+            return HEADER + 16;
+        }
+        long size = HEADER;
+        for (Field field : fieldsOf(type)) {
+            if (field.getType().isPrimitive()) {
+                size += primitiveSize(field.getType());
+            } else {
+                size += REFERENCE;
+                try {
+                    size += estimate(field.get(value), seen);
+                } catch (IllegalAccessException ignored) {
+                    // Counted as a bare reference
+                }
+            }
+        }
+        return size;
+    }
+
+    private static List<Field> fieldsOf(Class<?> type) {
+        return FIELDS.computeIfAbsent(type, t -> {
+            List<Field> fields = new ArrayList<>();
+            for (Class<?> c = t; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers()) && field.trySetAccessible()) {
+                        fields.add(field);
+                    }
+                }
+            }
+            return List.copyOf(fields);
+        });
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.employee.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis-backed L2 storing entries as JSON under {@code <prefix><cache>::<key>}.
+ */
+@Slf4j
+public class RedisL2Cache implements L2Cache {
+
+    private final StringRedisTemplate redis;
+    private final ObjectMapper objectMapper;
+    private final String keyPrefix;
+
+    public RedisL2Cache(StringRedisTemplate redis, ObjectMapper objectMapper, String keyPrefix) {
+        this.redis = redis;
+        this.objectMapper = objectMapper;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public <T> T get(String cacheName, String key, Class<T> type) {
+        try {
+            String json = redis.opsForValue().get(redisKey(cacheName, key));
+            return json == null ? null : objectMapper.readValue(json, type);
+        } catch (Exception e) {
+            log.warn("L2 read of {}::{} failed, treating as miss: {}", cacheName, key, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void put(String cacheName, String key, Object value, Duration ttl) {
+        try {
+            redis.opsForValue().set(redisKey(cacheName, key), objectMapper.writeValueAsString(value), ttl);
+        } catch (Exception e) {
+            log.warn("L2 write of {}::{} failed: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void evict(String cacheName, String key) {
+        try {
+            redis.delete(redisKey(cacheName, key));
+        } catch (Exception e) {
+            log.warn("L2 eviction of {}::{} failed: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        ScanOptions options = ScanOptions.scanOptions().match(redisKey(cacheName, "*")).count(500).build();
+        try (Cursor<String> cursor = redis.scan(options)) {
+            List<String> batch = new ArrayList<>();
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == 500) {
+                    redis.delete(batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                redis.delete(batch);
+            }
+        } catch (Exception e) {
+            log.warn("L2 clear of {} failed: {}", cacheName, e.getMessage());
+        }
+    }
+
+    private String redisKey(String cacheName, String key) {
+        return keyPrefix + cacheName + "::" + key;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.employee.cache;
+
+import com.example.employee.config.EmployeeCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates and holds the named two-tier caches, configured from {@link EmployeeCacheProperties},
+ * and the small pool that runs their background refreshes.
+ */
+public class TwoTierCacheManager {
+
+    private final EmployeeCacheProperties properties;
+    private final L2Cache shared;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor refreshExecutor;
+
+    public TwoTierCacheManager(EmployeeCacheProperties properties, L2Cache shared, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.shared = shared;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threads = new AtomicInteger();
+        // Refreshes are best effort: when the queue is full the cached value is simply served a while longer
+        this.refreshExecutor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(256), r -> {
+                    Thread t = new Thread(r, "cache-refresh-" + threads.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public TwoTierCache getCache(String name) {
+        return caches.computeIfAbsent(name, this::create);
+    }
+
+    private TwoTierCache create(String name) {
+        return new TwoTierCache(name, properties.isEnabled(), properties.policyFor(name),
+                CacheNames.LOCAL_ONLY.contains(name) ? L2Cache.NONE : shared,
+                refreshExecutor, meterRegistry);
+    }
+
+    public void close() {
+        refreshExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.employee.client;
+
+import com.example.employee.dto.DepartmentBatchGetRequest;
+import com.example.employee.dto.DepartmentBatchGetResponse;
+import com.example.employee.dto.DepartmentDTO;
+import io.micrometer.context.ContextScheduledExecutorService;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects department lookups from all in-flight requests and sends them to department-service
+ * as one batch-get, DataLoader style. A batch leaves {@code window} after its first id was
+ * queued, or as soon as it holds {@code maxBatchSize} distinct ids; an id already queued
+ * shares the pending lookup. Ids department-service does not know complete with null. A
+ * zero window calls {@link DepartmentClient#getDepartment} directly.
+ * <p>
+ * A batch is sent in the context (trace, request profile) of the lookup that opened or
+ * filled it, so its call shows up in that request rather than in none.
+ */
+public class DepartmentBatchLoader implements DisposableBean {
+
+    private record Pending(CompletableFuture<DepartmentDTO> future, long queuedAt) {
+    }
+
+    private final DepartmentClient client;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService dispatcher;
+    private final Timer queueWait;
+    private final DistributionSummary batchSize;
+    private Map<Long, Pending> batch = new LinkedHashMap<>();
+
+    public DepartmentBatchLoader(DepartmentClient client, Duration window, int maxBatchSize, int dispatchThreads,
+                                 MeterRegistry meterRegistry) {
+        this.client = client;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.queueWait = Timer.builder("department.loader.queue.wait")
+                .description("Time a department lookup waited for its batch to be sent")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("department.loader.batch.size")
+                .description("Distinct department ids per batch-get call")
+                .register(meterRegistry);
+        AtomicInteger threads = new AtomicInteger();
+        this.dispatcher = windowNanos == 0 ? null : ContextScheduledExecutorService.wrap(
+                Executors.newScheduledThreadPool(dispatchThreads, r -> {
+                    Thread t = new Thread(r, "department-loader-" + threads.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }), ContextSnapshot::captureAll);
+    }
+
+    public CompletableFuture<DepartmentDTO> load(Long departmentId) {
+        if (dispatcher == null) {
+            try {
+                return CompletableFuture.completedFuture(client.getDepartment(departmentId));
+            } catch (RuntimeException ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+        Map<Long, Pending> full = null;
+        Map<Long, Pending> opened = null;
+        CompletableFuture<DepartmentDTO> future;
+        synchronized (this) {
+            Pending queued = batch.get(departmentId);
+            if (queued != null) {
+                return queued.future();
+            }
+            future = new CompletableFuture<>();
+            if (batch.isEmpty()) {
+                opened = batch;
+            }
+            batch.put(departmentId, new Pending(future, System.nanoTime()));
+            if (batch.size() >= maxBatchSize) {
+                full = batch;
+                batch = new LinkedHashMap<>();
+            }
+        }
+        try {
+            if (full != null) {
+                Map<Long, Pending> ready = full;
+                dispatcher.execute(() -> dispatch(ready));
+            } else if (opened != null) {
+                Map<Long, Pending> window = opened;
+                dispatcher.schedule(() -> dispatchIfWaiting(window), windowNanos, TimeUnit.NANOSECONDS);
+            }
+        } catch (RejectedExecutionException ex) {
+            future.completeExceptionally(ex);
+        }
+        return future;
+    }
+
+    /** Sends the batch unless it already filled up and left on its own. */
+    private void dispatchIfWaiting(Map<Long, Pending> window) {
+        synchronized (this) {
+            if (batch != window) {
+                return;
+            }
+            batch = new LinkedHashMap<>();
+        }
+        dispatch(window);
+    }
+
+    private void dispatch(Map<Long, Pending> ready) {
+        long now = System.nanoTime();
+        ready.values().forEach(p -> queueWait.record(now - p.queuedAt(), TimeUnit.NANOSECONDS));
+        batchSize.record(ready.size());
+        try {
+            DepartmentBatchGetResponse response = client.getDepartments(DepartmentBatchGetRequest.builder()
+                    .ids(new ArrayList<>(ready.keySet()))
+                    .build());
+            Map<Long, DepartmentDTO> found = new HashMap<>();
+            if (response != null && response.getFound() != null) {
+                response.getFound().forEach(d -> found.put(d.getId(), d));
+            }
+            ready.forEach((id, p) -> p.future().complete(found.get(id)));
+        } catch (RuntimeException ex) {
+            ready.values().forEach(p -> p.future().completeExceptionally(ex));
+        }
+    }
+
+    /** Fails whatever is still queued so no caller waits on a stopped dispatcher. */
+    @Override
+    public void destroy() {
+        if (dispatcher != null) {
+            dispatcher.shutdownNow();
+            synchronized (this) {
+                IllegalStateException stopped = new IllegalStateException("Department loader stopped");
+                batch.values().forEach(p -> p.future().completeExceptionally(stopped));
+                batch = new LinkedHashMap<>();
+            }
+        }
+    }
+}
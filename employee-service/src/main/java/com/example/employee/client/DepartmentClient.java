@@ -1,21 +1,32 @@
 package com.example.employee.client;
 
+import com.example.employee.dto.DepartmentBatchGetRequest;
+import com.example.employee.dto.DepartmentBatchGetResponse;
 import com.example.employee.dto.DepartmentDTO;
 import com.example.employee.resilience.DepartmentServiceFallback;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
+/**
+ * Calls department-service. Its controllers share {@code /api/departments} and are told apart
+ * by the {@code API-Version} header (v1 when absent), so paths are absolute and carry no version.
+ */
 @FeignClient(
     name = "DEPARTMENT-SERVICE", 
-    path = "/api/v1/departments",
     fallback = DepartmentServiceFallback.class
 )
 public interface DepartmentClient {
 
-    @GetMapping("/{id}")
+    @GetMapping("/api/departments/{id}")
     DepartmentDTO getDepartment(@PathVariable("id") Long id);
     
-    @GetMapping("/code/{code}")
+    @GetMapping(value = "/api/departments/code/{code}", headers = "API-Version=v2")
     DepartmentDTO getDepartmentByCode(@PathVariable("code") String code);
+
+    /** Up to 500 departments in one call; see {@link DepartmentBatchLoader}. */
+    @PostMapping(value = "/api/departments/batch-get", headers = "API-Version=v2")
+    DepartmentBatchGetResponse getDepartments(@RequestBody DepartmentBatchGetRequest request);
 }
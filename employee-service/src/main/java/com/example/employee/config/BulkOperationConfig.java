@@ -0,0 +1,9 @@
+package com.example.employee.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(BulkOperationProperties.class)
+public class BulkOperationConfig {
+}
@@ -0,0 +1,18 @@
+package com.example.employee.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Set-based bulk update/delete settings under {@code employee.service.bulk}
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.service.bulk")
+public class BulkOperationProperties {
+    /** Rows touched per statement; each chunk commits in its own transaction. */
+    private int chunkSize = 500;
+    /** Upper bound on explicit ids in one request. */
+    private int maxIds = 10_000;
+    /** Upper bound on ids in one batch-get request. */
+    private int batchGetMaxIds = 500;
+}
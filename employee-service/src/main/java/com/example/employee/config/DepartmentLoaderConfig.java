@@ -0,0 +1,25 @@
+package com.example.employee.config;
+
+import com.example.employee.client.DepartmentBatchLoader;
+import com.example.employee.client.DepartmentClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@EnableConfigurationProperties(DepartmentLoaderProperties.class)
+public class DepartmentLoaderConfig {
+
+    /** Calls department-service once per id unless batching is enabled. */
+    @Bean
+    public DepartmentBatchLoader departmentBatchLoader(DepartmentClient departmentClient,
+                                                       DepartmentLoaderProperties properties,
+                                                       MeterRegistry meterRegistry) {
+        return new DepartmentBatchLoader(departmentClient,
+                properties.isEnabled() ? properties.getWindow() : Duration.ZERO,
+                Math.min(properties.getMaxBatchSize(), 500), properties.getDispatchThreads(), meterRegistry);
+    }
+}
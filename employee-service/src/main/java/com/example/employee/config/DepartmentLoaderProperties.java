@@ -0,0 +1,22 @@
+package com.example.employee.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Cross-request batching of department lookups under {@code employee.service.department-loader}
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.service.department-loader")
+public class DepartmentLoaderProperties {
+    /** Send lookups as department-service batch-gets instead of one call per id. */
+    private boolean enabled = false;
+    /** How long the first id of a batch waits for others. */
+    private Duration window = Duration.ofMillis(2);
+    /** Distinct ids that send a batch before its window ends; at most 500. */
+    private int maxBatchSize = 100;
+    /** Threads sending batches; each blocks for one batch-get call. */
+    private int dispatchThreads = 4;
+}
@@ -0,0 +1,72 @@
+package com.example.employee.config;
+
+import com.example.employee.cache.CachePolicy;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DurationUnit;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache settings under {@code employee.service.cache}. Per-cache entries under
+ * {@code caches.<name>} override the defaults.
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.service.cache")
+public class EmployeeCacheProperties {
+    private boolean enabled = true;
+    /** Time to live of cached entries; plain numbers are seconds. */
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration ttl = Duration.ofSeconds(300);
+    /** Local (L1) bound per cache, in entries. */
+    private long maxEntries = 1000;
+    /** Local (L1) bound per cache in estimated bytes of the values; unset bounds by entries only. */
+    private DataSize maxBytes;
+    /** Concurrent misses for the same key wait for one load instead of each hitting the backend. */
+    private boolean singleFlight = true;
+    /** Probabilistic early refresh before expiry; 0 disables it. */
+    private double earlyRefreshBeta = 1.0;
+    /** How long an expired entry may still be served while it is reloaded in the background. */
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration staleWhileRevalidate = Duration.ZERO;
+    private L2 l2 = new L2();
+    private Map<String, Spec> caches = new HashMap<>();
+
+    public CachePolicy policyFor(String cacheName) {
+        Spec spec = caches.getOrDefault(cacheName, new Spec());
+        return new CachePolicy(
+                spec.getTtl() != null ? spec.getTtl() : ttl,
+                spec.getMaxEntries() != null ? spec.getMaxEntries() : maxEntries,
+                bytes(spec.getMaxBytes() != null ? spec.getMaxBytes() : maxBytes),
+                spec.getSingleFlight() != null ? spec.getSingleFlight() : singleFlight,
+                spec.getEarlyRefreshBeta() != null ? spec.getEarlyRefreshBeta() : earlyRefreshBeta,
+                spec.getStaleWhileRevalidate() != null ? spec.getStaleWhileRevalidate() : staleWhileRevalidate);
+    }
+
+    private static long bytes(DataSize size) {
+        return size != null ? size.toBytes() : 0;
+    }
+
+    @Data
+    public static class L2 {
+        /** none, redis or in-memory */
+        private String type = "none";
+        private String keyPrefix = "employee:";
+    }
+
+    @Data
+    public static class Spec {
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration ttl;
+        private Long maxEntries;
+        private DataSize maxBytes;
+        private Boolean singleFlight;
+        private Double earlyRefreshBeta;
+        @DurationUnit(ChronoUnit.SECONDS)
+        private Duration staleWhileRevalidate;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.employee.config;
+
+import com.example.employee.repo.EmployeeRepository;
+import com.example.employee.snapshot.EmployeeReadSnapshot;
+import com.example.employee.snapshot.EmployeeSnapshotStore;
+import com.example.employee.snapshot.SnapshotLockedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+@Slf4j
+@EnableConfigurationProperties(ReadSnapshotProperties.class)
+public class ReadSnapshotConfig {
+
+    /** A pass-through that never serves unless the snapshot is enabled. */
+    @Bean
+    public EmployeeReadSnapshot employeeReadSnapshot(ReadSnapshotProperties properties, EmployeeRepository repository,
+                                                     TransactionTemplate transactionTemplate,
+                                                     MeterRegistry meterRegistry) throws IOException {
+        if (!properties.isEnabled()) {
+            return EmployeeReadSnapshot.disabled();
+        }
+        EmployeeSnapshotStore store;
+        try {
+            store = EmployeeSnapshotStore.open(Path.of(properties.getPath()),
+                    properties.getCapacity(), Math.toIntExact(properties.getArenaSize().toBytes()));
+        } catch (SnapshotLockedException ex) {
+            // Instances sharing a host need their own read-snapshot.path
+            log.warn("{}; employee reads stay on the database", ex.getMessage());
+            return EmployeeReadSnapshot.disabled();
+        }
+        return new EmployeeReadSnapshot(store, repository, transactionTemplate,
+                properties.getCatchUpChunkSize(), meterRegistry);
+    }
+}
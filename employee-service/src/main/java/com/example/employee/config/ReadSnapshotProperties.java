@@ -0,0 +1,23 @@
+package com.example.employee.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Memory-mapped employee read snapshot settings under {@code employee.service.read-snapshot}
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.service.read-snapshot")
+public class ReadSnapshotProperties {
+    /** Serve getById and department listings from the snapshot once it has caught up. */
+    private boolean enabled = false;
+    /** Snapshot file; kept across restarts so a restart only catches up instead of reloading. */
+    private String path = "data/employee-snapshot.bin";
+    /** Fixed number of 64 byte records the file is sized for. */
+    private int capacity = 1_000_000;
+    /** String arena for names and emails; compacted in place when full. */
+    private DataSize arenaSize = DataSize.ofMegabytes(128);
+    /** Rows per id/version page while catching up with the table. */
+    private int catchUpChunkSize = 5_000;
+}
@@ -0,0 +1,60 @@
+package com.example.employee.config;
+
+import com.example.employee.profiling.ProfilingDataSource;
+import com.example.employee.profiling.ProfilingFeignCapability;
+import com.example.employee.profiling.RequestProfilingFilter;
+import feign.Capability;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Wires request profiling: the {@code dataSource} bean is wrapped in a
+ * {@link ProfilingDataSource} (which also emits the JDBC spans), Feign clients get a timing
+ * capability and a filter reports the totals per request.
+ */
+@Configuration
+@EnableConfigurationProperties(RequestProfilingProperties.class)
+@ConditionalOnProperty(name = "employee.service.profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestProfilingConfig {
+
+    @Bean
+    public static BeanPostProcessor profilingDataSourcePostProcessor(
+            ObjectProvider<ObservationRegistry> observationRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the primary "dataSource"; the read-replica config injects its pools by concrete type
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ProfilingDataSource)) {
+                    return new ProfilingDataSource(dataSource,
+                            observationRegistry.getIfAvailable(() -> ObservationRegistry.NOOP));
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public Capability profilingFeignCapability() {
+        return new ProfilingFeignCapability();
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestProfilingFilter> requestProfilingFilter(RequestProfilingProperties properties,
+                                                                                MeterRegistry meterRegistry) {
+        FilterRegistrationBean<RequestProfilingFilter> registration =
+                new FilterRegistrationBean<>(new RequestProfilingFilter(properties, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
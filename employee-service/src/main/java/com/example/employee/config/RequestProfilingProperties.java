@@ -0,0 +1,17 @@
+package com.example.employee.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Per-request statement and remote call profiling under {@code employee.service.profiling}
+ */
+@Data
+@ConfigurationProperties(prefix = "employee.service.profiling")
+public class RequestProfilingProperties {
+    private boolean enabled = true;
+    /** SQL statements per request above which the request is logged as a likely N+1. */
+    private int maxStatements = 20;
+    /** Outbound Feign calls per request above which the request is logged as fan-out. */
+    private int maxRemoteCalls = 5;
+}
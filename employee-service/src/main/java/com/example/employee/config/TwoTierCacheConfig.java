@@ -0,0 +1,38 @@
+package com.example.employee.config;
+
+import com.example.employee.cache.InMemoryL2Cache;
+import com.example.employee.cache.L2Cache;
+import com.example.employee.cache.RedisL2Cache;
+import com.example.employee.cache.TwoTierCacheManager;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Configuration for the two-tier (local L1 + shared L2) caches. The L2 is
+ * selected by {@code employee.service.cache.l2.type}; the redis profile switches it to Redis.
+ */
+@Configuration
+@EnableConfigurationProperties(EmployeeCacheProperties.class)
+public class TwoTierCacheConfig {
+
+    @Bean
+    public L2Cache l2Cache(EmployeeCacheProperties properties, ObjectProvider<StringRedisTemplate> redisTemplate,
+                           ObjectMapper objectMapper) {
+        return switch (properties.getL2().getType()) {
+            case "redis" -> new RedisL2Cache(redisTemplate.getObject(), objectMapper, properties.getL2().getKeyPrefix());
+            case "in-memory" -> new InMemoryL2Cache();
+            default -> L2Cache.NONE;
+        };
+    }
+
+    @Bean
+    public TwoTierCacheManager twoTierCacheManager(EmployeeCacheProperties properties, L2Cache l2Cache,
+                                                   MeterRegistry meterRegistry) {
+        return new TwoTierCacheManager(properties, l2Cache, meterRegistry);
+    }
+}
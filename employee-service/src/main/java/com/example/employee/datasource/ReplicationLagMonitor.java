@@ -0,0 +1,98 @@
+package com.example.employee.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Periodically measures how far each Postgres replica's replay lags behind the
+ * primary and marks replicas beyond the configured limit (or unreachable) as unhealthy.
+ * A replica that has replayed everything it received has no lag, however long ago the
+ * primary's last transaction was; otherwise an idle primary would make every replica
+ * look more and more behind.
+ */
+@Slf4j
+public class ReplicationLagMonitor implements DisposableBean {
+
+    private static final String LAG_SQL = "SELECT CASE WHEN NOT pg_is_in_recovery() THEN 0 "
+            + "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final Map<String, DataSource> replicas;
+    private final Duration maxLag;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "replication-lag-monitor");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ReplicationLagMonitor(Map<String, DataSource> replicas, Duration maxLag, Duration interval,
+                                 MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.maxLag = maxLag;
+        for (String key : replicas.keySet()) {
+            // Unknown until the first check succeeds, so reads stay on the primary
+            lagSeconds.put(key, Double.NaN);
+            Gauge.builder("datasource.replica.lag", lagSeconds, m -> m.getOrDefault(key, Double.NaN))
+                    .description("Replication replay lag of the read replica in seconds")
+                    .baseUnit("seconds")
+                    .tag("replica", key)
+                    .register(meterRegistry);
+        }
+        scheduler.scheduleWithFixedDelay(this::checkAll, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public boolean isHealthy(String replicaKey) {
+        Double lag = lagSeconds.get(replicaKey);
+        return lag != null && !lag.isNaN() && lag <= maxLag.toMillis() / 1000.0;
+    }
+
+    void checkAll() {
+        replicas.forEach((key, dataSource) -> {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(LAG_SQL)) {
+                rs.next();
+                double lag = rs.getDouble(1);
+                Double previous = lagSeconds.put(key, lag);
+                if (previous != null && !previous.isNaN() && isHealthy(key) != (previous <= maxLag.toMillis() / 1000.0)) {
+                    log.info("Replica {} replication lag is now {}s (limit {}s)", key, lag, maxLag.toSeconds());
+                }
+            } catch (Exception e) {
+                if (!Double.isNaN(lagSeconds.getOrDefault(key, Double.NaN))) {
+                    log.warn("Replica {} is unreachable; routing its reads to the primary", key, e);
+                }
+                lagSeconds.put(key, Double.NaN);
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdownNow();
+        replicas.values().forEach(dataSource -> {
+            if (dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception ignored) { }
+            }
+        });
+    }
+}
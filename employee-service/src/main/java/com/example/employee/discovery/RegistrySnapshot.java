@@ -0,0 +1,35 @@
+package com.example.employee.discovery;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Last known Eureka registry, persisted to disk so routing survives discovery outages
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RegistrySnapshot {
+    private Instant takenAt;
+    private String appsHashCode;
+    private Map<String, List<SnapshotInstance>> services;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class SnapshotInstance {
+        private String instanceId;
+        private String host;
+        private int port;
+        private boolean secure;
+        private Map<String, String> metadata;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.employee.discovery;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Reads and atomically writes the registry snapshot file
+ */
+@Slf4j
+public class RegistrySnapshotStore {
+
+    private final Path path;
+    private final ObjectMapper objectMapper;
+    private final AtomicReference<RegistrySnapshot> current = new AtomicReference<>();
+
+    public RegistrySnapshotStore(Path path, ObjectMapper objectMapper) {
+        this.path = path;
+        this.objectMapper = objectMapper;
+        load();
+    }
+
+    public Optional<RegistrySnapshot> current() {
+        return Optional.ofNullable(current.get());
+    }
+
+    /** Persists the snapshot unless the registry is unchanged since the last write. */
+    public void save(RegistrySnapshot snapshot) {
+        RegistrySnapshot previous = current.get();
+        if (previous != null && Objects.equals(previous.getAppsHashCode(), snapshot.getAppsHashCode())
+                && Objects.equals(previous.getServices(), snapshot.getServices())) {
+            return;
+        }
+        current.set(snapshot);
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+            objectMapper.writeValue(tmp.toFile(), snapshot);
+            Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.debug("Wrote registry snapshot with {} services to {}", snapshot.getServices().size(), path);
+        } catch (IOException e) {
+            log.warn("Failed to write registry snapshot to {}", path, e);
+        }
+    }
+
+    private void load() {
+        if (!Files.isRegularFile(path)) {
+            return;
+        }
+        try {
+            RegistrySnapshot snapshot = objectMapper.readValue(path.toFile(), RegistrySnapshot.class);
+            current.set(snapshot);
+            log.info("Loaded registry snapshot taken at {} with services {}", snapshot.getTakenAt(),
+                    snapshot.getServices().keySet());
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable registry snapshot at {}", path, e);
+        }
+    }
+}
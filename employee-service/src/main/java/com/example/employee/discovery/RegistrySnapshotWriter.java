@@ -0,0 +1,66 @@
+package com.example.employee.discovery;
+
+import com.netflix.appinfo.InstanceInfo;
+import com.netflix.discovery.EurekaClient;
+import com.netflix.discovery.shared.Application;
+import com.netflix.discovery.shared.Applications;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.discovery.event.HeartbeatEvent;
+import org.springframework.cloud.netflix.eureka.EurekaServiceInstance;
+import org.springframework.context.event.EventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Captures the Eureka registry after every successful fetch
+ */
+@RequiredArgsConstructor
+public class RegistrySnapshotWriter {
+
+    private final ObjectProvider<EurekaClient> eurekaClient;
+    private final RegistrySnapshotStore store;
+
+    /** Eureka publishes a heartbeat event each time its local registry cache is refreshed. */
+    @EventListener(HeartbeatEvent.class)
+    public void onRegistryRefreshed() {
+        EurekaClient client = eurekaClient.getIfAvailable();
+        Applications applications = client == null ? null : client.getApplications();
+        if (applications == null) {
+            return;
+        }
+        Map<String, List<RegistrySnapshot.SnapshotInstance>> services = new TreeMap<>();
+        for (Application app : applications.getRegisteredApplications()) {
+            List<RegistrySnapshot.SnapshotInstance> instances = new ArrayList<>();
+            for (InstanceInfo info : app.getInstances()) {
+                if (info.getStatus() != InstanceInfo.InstanceStatus.UP) {
+                    continue;
+                }
+                EurekaServiceInstance instance = new EurekaServiceInstance(info);
+                instances.add(RegistrySnapshot.SnapshotInstance.builder()
+                        .instanceId(instance.getInstanceId())
+                        .host(instance.getHost())
+                        .port(instance.getPort())
+                        .secure(instance.isSecure())
+                        .metadata(instance.getMetadata())
+                        .build());
+            }
+            if (!instances.isEmpty()) {
+                services.put(app.getName(), instances);
+            }
+        }
+        if (services.isEmpty()) {
+            // An empty registry is what we see while discovery is down; keep the last good one
+            return;
+        }
+        store.save(RegistrySnapshot.builder()
+                .takenAt(Instant.now())
+                .appsHashCode(applications.getAppsHashCode())
+                .services(services)
+                .build());
+    }
+}
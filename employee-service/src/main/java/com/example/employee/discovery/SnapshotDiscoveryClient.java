@@ -0,0 +1,69 @@
+package com.example.employee.discovery;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.discovery.DiscoveryClient;
+import org.springframework.core.Ordered;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Discovery client backed by the persisted registry snapshot. Ordered last, so the
+ * composite discovery client only reaches it when Eureka has no instances for a
+ * service, i.e. before the first fetch completes or while discovery is unreachable.
+ * Instances it returns carry {@code registry-snapshot=stale} in their metadata.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class SnapshotDiscoveryClient implements DiscoveryClient {
+
+    public static final String STALE_METADATA_KEY = "registry-snapshot";
+
+    private final RegistrySnapshotStore store;
+    private final Set<String> warned = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String description() {
+        return "Registry snapshot discovery client";
+    }
+
+    @Override
+    public List<ServiceInstance> getInstances(String serviceId) {
+        Optional<RegistrySnapshot> snapshot = store.current();
+        if (snapshot.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<RegistrySnapshot.SnapshotInstance> instances =
+                snapshot.get().getServices().get(serviceId.toUpperCase(Locale.ROOT));
+        if (instances == null || instances.isEmpty()) {
+            return Collections.emptyList();
+        }
+        if (warned.add(serviceId)) {
+            log.warn("Eureka has no instances for {}; routing on registry snapshot taken at {}",
+                    serviceId, snapshot.get().getTakenAt());
+        }
+        List<ServiceInstance> result = new ArrayList<>(instances.size());
+        for (RegistrySnapshot.SnapshotInstance i : instances) {
+            Map<String, String> metadata = new HashMap<>(Optional.ofNullable(i.getMetadata()).orElse(Map.of()));
+            metadata.put(STALE_METADATA_KEY, "stale");
+            result.add(new DefaultServiceInstance(i.getInstanceId(), serviceId, i.getHost(), i.getPort(),
+                    i.isSecure(), metadata));
+        }
+        return result;
+    }
+
+    @Override
+    public List<String> getServices() {
+        return store.current()
+                .map(s -> List.copyOf(s.getServices().keySet()))
+                .orElse(Collections.emptyList());
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
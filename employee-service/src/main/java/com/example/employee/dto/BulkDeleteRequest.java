@@ -0,0 +1,23 @@
+package com.example.employee.dto;
+
+import jakarta.validation.Valid;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Deletes every employee selected by either {@code ids} or {@code filter}.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkDeleteRequest {
+    private List<Long> ids;
+
+    @Valid
+    private EmployeeFilter filter;
+}
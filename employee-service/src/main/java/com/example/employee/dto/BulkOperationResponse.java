@@ -0,0 +1,33 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkOperationResponse {
+    private String operation;
+    private List<ChunkResult> chunks;
+    private int totalAffected;
+    private int failedChunks;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ChunkResult {
+        private int chunk;
+        private int requested;
+        private int affected;
+        private boolean success;
+        /** Requested ids that no longer exist; only reported for id-list requests. */
+        private List<Long> missingIds;
+        private String error;
+    }
+}
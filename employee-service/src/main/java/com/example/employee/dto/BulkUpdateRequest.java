@@ -0,0 +1,48 @@
+package com.example.employee.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Applies one patch to every employee selected by either {@code ids} or {@code filter}.
+ * Email is not patchable in bulk because it is unique per employee.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkUpdateRequest {
+    private List<Long> ids;
+
+    @Valid
+    private EmployeeFilter filter;
+
+    @NotNull(message = "patch is required")
+    @Valid
+    private Patch patch;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Patch {
+        @Size(max = 120)
+        private String firstName;
+
+        @Size(max = 120)
+        private String lastName;
+
+        private Long departmentId;
+
+        public boolean isEmpty() {
+            return firstName == null && lastName == null && departmentId == null;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.employee.dto;
+
+import com.example.employee.exception.EmployeeValidationException;
+
+import java.util.Locale;
+
+/**
+ * How {@code totalElements} of a listing page was obtained
+ */
+public enum CountStrategy {
+    /** {@code COUNT(*)} for this request, or derived from a short page. */
+    EXACT,
+    /** Exact count cached per filter signature until the next employee write. */
+    CACHED,
+    /** Postgres planner statistics; only for unfiltered listings. */
+    ESTIMATED;
+
+    /** Case-insensitive parse of a request or config value; blank means "use the default". */
+    public static CountStrategy from(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new EmployeeValidationException("count must be one of exact, cached, estimated");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Departments found by department-service's batch-get endpoint and the requested ids that
+ * do not exist.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DepartmentBatchGetResponse {
+    private List<DepartmentDTO> found;
+    private List<Long> missingIds;
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Data
 @Builder
 @AllArgsConstructor
@@ -14,4 +16,6 @@ public class DepartmentDTO {
     private String name;
     private String code;
     private String description;
+    private Long version; // as served by department-service, for employee validators
+    private LocalDateTime updatedAt;
 }
@@ -0,0 +1,21 @@
+package com.example.employee.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Ids to fetch in one call; duplicates are answered once.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeBatchGetRequest {
+    @NotEmpty(message = "ids are required")
+    private List<Long> ids;
+}
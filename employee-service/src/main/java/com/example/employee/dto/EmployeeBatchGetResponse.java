@@ -0,0 +1,20 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Employees found, in request order, and the requested ids that do not exist.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeBatchGetResponse {
+    private List<EmployeeDTO> found;
+    private List<Long> missingIds;
+}
@@ -5,6 +5,8 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 
 @Data
 @Builder
@@ -28,4 +30,6 @@ public class EmployeeDTO {
 
     private Long departmentId;
     private DepartmentDTO department; // response enrichment
+    private Long version; // response only, for optimistic updates
+    private LocalDateTime updatedAt; // response only, Last-Modified of the record
 }
@@ -0,0 +1,35 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Selects employees for bulk operations with the same semantics as the list endpoint (see
+ * {@code EmployeeSpecifications}): a full email address matches that address exactly, any
+ * other email or lastName value is a case-insensitive prefix, and departmentId is exact.
+ * Prefix a value with {@code *} for the substring match these filters used to apply;
+ * {@code lastName=son} no longer selects "Johnson".
+ * <p>
+ * Blank values and a bare {@code *} match every row, so they do not make a filter non-empty;
+ * a bulk request whose filter holds only such values is rejected rather than touching the
+ * whole table.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EmployeeFilter {
+    private String email;
+    private String lastName;
+    private Long departmentId;
+
+    public boolean isEmpty() {
+        return !narrows(email) && !narrows(lastName) && departmentId == null;
+    }
+
+    private static boolean narrows(String value) {
+        return value != null && !value.isBlank() && !value.trim().equals("*");
+    }
+}
@@ -19,4 +19,6 @@ public class EmployeeSearchRequest {
     private int size = 20;
     @Builder.Default
     private String sort = "lastName,asc";
+    /** Null means the configured default. */
+    private CountStrategy countStrategy;
 }
@@ -23,4 +23,7 @@ public class EmployeeUpdateRequest {
     private String email;
 
     private Long departmentId;
+
+    /** Optional optimistic lock: the update is rejected if the employee has moved past this version. */
+    private Long version;
 }
@@ -0,0 +1,55 @@
+package com.example.employee.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * HTTP validators for conditional GET. A bare employee gets a strong ETag from id + version;
+ * one with its department embedded gets a weak ETag that also carries the department's id and
+ * version, so a department change revalidates it. A page gets a weak ETag over its total and
+ * the ETags of its rows.
+ */
+public record ResourceValidator(String etag, LocalDateTime lastModified) {
+
+    public static ResourceValidator of(Long id, Long version, LocalDateTime lastModified) {
+        return new ResourceValidator("\"" + id + "-" + (version != null ? version : 0) + "\"", lastModified);
+    }
+
+    /**
+     * Validator of an employee representation embedding {@code department}, or of the bare
+     * employee when it is null. Without the department's own timestamp there is no safe
+     * Last-Modified, so only the ETag is given.
+     */
+    public static ResourceValidator of(Long id, Long version, LocalDateTime lastModified, DepartmentDTO department) {
+        if (department == null) {
+            return of(id, version, lastModified);
+        }
+        // Departments cached without a version are compared by content instead
+        String embedded = department.getVersion() != null
+                ? department.getId() + "." + department.getVersion()
+                : Integer.toHexString(department.hashCode());
+        LocalDateTime modified = lastModified != null && department.getUpdatedAt() != null
+                ? (department.getUpdatedAt().isAfter(lastModified) ? department.getUpdatedAt() : lastModified)
+                : null;
+        return new ResourceValidator("W/\"" + id + "-" + (version != null ? version : 0) + "-d" + embedded + "\"",
+                modified);
+    }
+
+    /** Last-Modified of a page is that of its newest row, and absent if any row has none. */
+    public static ResourceValidator ofPage(long totalElements, List<ResourceValidator> rows) {
+        int hash = Objects.hash(totalElements, rows.size());
+        LocalDateTime lastModified = null;
+        boolean dated = true;
+        for (ResourceValidator row : rows) {
+            hash = 31 * hash + row.etag().hashCode();
+            if (row.lastModified() == null) {
+                dated = false;
+            } else if (lastModified == null || row.lastModified().isAfter(lastModified)) {
+                lastModified = row.lastModified();
+            }
+        }
+        return new ResourceValidator("W/\"" + totalElements + "-" + Integer.toHexString(hash) + "\"",
+                dated ? lastModified : null);
+    }
+}
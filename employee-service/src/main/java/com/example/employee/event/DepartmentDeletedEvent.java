@@ -0,0 +1,24 @@
+package com.example.employee.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Department deleted event as published by department-service
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentDeletedEvent {
+    private Long departmentId;
+    private String name;
+    private String code;
+    private LocalDateTime deletedAt;
+    @Builder.Default
+    private String eventType = "DEPARTMENT_DELETED";
+}
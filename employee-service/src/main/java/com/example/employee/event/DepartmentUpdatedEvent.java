@@ -0,0 +1,25 @@
+package com.example.employee.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Department updated event as published by department-service
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentUpdatedEvent {
+    private Long departmentId;
+    private String name;
+    private String code;
+    private String description;
+    private LocalDateTime updatedAt;
+    @Builder.Default
+    private String eventType = "DEPARTMENT_UPDATED";
+}
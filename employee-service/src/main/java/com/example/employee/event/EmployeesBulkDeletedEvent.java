@@ -0,0 +1,25 @@
+package com.example.employee.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Aggregate event for a bulk delete, one per department and chunk
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeesBulkDeletedEvent {
+    private Long departmentId;
+    private int count;
+    private List<Long> employeeIds;
+    private LocalDateTime deletedAt;
+    @Builder.Default
+    private String eventType = "EMPLOYEES_BULK_DELETED";
+}
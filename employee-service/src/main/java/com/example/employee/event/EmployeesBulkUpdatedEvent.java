@@ -0,0 +1,30 @@
+package com.example.employee.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Aggregate event for a bulk update: "{@code count} employees moved from
+ * {@code fromDepartmentId} to {@code toDepartmentId}". One event is published per
+ * department pair and chunk instead of one event per employee.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeesBulkUpdatedEvent {
+    private Long fromDepartmentId;
+    private Long toDepartmentId;
+    private int count;
+    private List<Long> employeeIds;
+    private Set<String> changedFields;
+    private LocalDateTime updatedAt;
+    @Builder.Default
+    private String eventType = "EMPLOYEES_BULK_UPDATED";
+}
@@ -0,0 +1,275 @@
+package com.example.employee.messaging;
+
+import org.apache.avro.LogicalType;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.springframework.beans.BeanUtils;
+
+import java.beans.PropertyDescriptor;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maps event beans to Avro records by property name and writes them in Avro single-object
+ * encoding: a two byte marker, the writer schema fingerprint, then the binary record.
+ * Messages written with the reader's own schema are read field by field; anything else is
+ * resolved against the writer schema from {@link EventSchemaRegistry}, so fields added with
+ * defaults in a later version read fine in either direction.
+ */
+public class AvroEventCodec {
+
+    private static final String LOCAL_TIMESTAMP_MICROS = "local-timestamp-micros";
+    private static final int HEADER_LENGTH = 10;
+
+    private final EventSchemaRegistry registry;
+    private final Map<Class<?>, Accessors> accessors = new ConcurrentHashMap<>();
+    private final Map<Schema, BinaryMessageDecoder<GenericRecord>> resolvingDecoders = new ConcurrentHashMap<>();
+
+    public AvroEventCodec(EventSchemaRegistry registry) {
+        this.registry = registry;
+    }
+
+    /** Single-object encoding marker {@code C3 01} followed by an 8 byte fingerprint. */
+    public static boolean isAvro(byte[] payload) {
+        return payload.length > HEADER_LENGTH && payload[0] == (byte) 0xC3 && payload[1] == (byte) 0x01;
+    }
+
+    public boolean canEncode(Class<?> type) {
+        return registry.latest(type.getSimpleName()).isPresent();
+    }
+
+    /** Event beans with a schema, or a plain map of the writer's fields. */
+    public boolean canDecode(Class<?> type) {
+        return isMap(type) || canEncode(type);
+    }
+
+    /** {@code application/vnd.<record>.v<n>+avro}, after the Spring Cloud Stream convention. */
+    public String contentType(Class<?> type) {
+        return accessors(type).contentType();
+    }
+
+    public byte[] encode(Object event) {
+        Accessors bean = accessors(event.getClass());
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        out.writeBytes(bean.header());
+        BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+        try {
+            for (Schema.Field field : bean.schema().getFields()) {
+                Method getter = bean.getters()[field.pos()];
+                write(encoder, field.schema(), getter == null ? null : toAvro(invoke(getter, event)));
+            }
+            encoder.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot encode " + event, ex);
+        }
+        return out.toByteArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T decode(byte[] payload, Class<T> type) {
+        long fingerprint = fingerprint(payload);
+        Schema writerSchema = registry.findByFingerprint(fingerprint);
+        if (writerSchema == null) {
+            throw new IllegalArgumentException("Unknown Avro schema fingerprint " + Long.toHexString(fingerprint));
+        }
+        if (isMap(type)) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            Object[] values = read(payload, writerSchema);
+            for (Schema.Field field : writerSchema.getFields()) {
+                map.put(field.name(), fromAvro(values[field.pos()], field.schema(), Object.class));
+            }
+            return (T) map;
+        }
+        Accessors bean = accessors(type);
+        Object[] values = bean.fingerprint() == fingerprint ? read(payload, writerSchema) : resolve(payload, bean.schema());
+        T event = BeanUtils.instantiateClass(type);
+        for (Schema.Field field : bean.schema().getFields()) {
+            Method setter = bean.setters()[field.pos()];
+            if (setter != null) {
+                invoke(setter, event, fromAvro(values[field.pos()], field.schema(), setter.getParameterTypes()[0]));
+            }
+        }
+        return event;
+    }
+
+    private Object[] read(byte[] payload, Schema schema) {
+        BinaryDecoder decoder = DecoderFactory.get()
+                .binaryDecoder(payload, HEADER_LENGTH, payload.length - HEADER_LENGTH, null);
+        List<Schema.Field> fields = schema.getFields();
+        Object[] values = new Object[fields.size()];
+        try {
+            for (Schema.Field field : fields) {
+                values[field.pos()] = read(decoder, field.schema());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot decode " + schema.getName(), ex);
+        }
+        return values;
+    }
+
+    /** Schema resolution for messages written with another version of the record. */
+    private Object[] resolve(byte[] payload, Schema readerSchema) {
+        GenericRecord record;
+        try {
+            record = resolvingDecoders.computeIfAbsent(readerSchema,
+                    s -> new BinaryMessageDecoder<>(GenericData.get(), s, registry)).decode(payload);
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Cannot decode " + readerSchema.getName(), ex);
+        }
+        Object[] values = new Object[readerSchema.getFields().size()];
+        for (Schema.Field field : readerSchema.getFields()) {
+            values[field.pos()] = record.get(field.pos());
+        }
+        return values;
+    }
+
+    /** Bean getters and setters by schema field position, resolved once per event class. */
+    private Accessors accessors(Class<?> type) {
+        return accessors.computeIfAbsent(type, t -> {
+            Map.Entry<Integer, Schema> latest = registry.latest(t.getSimpleName())
+                    .orElseThrow(() -> new IllegalArgumentException("No Avro schema for " + t.getName()));
+            Schema schema = latest.getValue();
+            Method[] getters = new Method[schema.getFields().size()];
+            Method[] setters = new Method[getters.length];
+            for (Schema.Field field : schema.getFields()) {
+                PropertyDescriptor property = BeanUtils.getPropertyDescriptor(t, field.name());
+                if (property != null) {
+                    getters[field.pos()] = property.getReadMethod();
+                    setters[field.pos()] = property.getWriteMethod();
+                }
+            }
+            long fingerprint = SchemaNormalization.parsingFingerprint64(schema);
+            String contentType = "application/vnd." + schema.getName().toLowerCase() + ".v" + latest.getKey() + "+avro";
+            return new Accessors(schema, fingerprint, header(fingerprint), contentType, getters, setters);
+        });
+    }
+
+    private static void write(BinaryEncoder encoder, Schema schema, Object value) throws IOException {
+        switch (schema.getType()) {
+            case UNION -> {
+                int index = value == null ? nullIndex(schema) : 1 - nullIndex(schema);
+                encoder.writeIndex(index);
+                write(encoder, schema.getTypes().get(index), value);
+            }
+            case NULL -> encoder.writeNull();
+            case LONG -> encoder.writeLong(((Number) value).longValue());
+            case INT -> encoder.writeInt(((Number) value).intValue());
+            case STRING -> encoder.writeString(value.toString());
+            case BOOLEAN -> encoder.writeBoolean((Boolean) value);
+            default -> new GenericDatumWriter<>(schema).write(value, encoder);
+        }
+    }
+
+    private static Object read(BinaryDecoder decoder, Schema schema) throws IOException {
+        return switch (schema.getType()) {
+            case UNION -> read(decoder, schema.getTypes().get(decoder.readIndex()));
+            case NULL -> {
+                decoder.readNull();
+                yield null;
+            }
+            case LONG -> decoder.readLong();
+            case INT -> decoder.readInt();
+            case STRING -> decoder.readString();
+            case BOOLEAN -> decoder.readBoolean();
+            default -> new GenericDatumReader<>(schema).read(null, decoder);
+        };
+    }
+
+    private static Object toAvro(Object value) {
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+        }
+        if (value instanceof Collection<?> values) {
+            List<Object> items = new ArrayList<>(values.size());
+            values.forEach(item -> items.add(toAvro(item)));
+            return items;
+        }
+        return value;
+    }
+
+    private static Object fromAvro(Object value, Schema schema, Class<?> target) {
+        if (value == null) {
+            return null;
+        }
+        Schema type = nonNull(schema);
+        LogicalType logicalType = type.getLogicalType();
+        if (logicalType != null && LOCAL_TIMESTAMP_MICROS.equals(logicalType.getName())) {
+            long micros = (Long) value;
+            return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                    (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+        }
+        if (value instanceof CharSequence text) {
+            return text.toString();
+        }
+        if (value instanceof Collection<?> values) {
+            Collection<Object> items = Set.class.isAssignableFrom(target) ? new LinkedHashSet<>() : new ArrayList<>();
+            values.forEach(item -> items.add(fromAvro(item, type.getElementType(), Object.class)));
+            return items;
+        }
+        return value;
+    }
+
+    /** Optional fields are {@code ["null", T]} unions. */
+    private static Schema nonNull(Schema schema) {
+        return schema.getType() == Schema.Type.UNION ? schema.getTypes().get(1 - nullIndex(schema)) : schema;
+    }
+
+    private static int nullIndex(Schema union) {
+        return union.getTypes().get(0).getType() == Schema.Type.NULL ? 0 : 1;
+    }
+
+    private static byte[] header(long fingerprint) {
+        byte[] header = new byte[HEADER_LENGTH];
+        header[0] = (byte) 0xC3;
+        header[1] = (byte) 0x01;
+        for (int i = 0; i < 8; i++) {
+            header[2 + i] = (byte) (fingerprint >>> (8 * i));
+        }
+        return header;
+    }
+
+    private static long fingerprint(byte[] payload) {
+        long fingerprint = 0;
+        for (int i = HEADER_LENGTH - 1; i >= 2; i--) {
+            fingerprint = (fingerprint << 8) | (payload[i] & 0xFF);
+        }
+        return fingerprint;
+    }
+
+    private static boolean isMap(Class<?> type) {
+        return type == Object.class || Map.class.isAssignableFrom(type);
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Cannot access " + method, ex);
+        }
+    }
+
+    private record Accessors(Schema schema, long fingerprint, byte[] header, String contentType,
+                             Method[] getters, Method[] setters) {
+    }
+}
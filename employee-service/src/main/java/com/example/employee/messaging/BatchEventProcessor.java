@@ -0,0 +1,139 @@
+package com.example.employee.messaging;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Handles a consumed batch in {@code concurrency} lanes keyed by aggregate id: events of one
+ * aggregate share a lane and run in delivery order, different aggregates run in parallel.
+ * The call returns, and the binder acknowledges the batch, only once every lane is done; the
+ * first failure is rethrown and the binder retries the whole batch up to
+ * {@code max-attempts} times; every handler only evicts caches, so events already applied
+ * before the failure are harmlessly applied again. A batch that keeps failing is
+ * dead-lettered rather than requeued, so one poison message cannot block the queue.
+ */
+public class BatchEventProcessor implements DisposableBean {
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final int concurrency;
+    private final ExecutorService lanes;
+
+    public BatchEventProcessor(int concurrency, MeterRegistry meterRegistry, Clock clock) {
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.concurrency = Math.max(1, concurrency);
+        AtomicInteger threads = new AtomicInteger();
+        this.lanes = this.concurrency == 1 ? null : Executors.newFixedThreadPool(this.concurrency, r -> {
+            Thread t = new Thread(r, "event-lane-" + threads.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * @param binding    function binding name, used as the metric tag
+     * @param aggregateId lane key; events without one go to the first lane
+     * @param occurredAt event time set by the publisher, for the consumer lag metric
+     */
+    public <T> void process(String binding, List<T> events, Function<T, Long> aggregateId,
+                            Function<T, LocalDateTime> occurredAt, Consumer<T> handler) {
+        if (events.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        recordLag(binding, events, occurredAt);
+        DistributionSummary.builder("messaging.consumer.batch.size")
+                .description("Events per consumed batch")
+                .tag("binding", binding)
+                .register(meterRegistry)
+                .record(events.size());
+        String outcome = "success";
+        try {
+            run(partition(events, aggregateId), handler);
+        } catch (RuntimeException ex) {
+            outcome = "failure";
+            throw ex;
+        } finally {
+            Timer.builder("messaging.consumer.batch.latency")
+                    .description("Time to handle a consumed batch across all lanes")
+                    .tag("binding", binding)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /** Splits the batch into non-empty lanes, keeping delivery order within each lane. */
+    <T> List<List<T>> partition(List<T> events, Function<T, Long> aggregateId) {
+        if (concurrency == 1) {
+            return List.of(events);
+        }
+        List<List<T>> partitions = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            partitions.add(new ArrayList<>());
+        }
+        for (T event : events) {
+            Long id = aggregateId.apply(event);
+            partitions.get(id == null ? 0 : Math.floorMod(Long.hashCode(id), concurrency)).add(event);
+        }
+        partitions.removeIf(List::isEmpty);
+        return partitions;
+    }
+
+    private <T> void run(List<List<T>> partitions, Consumer<T> handler) {
+        if (partitions.size() == 1) {
+            partitions.get(0).forEach(handler);
+            return;
+        }
+        CompletableFuture<?>[] futures = partitions.stream()
+                .map(lane -> CompletableFuture.runAsync(() -> lane.forEach(handler), lanes))
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private <T> void recordLag(String binding, List<T> events, Function<T, LocalDateTime> occurredAt) {
+        Timer lag = Timer.builder("messaging.consumer.lag")
+                .description("Time from publishing an event to its batch being handled")
+                .tag("binding", binding)
+                .register(meterRegistry);
+        for (T event : events) {
+            LocalDateTime at = occurredAt.apply(event);
+            if (at != null) {
+                // Publishers stamp events with their local time
+                Duration age = Duration.between(at.atZone(clock.getZone()).toInstant(), clock.instant());
+                lag.record(age.isNegative() ? Duration.ZERO : age);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        if (lanes != null) {
+            lanes.shutdownNow();
+        }
+    }
+}
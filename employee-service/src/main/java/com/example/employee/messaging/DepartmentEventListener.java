@@ -1,15 +1,23 @@
 package com.example.employee.messaging;
 
+import com.example.employee.cache.CacheNames;
+import com.example.employee.cache.TwoTierCacheManager;
+import com.example.employee.event.DepartmentCreatedEvent;
+import com.example.employee.event.DepartmentDeletedEvent;
+import com.example.employee.event.DepartmentUpdatedEvent;
 import com.example.employee.service.EmployeeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.function.Consumer;
 
 /**
- * Event listener for department events in employee service
+ * Event listener for department events in employee service. Bindings run in batch mode,
+ * so each function receives up to {@code employee.service.messaging.consumer.batch-size}
+ * events at a time.
  */
 @Component
 @RequiredArgsConstructor
@@ -18,30 +26,57 @@ public class DepartmentEventListener {
 
     @SuppressWarnings("unused")
     private final EmployeeService employeeService;
+    private final TwoTierCacheManager cacheManager;
+    private final BatchEventProcessor batchProcessor;
 
     @Bean
-    public Consumer<Object> departmentCreated() {
-        return event -> {
-            log.info("Received department created event: {}", event);
-            // Here you could update employee department information, send notifications, etc.
-        };
+    public Consumer<List<DepartmentCreatedEvent>> departmentCreated() {
+        return events -> batchProcessor.process("departmentCreated", events,
+                DepartmentCreatedEvent::getDepartmentId, DepartmentCreatedEvent::getCreatedAt,
+                event -> log.info("Received department created event: {}", event));
     }
 
     @Bean
-    public Consumer<Object> departmentUpdated() {
-        return event -> {
-            log.info("Received department updated event: {}", event);
-            // Handle department update in employee context
-            // For example: update employee department information
+    public Consumer<List<DepartmentUpdatedEvent>> departmentUpdated() {
+        return events -> {
+            batchProcessor.process("departmentUpdated", events,
+                    DepartmentUpdatedEvent::getDepartmentId, DepartmentUpdatedEvent::getUpdatedAt,
+                    event -> {
+                        log.info("Received department updated event: {}", event);
+                        evictDepartment(event.getDepartmentId());
+                    });
+            evictEmployees(events);
         };
     }
 
     @Bean
-    public Consumer<Object> departmentDeleted() {
-        return event -> {
-            log.info("Received department deleted event: {}", event);
-            // Handle department deletion in employee context
-            // For example: notify employees about department deletion
+    public Consumer<List<DepartmentDeletedEvent>> departmentDeleted() {
+        return events -> {
+            batchProcessor.process("departmentDeleted", events,
+                    DepartmentDeletedEvent::getDepartmentId, DepartmentDeletedEvent::getDeletedAt,
+                    event -> {
+                        log.info("Received department deleted event: {}", event);
+                        evictDepartment(event.getDepartmentId());
+                    });
+            evictEmployees(events);
         };
     }
+
+    /**
+     * Every instance receives department events, so each drops the department from
+     * both tiers.
+     */
+    private void evictDepartment(Long departmentId) {
+        if (departmentId != null) {
+            cacheManager.getCache(CacheNames.DEPARTMENTS).evict(departmentId);
+        }
+    }
+
+    /** Enriched employee DTOs and pages may embed any of the departments; cleared once per batch. */
+    private void evictEmployees(List<?> events) {
+        if (!events.isEmpty()) {
+            cacheManager.getCache(CacheNames.EMPLOYEES).clear();
+            cacheManager.getCache(CacheNames.EMPLOYEE_PAGES).clear();
+        }
+    }
 }
@@ -0,0 +1,48 @@
+package com.example.employee.messaging;
+
+import com.example.employee.cache.CacheNames;
+import com.example.employee.cache.TwoTierCacheManager;
+import com.example.employee.snapshot.EmployeeReadSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Drops employees changed by any instance from this instance's L1 cache, together with
+ * the local listing totals. The writing instance already evicted the shared L2. The read
+ * snapshot re-reads the same employees, as events carry neither version nor creation time.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeCacheEvictionListener {
+
+    private final TwoTierCacheManager cacheManager;
+    private final EmployeeReadSnapshot readSnapshot;
+
+    @Bean
+    public Consumer<Map<String, Object>> employeeCacheEviction() {
+        return event -> {
+            List<Long> changed = new ArrayList<>();
+            if (event.get("employeeId") instanceof Number employeeId) {
+                changed.add(employeeId.longValue());
+            } else if (event.get("employeeIds") instanceof List<?> employeeIds) {
+                // Bulk events carry the ids of the whole chunk
+                employeeIds.stream()
+                        .filter(Number.class::isInstance)
+                        .forEach(id -> changed.add(((Number) id).longValue()));
+            }
+            log.debug("Evicting employees {} from local cache", changed);
+            changed.forEach(id -> cacheManager.getCache(CacheNames.EMPLOYEES).evictLocal(id));
+            cacheManager.getCache(CacheNames.EMPLOYEE_COUNTS).clearLocal();
+            cacheManager.getCache(CacheNames.EMPLOYEE_PAGES).clearLocal();
+            readSnapshot.reload(changed);
+        };
+    }
+}
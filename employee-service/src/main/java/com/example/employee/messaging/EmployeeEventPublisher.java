@@ -15,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class EmployeeEventPublisher {
 
     private final StreamBridge streamBridge;
+    private final EventCoalescer employeeUpdatedCoalescer;
 
     public void publishEmployeeCreated(EmployeeCreatedEvent event) {
         try {
@@ -26,15 +27,20 @@ public class EmployeeEventPublisher {
     }
 
     public void publishEmployeeUpdated(EmployeeUpdatedEvent event) {
-        try {
-            streamBridge.send("employeeUpdated-out-0", event);
-            log.info("Published employee updated event: {}", event);
-        } catch (Exception e) {
-            log.error("Failed to publish employee updated event: {}", event, e);
-        }
+        // Bursts of updates to one employee go out as the latest state within the coalescing window
+        employeeUpdatedCoalescer.submit(event.getEmployeeId(), () -> {
+            try {
+                streamBridge.send("employeeUpdated-out-0", event);
+                log.info("Published employee updated event: {}", event);
+            } catch (Exception e) {
+                log.error("Failed to publish employee updated event: {}", event, e);
+            }
+        });
     }
 
     public void publishEmployeeDeleted(EmployeeDeletedEvent event) {
+        // A pending update must not arrive after the delete
+        employeeUpdatedCoalescer.flush(event.getEmployeeId());
         try {
             streamBridge.send("employeeDeleted-out-0", event);
             log.info("Published employee deleted event: {}", event);
@@ -42,4 +48,27 @@ public class EmployeeEventPublisher {
             log.error("Failed to publish employee deleted event: {}", event, e);
         }
     }
+
+    public void publishEmployeesBulkUpdated(EmployeesBulkUpdatedEvent event) {
+        // Pending updates of the chunk's employees must not arrive after the bulk change
+        employeeUpdatedCoalescer.flush(event.getEmployeeIds());
+        try {
+            streamBridge.send("employeesBulkUpdated-out-0", event);
+            log.info("Published bulk updated event: {} employees moved from department {} to {}",
+                    event.getCount(), event.getFromDepartmentId(), event.getToDepartmentId());
+        } catch (Exception e) {
+            log.error("Failed to publish bulk updated event: {}", event, e);
+        }
+    }
+
+    public void publishEmployeesBulkDeleted(EmployeesBulkDeletedEvent event) {
+        employeeUpdatedCoalescer.flush(event.getEmployeeIds());
+        try {
+            streamBridge.send("employeesBulkDeleted-out-0", event);
+            log.info("Published bulk deleted event: {} employees removed from department {}",
+                    event.getCount(), event.getDepartmentId());
+        } catch (Exception e) {
+            log.error("Failed to publish bulk deleted event: {}", event, e);
+        }
+    }
 }
@@ -0,0 +1,156 @@
+package com.example.employee.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the publication of an update for {@code window} and replaces it if another update of
+ * the same aggregate arrives meanwhile, so a burst goes out as its latest state only. Pending
+ * updates leave in order of their first arrival and keep that slot when replaced, so
+ * aggregates are never reordered against each other. A zero window publishes immediately.
+ * Due updates are taken off the pending map under the monitor and published after releasing it.
+ */
+@Slf4j
+public class EventCoalescer implements DisposableBean {
+
+    private final long windowNanos;
+    private final Counter coalesced;
+    private final Map<Long, Pending> pending = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    /**
+     * Held while publishing, in place of the monitor: submit never waits for the binder, and
+     * an update taken off {@code pending} is sent before a flush for it returns.
+     */
+    private final Object publishing = new Object();
+
+    private record Pending(Runnable publish, long deadline) {
+    }
+
+    public EventCoalescer(String binding, Duration window, MeterRegistry meterRegistry) {
+        this.windowNanos = window.toNanos();
+        this.coalesced = Counter.builder("messaging.events.coalesced")
+                .description("Events dropped because a later event of the same aggregate replaced them")
+                .tag("binding", binding)
+                .register(meterRegistry);
+        Gauge.builder("messaging.events.coalescing.pending", this, EventCoalescer::pendingCount)
+                .description("Events waiting out their coalescing window")
+                .tag("binding", binding)
+                .register(meterRegistry);
+        this.scheduler = windowNanos == 0 ? null : Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "event-coalescer-" + binding);
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public void submit(Long aggregateId, Runnable publish) {
+        if (scheduler == null || aggregateId == null) {
+            publish.run();
+            return;
+        }
+        synchronized (this) {
+            Pending previous = pending.get(aggregateId);
+            if (previous != null) {
+                coalesced.increment();
+                pending.put(aggregateId, new Pending(publish, previous.deadline()));
+                return;
+            }
+            pending.put(aggregateId, new Pending(publish, System.nanoTime() + windowNanos));
+        }
+        scheduler.schedule(this::publishDue, windowNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Publishes the aggregate's pending update now, ahead of an event that bypasses
+     * coalescing (a delete must not overtake the update before it).
+     */
+    public void flush(Long aggregateId) {
+        flush(aggregateId == null ? List.of() : List.of(aggregateId));
+    }
+
+    /** Publishes the pending updates of all given aggregates now, in their pending order. */
+    public void flush(Collection<Long> aggregateIds) {
+        if (scheduler == null || aggregateIds.isEmpty()) {
+            return;
+        }
+        Set<Long> ids = new HashSet<>(aggregateIds);
+        synchronized (publishing) {
+            List<Pending> flushed = new ArrayList<>();
+            synchronized (this) {
+                Iterator<Map.Entry<Long, Pending>> it = pending.entrySet().iterator();
+                while (it.hasNext() && flushed.size() < ids.size()) {
+                    Map.Entry<Long, Pending> entry = it.next();
+                    if (ids.contains(entry.getKey())) {
+                        it.remove();
+                        flushed.add(entry.getValue());
+                    }
+                }
+            }
+            flushed.forEach(this::run);
+        }
+    }
+
+    void publishDue() {
+        synchronized (publishing) {
+            List<Pending> due = new ArrayList<>();
+            synchronized (this) {
+                long now = System.nanoTime();
+                Iterator<Pending> it = pending.values().iterator();
+                while (it.hasNext()) {
+                    Pending entry = it.next();
+                    if (entry.deadline() - now > 0) {
+                        // Deadlines follow insertion order
+                        break;
+                    }
+                    it.remove();
+                    due.add(entry);
+                }
+            }
+            due.forEach(this::run);
+        }
+    }
+
+    synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    private void run(Pending entry) {
+        try {
+            entry.publish().run();
+        } catch (RuntimeException ex) {
+            log.error("Failed to publish coalesced event", ex);
+        }
+    }
+
+    /** Publishes whatever is still waiting before the binder goes away. */
+    @Override
+    public void destroy() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            synchronized (publishing) {
+                List<Pending> remaining;
+                synchronized (this) {
+                    remaining = new ArrayList<>(pending.values());
+                    pending.clear();
+                }
+                remaining.forEach(this::run);
+            }
+        }
+    }
+}
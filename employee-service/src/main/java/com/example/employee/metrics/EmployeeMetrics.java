@@ -6,6 +6,8 @@ import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Custom metrics for Employee Service
  */
@@ -17,6 +19,7 @@ public class EmployeeMetrics {
     private final Counter employeeCreatedCounter;
     private final Counter employeeUpdatedCounter;
     private final Counter employeeDeletedCounter;
+    private final AtomicLong totalEmployees = new AtomicLong();
 
     public EmployeeMetrics(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
@@ -29,6 +32,9 @@ public class EmployeeMetrics {
         this.employeeDeletedCounter = Counter.builder("employee.deleted")
                 .description("Number of employees deleted")
                 .register(meterRegistry);
+        Gauge.builder("employee.total", totalEmployees, AtomicLong::get)
+                .description("Total number of employees")
+                .register(meterRegistry);
     }
 
     public void incrementEmployeeCreated() {
@@ -43,9 +49,19 @@ public class EmployeeMetrics {
         employeeDeletedCounter.increment();
     }
 
+    public void incrementEmployeeUpdated(long count) {
+        employeeUpdatedCounter.increment(count);
+    }
+
+    public void incrementEmployeeDeleted(long count) {
+        employeeDeletedCounter.increment(count);
+    }
+
     public void setTotalEmployees(long count) {
-        Gauge.builder("employee.total", () -> count)
-                .description("Total number of employees")
-                .register(meterRegistry);
+        totalEmployees.set(count);
+    }
+
+    public void adjustTotalEmployees(long delta) {
+        totalEmployees.addAndGet(delta);
     }
 }
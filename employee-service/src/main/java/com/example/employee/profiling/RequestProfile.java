@@ -0,0 +1,98 @@
+package com.example.employee.profiling;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SQL statements and remote calls made while serving one HTTP request. Bound to the
+ * request thread by {@link RequestProfilingFilter}; work outside a request (schedulers,
+ * listeners, migrations) has no current profile and is not recorded. Remote calls run on
+ * circuit breaker threads, which {@link RequestProfileAccessor} hands the profile to, so
+ * their totals are safe to update concurrently.
+ */
+public final class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    /** Distinct statement texts tracked per request when looking for repeats. */
+    private static final int MAX_TRACKED_STATEMENTS = 64;
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Integer> statementCounts = new HashMap<>();
+    private int statements;
+    private long dbNanos;
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+    private final AtomicLong remoteNanos = new AtomicLong();
+
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    static RequestProfile start() {
+        RequestProfile profile = new RequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    static void set(RequestProfile profile) {
+        CURRENT.set(profile);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public void recordStatement(String sql, long nanos) {
+        statements++;
+        dbNanos += nanos;
+        if (sql != null && (statementCounts.size() < MAX_TRACKED_STATEMENTS || statementCounts.containsKey(sql))) {
+            statementCounts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public void recordRemoteCall(long nanos) {
+        remoteCalls.incrementAndGet();
+        remoteNanos.addAndGet(nanos);
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    public int getRemoteCalls() {
+        return remoteCalls.get();
+    }
+
+    public long getRemoteNanos() {
+        return remoteNanos.get();
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /** The statement text executed most often, the usual signature of an N+1 loop; null if none. */
+    public Map.Entry<String, Integer> mostRepeatedStatement() {
+        return statementCounts.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElse(null);
+    }
+
+    /** {@code Server-Timing} value with db, remote and total durations in milliseconds. */
+    public String serverTiming() {
+        return String.format(Locale.ROOT,
+                "db;dur=%.1f;desc=\"%d queries\", remote;dur=%.1f;desc=\"%d calls\", total;dur=%.1f",
+                millis(dbNanos), statements, millis(remoteNanos.get()), remoteCalls.get(), millis(elapsedNanos()));
+    }
+
+    static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.employee.repo;
+
+import com.example.employee.domain.Employee;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Listing queries over {@code Employee} built from {@link EmployeeSpecifications}, leaving
+ * counting to the caller, plus tuple projections that select only the requested attributes. Each tuple element is aliased
+ * with its attribute name.
+ */
+public interface EmployeeProjectionRepository {
+
+    /** One page of the filtered listing without the accompanying count query. */
+    List<Employee> findContentByFilters(String email, String lastName, Long departmentId, Pageable pageable);
+
+    List<Tuple> findProjectedByFilters(Collection<String> attributes, String email, String lastName,
+                                       Long departmentId, Pageable pageable);
+
+    /** Keyset page of ids matching the listing filters, for chunked bulk operations. */
+    List<Long> findIdsByFilters(String email, String lastName, Long departmentId, long afterId, int limit);
+
+    long countByFilters(String email, String lastName, Long departmentId);
+
+    Optional<Tuple> findProjectedById(Collection<String> attributes, Long id);
+
+    List<Tuple> searchProjected(Collection<String> attributes, String query);
+}
@@ -0,0 +1,104 @@
+package com.example.employee.repo;
+
+import com.example.employee.domain.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+class EmployeeProjectionRepositoryImpl implements EmployeeProjectionRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<Employee> findContentByFilters(String email, String lastName, Long departmentId, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Employee> query = cb.createQuery(Employee.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(root)
+                .where(EmployeeSpecifications.withFilters(email, lastName, departmentId).toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        return page(em.createQuery(query), pageable).getResultList();
+    }
+
+    @Override
+    public List<Tuple> findProjectedByFilters(Collection<String> attributes, String email, String lastName,
+                                              Long departmentId, Pageable pageable) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        query.multiselect(selections(root, attributes))
+                .where(EmployeeSpecifications.withFilters(email, lastName, departmentId).toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        return page(em.createQuery(query), pageable).getResultList();
+    }
+
+    @Override
+    public List<Long> findIdsByFilters(String email, String lastName, Long departmentId, long afterId, int limit) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(root.get("id"))
+                .where(EmployeeSpecifications.withFilters(email, lastName, departmentId)
+                        .and(EmployeeSpecifications.idGreaterThan(afterId))
+                        .toPredicate(root, query, cb))
+                .orderBy(cb.asc(root.get("id")));
+        return em.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public long countByFilters(String email, String lastName, Long departmentId) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(cb.count(root)).where(EmployeeSpecifications.withFilters(email, lastName, departmentId).toPredicate(root, query, cb));
+        return em.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    public Optional<Tuple> findProjectedById(Collection<String> attributes, Long id) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Employee> root = query.from(Employee.class);
+        query.multiselect(selections(root, attributes)).where(cb.equal(root.get("id"), id));
+        return em.createQuery(query).getResultList().stream().findFirst();
+    }
+
+    @Override
+    public List<Tuple> searchProjected(Collection<String> attributes, String query) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Tuple> criteria = cb.createTupleQuery();
+        Root<Employee> root = criteria.from(Employee.class);
+        String pattern = "%" + query.toLowerCase() + "%";
+        criteria.multiselect(selections(root, attributes)).where(cb.or(
+                cb.like(cb.lower(root.get("firstName")), pattern),
+                cb.like(cb.lower(root.get("lastName")), pattern),
+                cb.like(cb.lower(root.get("email")), pattern)));
+        return em.createQuery(criteria).getResultList();
+    }
+
+    private static <T> TypedQuery<T> page(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query;
+    }
+
+    private static List<Selection<?>> selections(Root<Employee> root, Collection<String> attributes) {
+        List<Selection<?>> selections = new ArrayList<>(attributes.size());
+        for (String attribute : attributes) {
+            selections.add(root.get(attribute).alias(attribute));
+        }
+        return selections;
+    }
+}
@@ -6,35 +6,84 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface EmployeeRepository extends JpaRepository<Employee, Long> {
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeProjectionRepository {
     boolean existsByEmail(String email);
     
     boolean existsByEmailAndIdNot(String email, Long id);
     
     Page<Employee> findByDepartmentId(Long departmentId, Pageable pageable);
     
-    Page<Employee> findByEmailContainingIgnoreCase(String email, Pageable pageable);
-    
-    Page<Employee> findByLastNameContainingIgnoreCase(String lastName, Pageable pageable);
-    
-    @Query("SELECT e FROM Employee e WHERE " +
-           "(:email IS NULL OR LOWER(e.email) LIKE LOWER(CONCAT('%', :email, '%'))) AND " +
-           "(:lastName IS NULL OR LOWER(e.lastName) LIKE LOWER(CONCAT('%', :lastName, '%'))) AND " +
-           "(:departmentId IS NULL OR e.departmentId = :departmentId)")
-    Page<Employee> findByFilters(@Param("email") String email, 
-                                @Param("lastName") String lastName, 
-                                @Param("departmentId") Long departmentId, 
-                                Pageable pageable);
-    
     @Query("SELECT e FROM Employee e WHERE " +
            "LOWER(e.firstName) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
            "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
            "LOWER(e.email) LIKE LOWER(CONCAT('%', :query, '%'))")
     List<Employee> searchByNameOrEmail(@Param("query") String query);
     
+    /** Planner statistics row estimate for the whole table; negative until the table is first analyzed. */
+    @Query(value = "SELECT CAST(reltuples AS BIGINT) FROM pg_class WHERE oid = CAST('employee.employees' AS regclass)",
+           nativeQuery = true)
+    long estimateCount();
+
     @Query("SELECT e.departmentId, COUNT(e) FROM Employee e GROUP BY e.departmentId")
     List<Object[]> countByDepartment();
+
+    /** Keyset page of {@code [id, version]} in id order, for reconciling a local copy with the table. */
+    @Query("SELECT e.id, e.version FROM Employee e WHERE e.id > :afterId ORDER BY e.id")
+    List<Object[]> findIdVersionsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * Applies the non-null fields in one statement and returns the new row. When
+     * {@code version} is given the row only changes if it still has that version;
+     * empty means the employee is missing or was modified concurrently.
+     */
+    @Transactional
+    @Query(value = "UPDATE employee.employees SET " +
+           "first_name = COALESCE(CAST(:firstName AS VARCHAR), first_name), " +
+           "last_name = COALESCE(CAST(:lastName AS VARCHAR), last_name), " +
+           "email = COALESCE(CAST(:email AS VARCHAR), email), " +
+           "department_id = COALESCE(CAST(:departmentId AS BIGINT), department_id), " +
+           "updated_at = now(), version = version + 1 " +
+           "WHERE id = :id AND (CAST(:version AS BIGINT) IS NULL OR version = CAST(:version AS BIGINT)) " +
+           "RETURNING *", nativeQuery = true)
+    Optional<Employee> updateReturning(@Param("id") Long id,
+                                       @Param("version") Long version,
+                                       @Param("firstName") String firstName,
+                                       @Param("lastName") String lastName,
+                                       @Param("email") String email,
+                                       @Param("departmentId") Long departmentId);
+
+    /** Deletes in one statement and returns the removed row for the deleted event. */
+    @Transactional
+    @Query(value = "DELETE FROM employee.employees WHERE id = :id RETURNING *", nativeQuery = true)
+    Optional<Employee> deleteReturning(@Param("id") Long id);
+
+    /**
+     * Applies the non-null fields to all given ids in one statement. Rows are locked in id
+     * order first so concurrent chunks cannot deadlock. Returns
+     * {@code [id, previous department_id, new department_id]} per changed row.
+     */
+    @Transactional
+    @Query(value = "UPDATE employee.employees e SET " +
+           "first_name = COALESCE(CAST(:firstName AS VARCHAR), e.first_name), " +
+           "last_name = COALESCE(CAST(:lastName AS VARCHAR), e.last_name), " +
+           "department_id = COALESCE(CAST(:departmentId AS BIGINT), e.department_id), " +
+           "updated_at = now(), version = e.version + 1 " +
+           "FROM (SELECT id, department_id FROM employee.employees WHERE id IN (:ids) ORDER BY id FOR UPDATE) previous " +
+           "WHERE e.id = previous.id " +
+           "RETURNING e.id, previous.department_id, e.department_id", nativeQuery = true)
+    List<Object[]> bulkUpdateReturning(@Param("ids") Collection<Long> ids,
+                                       @Param("firstName") String firstName,
+                                       @Param("lastName") String lastName,
+                                       @Param("departmentId") Long departmentId);
+
+    /** Deletes all given ids in one statement; returns {@code [id, department_id]} per removed row. */
+    @Transactional
+    @Query(value = "DELETE FROM employee.employees WHERE id IN (:ids) RETURNING id, department_id", nativeQuery = true)
+    List<Object[]> bulkDeleteReturning(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,73 @@
+package com.example.employee.repo;
+
+import com.example.employee.domain.Employee;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Listing filters that emit only the predicates actually supplied, in forms the indexes
+ * can serve:
+ * <ul>
+ *   <li>{@code departmentId}: equality</li>
+ *   <li>{@code email}: a full address ({@code a@b}) is a case-insensitive equality, anything
+ *       else a case-insensitive prefix</li>
+ *   <li>{@code lastName}: case-insensitive prefix</li>
+ * </ul>
+ * A leading {@code *} ({@code *smith}) asks for a substring match instead, which always scans.
+ */
+public final class EmployeeSpecifications {
+
+    private static final char ESCAPE = '\\';
+
+    private EmployeeSpecifications() {
+    }
+
+    public static Specification<Employee> withFilters(String email, String lastName, Long departmentId) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>(3);
+            if (departmentId != null) {
+                predicates.add(cb.equal(root.get("departmentId"), departmentId));
+            }
+            if (hasText(email)) {
+                Expression<String> column = cb.lower(root.get("email"));
+                String value = email.trim().toLowerCase(Locale.ROOT);
+                predicates.add(isFullEmail(value) ? cb.equal(column, value) : matches(cb, column, value));
+            }
+            if (hasText(lastName)) {
+                predicates.add(matches(cb, cb.lower(root.get("lastName")), lastName.trim().toLowerCase(Locale.ROOT)));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    public static Specification<Employee> idGreaterThan(long afterId) {
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), afterId);
+    }
+
+    /** Prefix match, or substring match when the value starts with {@code *}. */
+    private static Predicate matches(CriteriaBuilder cb, Expression<String> column, String value) {
+        if (value.startsWith("*")) {
+            return cb.like(column, "%" + escape(value.substring(1)) + "%", ESCAPE);
+        }
+        return cb.like(column, escape(value) + "%", ESCAPE);
+    }
+
+    private static boolean isFullEmail(String value) {
+        int at = value.indexOf('@');
+        return at > 0 && at < value.length() - 1 && !value.startsWith("*");
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
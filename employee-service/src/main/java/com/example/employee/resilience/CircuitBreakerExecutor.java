@@ -0,0 +1,45 @@
+package com.example.employee.resilience;
+
+import io.micrometer.context.ContextExecutorService;
+import io.micrometer.context.ContextSnapshot;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.client.circuitbreaker.Customizer;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Threads the circuit breaker runs Feign calls on, in place of the factory's unbounded default.
+ * Tasks carry the caller's context (trace, request profile), so the remote call stays in the
+ * caller's trace and is counted in its request profile. A call abandoned by the time limiter
+ * keeps its thread until the HTTP exchange ends, so the pool is bounded: once every thread is
+ * busy, further calls are rejected into the fallback at once, as the bulkhead would reject them.
+ */
+public class CircuitBreakerExecutor implements Customizer<Resilience4JCircuitBreakerFactory>, DisposableBean {
+
+    private final ExecutorService executor;
+
+    public CircuitBreakerExecutor(int maxThreads) {
+        AtomicInteger threads = new AtomicInteger();
+        this.executor = ContextExecutorService.wrap(new ThreadPoolExecutor(0, maxThreads, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), r -> {
+                    Thread t = new Thread(r, "circuit-breaker-" + threads.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }), ContextSnapshot::captureAll);
+    }
+
+    @Override
+    public void customize(Resilience4JCircuitBreakerFactory factory) {
+        factory.configureExecutorService(executor);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+}
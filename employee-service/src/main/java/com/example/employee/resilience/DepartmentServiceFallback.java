@@ -1,35 +1,42 @@
 package com.example.employee.resilience;
 
+import com.example.employee.client.DepartmentClient;
+import com.example.employee.dto.DepartmentBatchGetRequest;
+import com.example.employee.dto.DepartmentBatchGetResponse;
 import com.example.employee.dto.DepartmentDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
- * Fallback service for Department Service when it's unavailable
+ * Answers {@link DepartmentClient} calls that failed, timed out, were rejected by the bulkhead
+ * or met an open circuit. Departments degrade to unknown, which callers already handle by
+ * leaving employees unenriched and not caching them, instead of a placeholder that would be
+ * cached as if it were real.
  */
 @Component
 @Slf4j
-public class DepartmentServiceFallback {
+public class DepartmentServiceFallback implements DepartmentClient {
 
-    public DepartmentDTO getDepartmentFallback(Long departmentId, Exception ex) {
-        log.warn("Department service is unavailable, using fallback for department ID: {}", departmentId, ex);
-        
-        return DepartmentDTO.builder()
-                .id(departmentId)
-                .name("Department Unavailable")
-                .code("UNAVAILABLE")
-                .description("Department service is currently unavailable")
-                .build();
+    @Override
+    public DepartmentDTO getDepartment(Long id) {
+        log.debug("Department service unavailable, department {} left unresolved", id);
+        return null;
+    }
+
+    @Override
+    public DepartmentDTO getDepartmentByCode(String code) {
+        log.debug("Department service unavailable, department code {} left unresolved", code);
+        return null;
     }
 
-    public DepartmentDTO getDepartmentByCodeFallback(String code, Exception ex) {
-        log.warn("Department service is unavailable, using fallback for department code: {}", code, ex);
-        
-        return DepartmentDTO.builder()
-                .id(-1L)
-                .name("Department Unavailable")
-                .code(code)
-                .description("Department service is currently unavailable")
+    @Override
+    public DepartmentBatchGetResponse getDepartments(DepartmentBatchGetRequest request) {
+        log.debug("Department service unavailable, {} departments left unresolved", request.getIds().size());
+        return DepartmentBatchGetResponse.builder()
+                .found(List.of())
+                .missingIds(List.of())
                 .build();
     }
 }
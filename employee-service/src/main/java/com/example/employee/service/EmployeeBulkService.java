@@ -0,0 +1,214 @@
+package com.example.employee.service;
+
+import com.example.employee.cache.CacheNames;
+import com.example.employee.cache.TwoTierCache;
+import com.example.employee.cache.TwoTierCacheManager;
+import com.example.employee.config.BulkOperationProperties;
+import com.example.employee.dto.*;
+import com.example.employee.event.EmployeesBulkDeletedEvent;
+import com.example.employee.event.EmployeesBulkUpdatedEvent;
+import com.example.employee.exception.EmployeeValidationException;
+import com.example.employee.messaging.EmployeeEventPublisher;
+import com.example.employee.metrics.EmployeeMetrics;
+import com.example.employee.repo.EmployeeRepository;
+import com.example.employee.snapshot.EmployeeReadSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Set-based bulk update and delete. Each chunk is one {@code UPDATE/DELETE ... RETURNING}
+ * statement in its own transaction, followed by one aggregate event per department
+ * instead of one event per employee.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmployeeBulkService {
+
+    private final EmployeeRepository repository;
+    private final EmployeeEventPublisher eventPublisher;
+    private final EmployeeMetrics metrics;
+    private final TwoTierCacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private final BulkOperationProperties properties;
+    private final ListingCounter listingCounter;
+    private final EmployeeReadSnapshot readSnapshot;
+
+    public BulkOperationResponse bulkUpdate(BulkUpdateRequest request) {
+        BulkUpdateRequest.Patch patch = request.getPatch();
+        if (patch == null || patch.isEmpty()) {
+            throw new EmployeeValidationException("patch must set at least one of firstName, lastName, departmentId");
+        }
+        return execute("UPDATE", request.getIds(), request.getFilter(), ids -> updateChunk(ids, patch));
+    }
+
+    public BulkOperationResponse bulkDelete(BulkDeleteRequest request) {
+        return execute("DELETE", request.getIds(), request.getFilter(), this::deleteChunk);
+    }
+
+    /**
+     * Runs the statement over explicit ids in fixed-size chunks, or walks the filter by id
+     * keyset. A failed id chunk is reported and the rest still run; a failed filter chunk
+     * stops the walk because the remaining rows can no longer be located reliably.
+     */
+    private BulkOperationResponse execute(String operation, List<Long> ids, EmployeeFilter filter,
+                                          Function<List<Long>, List<Long>> statement) {
+        boolean byIds = ids != null && !ids.isEmpty();
+        boolean byFilter = filter != null && !filter.isEmpty();
+        if (byIds == byFilter) {
+            throw new EmployeeValidationException("exactly one of ids or a non-empty filter is required");
+        }
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        List<BulkOperationResponse.ChunkResult> chunks = new ArrayList<>();
+
+        if (byIds) {
+            List<Long> distinct = new ArrayList<>(new LinkedHashSet<>(ids));
+            if (distinct.size() > properties.getMaxIds()) {
+                throw new EmployeeValidationException("cannot process more than " + properties.getMaxIds() + " ids at once");
+            }
+            for (int from = 0; from < distinct.size(); from += chunkSize) {
+                List<Long> chunk = distinct.subList(from, Math.min(from + chunkSize, distinct.size()));
+                chunks.add(runChunk(chunks.size(), () -> chunk, statement, true));
+            }
+        } else {
+            long afterId = 0;
+            while (true) {
+                long cursor = afterId;
+                List<Long> selected = new ArrayList<>();
+                BulkOperationResponse.ChunkResult result = runChunk(chunks.size(), () -> {
+                    selected.addAll(repository.findIdsByFilters(filter.getEmail(), filter.getLastName(),
+                            filter.getDepartmentId(), cursor, chunkSize));
+                    return selected;
+                }, statement, false);
+                if (selected.isEmpty() && result.isSuccess()) {
+                    break;
+                }
+                chunks.add(result);
+                if (!result.isSuccess() || selected.size() < chunkSize) {
+                    break;
+                }
+                afterId = selected.get(selected.size() - 1);
+            }
+        }
+
+        int affected = chunks.stream().mapToInt(BulkOperationResponse.ChunkResult::getAffected).sum();
+        int failed = (int) chunks.stream().filter(c -> !c.isSuccess()).count();
+        log.info("Bulk {} affected {} employees in {} chunks ({} failed)", operation, affected, chunks.size(), failed);
+        return BulkOperationResponse.builder()
+                .operation(operation)
+                .chunks(chunks)
+                .totalAffected(affected)
+                .failedChunks(failed)
+                .build();
+    }
+
+    private BulkOperationResponse.ChunkResult runChunk(int index, Supplier<List<Long>> target,
+                                                       Function<List<Long>, List<Long>> statement, boolean reportMissing) {
+        List<Long> requested = new ArrayList<>();
+        try {
+            List<Long> changed = transactionTemplate.execute(status -> {
+                requested.addAll(target.get());
+                return requested.isEmpty() ? List.<Long>of() : statement.apply(requested);
+            });
+            List<Long> missing = null;
+            if (reportMissing && changed.size() < requested.size()) {
+                Set<Long> found = new HashSet<>(changed);
+                missing = requested.stream().filter(id -> !found.contains(id)).toList();
+            }
+            return BulkOperationResponse.ChunkResult.builder()
+                    .chunk(index)
+                    .requested(requested.size())
+                    .affected(changed.size())
+                    .success(true)
+                    .missingIds(missing)
+                    .build();
+        } catch (Exception ex) {
+            log.warn("Bulk chunk {} failed: {}", index, ex.getMessage());
+            return BulkOperationResponse.ChunkResult.builder()
+                    .chunk(index)
+                    .requested(requested.size())
+                    .success(false)
+                    .error(ex.getMessage())
+                    .build();
+        }
+    }
+
+    private List<Long> updateChunk(List<Long> ids, BulkUpdateRequest.Patch patch) {
+        List<Object[]> rows = repository.bulkUpdateReturning(ids, patch.getFirstName(), patch.getLastName(),
+                patch.getDepartmentId());
+
+        // Group by (from, to) department so one event says "N employees moved from A to B"
+        Map<List<Long>, List<Long>> moves = new LinkedHashMap<>();
+        List<Long> changed = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long id = toLong(row[0]);
+            changed.add(id);
+            moves.computeIfAbsent(Arrays.asList(toLong(row[1]), toLong(row[2])), k -> new ArrayList<>()).add(id);
+        }
+        Set<String> fields = new LinkedHashSet<>();
+        if (patch.getFirstName() != null) fields.add("firstName");
+        if (patch.getLastName() != null) fields.add("lastName");
+        if (patch.getDepartmentId() != null) fields.add("departmentId");
+
+        LocalDateTime now = LocalDateTime.now();
+        moves.forEach((departments, employeeIds) -> eventPublisher.publishEmployeesBulkUpdated(
+                EmployeesBulkUpdatedEvent.builder()
+                        .fromDepartmentId(departments.get(0))
+                        .toDepartmentId(departments.get(1))
+                        .count(employeeIds.size())
+                        .employeeIds(employeeIds)
+                        .changedFields(fields)
+                        .updatedAt(now)
+                        .build()));
+        evict(changed);
+        // RETURNING only has the departments; the snapshot needs the whole rows
+        readSnapshot.reload(changed);
+        metrics.incrementEmployeeUpdated(changed.size());
+        return changed;
+    }
+
+    private List<Long> deleteChunk(List<Long> ids) {
+        List<Object[]> rows = repository.bulkDeleteReturning(ids);
+
+        Map<Long, List<Long>> byDepartment = new LinkedHashMap<>();
+        List<Long> deleted = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            Long id = toLong(row[0]);
+            deleted.add(id);
+            byDepartment.computeIfAbsent(toLong(row[1]), k -> new ArrayList<>()).add(id);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        byDepartment.forEach((departmentId, employeeIds) -> eventPublisher.publishEmployeesBulkDeleted(
+                EmployeesBulkDeletedEvent.builder()
+                        .departmentId(departmentId)
+                        .count(employeeIds.size())
+                        .employeeIds(employeeIds)
+                        .deletedAt(now)
+                        .build()));
+        evict(deleted);
+        readSnapshot.removeAll(deleted);
+        metrics.incrementEmployeeDeleted(deleted.size());
+        metrics.adjustTotalEmployees(-deleted.size());
+        return deleted;
+    }
+
+    private void evict(List<Long> ids) {
+        TwoTierCache cache = cacheManager.getCache(CacheNames.EMPLOYEES);
+        ids.forEach(cache::evict);
+        if (!ids.isEmpty()) {
+            listingCounter.invalidate();
+        }
+    }
+
+    private static Long toLong(Object value) {
+        return value == null ? null : ((Number) value).longValue();
+    }
+}
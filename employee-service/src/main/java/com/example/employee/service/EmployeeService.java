@@ -1,6 +1,10 @@
 package com.example.employee.service;
 
-import com.example.employee.client.DepartmentClient;
+import com.example.employee.cache.CacheNames;
+import com.example.employee.cache.TwoTierCache;
+import com.example.employee.cache.TwoTierCacheManager;
+import com.example.employee.client.DepartmentBatchLoader;
+import com.example.employee.config.BulkOperationProperties;
 import com.example.employee.domain.Employee;
 import com.example.employee.dto.*;
 import com.example.employee.event.*;
@@ -8,15 +12,22 @@ import com.example.employee.exception.*;
 import com.example.employee.messaging.EmployeeEventPublisher;
 import com.example.employee.metrics.EmployeeMetrics;
 import com.example.employee.repo.EmployeeRepository;
+import com.example.employee.snapshot.EmployeeReadSnapshot;
+import jakarta.persistence.Tuple;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,43 +35,220 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class EmployeeService {
 
+    /** Response fields selectable with {@code fields=}; {@code department} triggers enrichment. */
+    public static final Set<String> SELECTABLE_FIELDS = Set.of(
+            "id", "firstName", "lastName", "email", "departmentId", "version", "department");
+
+    /** Sort keys with a backing index; anything else would sort the whole filtered set. */
+    public static final Set<String> SORTABLE_FIELDS = Set.of("id", "lastName", "email", "departmentId");
+
+    private static final List<String> VALIDATOR_ATTRIBUTES =
+            List.of("id", "version", "updatedAt", "createdAt", "departmentId");
+
     private final EmployeeRepository repository;
-    private final DepartmentClient departmentClient;
+    private final DepartmentBatchLoader departmentLoader;
     private final EmployeeEventPublisher eventPublisher;
     private final EmployeeMetrics metrics;
+    private final TwoTierCacheManager cacheManager;
+    private final ListingCounter listingCounter;
+    private final EmployeeReadSnapshot readSnapshot;
+    private final BulkOperationProperties bulkProperties;
 
     public List<EmployeeDTO> getAll() {
-        return repository.findAll().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return toDTOs(repository.findAll());
     }
 
+    /**
+     * Enriched listing page, cached by normalized filter, page and sort until the next employee
+     * write or department change.
+     */
+    @SuppressWarnings("unchecked")
     public PageResponse<EmployeeDTO> getAllPaginated(EmployeeSearchRequest request) {
         // Parse sort parameter
         Sort sort = parseSort(request.getSort());
         Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), sort);
+
+        TwoTierCache cache = cacheManager.getCache(CacheNames.EMPLOYEE_PAGES);
+        String key = filterSignature(request) + "&page=" + pageable.getPageNumber() + "&size=" + pageable.getPageSize()
+                + "&sort=" + sort + "&count=" + request.getCountStrategy();
+        PageResponse<EmployeeDTO> cached = cache.getIfPresent(key, PageResponse.class);
+        if (cached != null) {
+            return cached;
+        }
+        PageResponse<EmployeeDTO> page = loadPage(request, pageable);
+        // Don't pin a page whose department lookups failed
+        if (page.getContent().stream().allMatch(dto -> dto.getDepartmentId() == null || dto.getDepartment() != null)) {
+            cache.put(key, page);
+        }
+        return page;
+    }
+
+    private PageResponse<EmployeeDTO> loadPage(EmployeeSearchRequest request, Pageable pageable) {
+        // A department alone is answered from the read snapshot when it is serving
+        if (request.getEmail() == null && request.getLastName() == null && request.getDepartmentId() != null) {
+            Optional<Page<Employee>> page = readSnapshot.findByDepartment(request.getDepartmentId(), pageable);
+            if (page.isPresent()) {
+                return buildPageResponse(page.get(), toDTOs(page.get().getContent()), CountStrategy.EXACT);
+            }
+        }
         
-        // Use repository method with filters
-        Page<Employee> page = repository.findByFilters(
+        // Page content only; the total comes from the counting strategy
+        List<Employee> content = repository.findContentByFilters(
                 request.getEmail(), 
                 request.getLastName(), 
                 request.getDepartmentId(), 
                 pageable
         );
         
-        return buildPageResponse(page);
+        ListingCounter.Total total = countTotal(request, pageable, content.size());
+        return buildPageResponse(new PageImpl<>(content, pageable, total.value()), toDTOs(content),
+                total.strategy());
+    }
+
+    /**
+     * Sparse variant of {@link #getAllPaginated(EmployeeSearchRequest)}: only the columns behind
+     * {@code fields} are selected, and departments are looked up only when {@code department}
+     * is one of them.
+     */
+    public PageResponse<Map<String, Object>> getAllPaginated(EmployeeSearchRequest request, String fields) {
+        Set<String> selected = parseFields(fields);
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), parseSort(request.getSort()));
+        List<Tuple> content = repository.findProjectedByFilters(attributesFor(selected),
+                request.getEmail(), request.getLastName(), request.getDepartmentId(), pageable);
+        ListingCounter.Total total = countTotal(request, pageable, content.size());
+        return buildPageResponse(new PageImpl<>(content, pageable, total.value()), toRows(content, selected),
+                total.strategy());
+    }
+
+    public Map<String, Object> getById(Long id, String fields) {
+        Set<String> selected = parseFields(fields);
+        Tuple tuple = repository.findProjectedById(attributesFor(selected), id)
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+        return toRows(List.of(tuple), selected).get(0);
+    }
+
+    public List<Map<String, Object>> search(String query, String fields) {
+        Set<String> selected = parseFields(fields);
+        return toRows(repository.searchProjected(attributesFor(selected), query), selected);
+    }
+
+    /**
+     * Validator of one employee from its id, version and timestamps, without loading it. When
+     * enriching, the department is resolved through the cache as {@link #getById} would, so
+     * the validator matches {@link #validatorOf(EmployeeDTO)} of the response.
+     */
+    public ResourceValidator getValidator(Long id, boolean enrichWithDepartment) {
+        Optional<Employee> snapshot = readSnapshot.findById(id);
+        if (snapshot.isPresent()) {
+            Employee e = snapshot.get();
+            return ResourceValidator.of(e.getId(), e.getVersion(), e.getUpdatedAt() != null ? e.getUpdatedAt() : e.getCreatedAt(),
+                    enrichWithDepartment ? findDepartment(e.getDepartmentId()) : null);
+        }
+        Tuple tuple = repository.findProjectedById(VALIDATOR_ATTRIBUTES, id)
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+        return validatorOf(tuple, enrichWithDepartment ? findDepartment(tuple.get("departmentId", Long.class)) : null);
+    }
+
+    /** Validator of one enriched listing page; matches {@link #validatorOf(PageResponse)} of the same page. */
+    public ResourceValidator getPageValidator(EmployeeSearchRequest request) {
+        Pageable pageable = PageRequest.of(request.getPage(), request.getSize(), parseSort(request.getSort()));
+        List<Tuple> content = repository.findProjectedByFilters(VALIDATOR_ATTRIBUTES,
+                request.getEmail(), request.getLastName(), request.getDepartmentId(), pageable);
+        Page<Tuple> page = new PageImpl<>(content, pageable, countTotal(request, pageable, content.size()).value());
+        Map<Long, DepartmentDTO> departments = findDepartmentsById(content.stream()
+                .map(t -> t.get("departmentId", Long.class))
+                .collect(Collectors.toList()));
+        return ResourceValidator.ofPage(page.getTotalElements(), content.stream()
+                .map(t -> validatorOf(t, departments.get(t.get("departmentId", Long.class))))
+                .collect(Collectors.toList()));
+    }
+
+    /** Varies with the embedded department as well as the employee, as the body does. */
+    public static ResourceValidator validatorOf(EmployeeDTO dto) {
+        return ResourceValidator.of(dto.getId(), dto.getVersion(), dto.getUpdatedAt(), dto.getDepartment());
+    }
+
+    public static ResourceValidator validatorOf(PageResponse<EmployeeDTO> page) {
+        return ResourceValidator.ofPage(page.getTotalElements(), page.getContent().stream()
+                .map(EmployeeService::validatorOf)
+                .collect(Collectors.toList()));
+    }
+
+    private static ResourceValidator validatorOf(Tuple tuple, DepartmentDTO department) {
+        LocalDateTime updatedAt = tuple.get("updatedAt", LocalDateTime.class);
+        return ResourceValidator.of(tuple.get("id", Long.class), tuple.get("version", Long.class),
+                updatedAt != null ? updatedAt : tuple.get("createdAt", LocalDateTime.class), department);
     }
 
     public EmployeeDTO getById(Long id, boolean enrichWithDepartment) {
-        Employee e = repository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
-        return toDTO(e, enrichWithDepartment);
+        if (!enrichWithDepartment) {
+            return toDTO(findEmployee(id), false);
+        }
+        TwoTierCache cache = cacheManager.getCache(CacheNames.EMPLOYEES);
+        EmployeeDTO cached = cache.getIfPresent(id, EmployeeDTO.class);
+        if (cached != null) {
+            return cached;
+        }
+        EmployeeDTO dto = toDTO(findEmployee(id), true);
+        // Don't pin a DTO whose department lookup failed
+        if (dto.getDepartmentId() == null || dto.getDepartment() != null) {
+            cache.put(id, dto);
+        }
+        return dto;
+    }
+
+    /**
+     * Employees for a list of ids: those not in the read snapshot are loaded with one
+     * {@code IN} query, and each distinct department is looked up once for the whole batch.
+     */
+    public EmployeeBatchGetResponse getByIds(List<Long> ids, boolean enrichWithDepartment) {
+        Set<Long> distinct = new LinkedHashSet<>(ids);
+        distinct.remove(null);
+        if (distinct.size() > bulkProperties.getBatchGetMaxIds()) {
+            throw new EmployeeValidationException("cannot fetch more than " + bulkProperties.getBatchGetMaxIds() + " ids at once");
+        }
+        Map<Long, Employee> employees = new HashMap<>();
+        List<Long> unresolved = new ArrayList<>();
+        for (Long id : distinct) {
+            readSnapshot.findById(id).ifPresentOrElse(e -> employees.put(id, e), () -> unresolved.add(id));
+        }
+        if (!unresolved.isEmpty()) {
+            repository.findAllById(unresolved).forEach(e -> employees.put(e.getId(), e));
+        }
+
+        Map<Long, DepartmentDTO> departments = enrichWithDepartment ? findDepartments(employees.values()) : new HashMap<>();
+        List<EmployeeDTO> found = new ArrayList<>(employees.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : distinct) {
+            Employee e = employees.get(id);
+            if (e != null) {
+                found.add(toDTO(e, departments.get(e.getDepartmentId())));
+            } else {
+                missing.add(id);
+            }
+        }
+        return EmployeeBatchGetResponse.builder()
+                .found(found)
+                .missingIds(missing)
+                .build();
+    }
+
+    /** From the read snapshot when serving; a miss may be a row another instance just created. */
+    private Employee findEmployee(Long id) {
+        return readSnapshot.findById(id)
+                .or(() -> repository.findById(id))
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+    }
+
+    /** Seeds the employee.total gauge once; writes keep it current afterwards. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initTotalEmployees() {
+        metrics.setTotalEmployees(repository.count());
     }
 
     @Transactional
     public EmployeeDTO create(EmployeeDTO dto) {
-        if (repository.existsByEmail(dto.getEmail())) {
-            throw new EmployeeConflictException("email", dto.getEmail());
-        }
+        // A duplicate email is rejected by the unique constraint and mapped to 409 by GlobalExceptionHandler
         Employee e = Employee.builder()
                 .firstName(dto.getFirstName())
                 .lastName(dto.getLastName())
@@ -68,6 +256,7 @@ public class EmployeeService {
                 .departmentId(dto.getDepartmentId())
                 .build();
         e = repository.save(e);
+        readSnapshot.put(e);
         
         // Publish employee created event
         EmployeeCreatedEvent event = EmployeeCreatedEvent.builder()
@@ -82,29 +271,41 @@ public class EmployeeService {
         
         // Record metrics
         metrics.incrementEmployeeCreated();
-        metrics.setTotalEmployees(repository.count());
+        metrics.adjustTotalEmployees(1);
+        listingCounter.invalidate();
         
         return toDTO(e);
     }
 
     @Transactional
     public EmployeeDTO update(Long id, EmployeeUpdateRequest request) {
-        Employee e = repository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
+        Employee e = updateReturning(id, request.getVersion(), request.getFirstName(), request.getLastName(),
+                request.getEmail(), request.getDepartmentId());
         
-        // Check for email conflicts (excluding current employee)
-        if (request.getEmail() != null && !request.getEmail().equals(e.getEmail())) {
-            if (repository.existsByEmailAndIdNot(request.getEmail(), id)) {
-                throw new IllegalArgumentException("Email already exists");
-            }
-        }
-        
-        // Update fields
-        if (request.getFirstName() != null) e.setFirstName(request.getFirstName());
-        if (request.getLastName() != null) e.setLastName(request.getLastName());
-        if (request.getEmail() != null) e.setEmail(request.getEmail());
-        if (request.getDepartmentId() != null) e.setDepartmentId(request.getDepartmentId());
+        // Record metrics
+        metrics.incrementEmployeeUpdated();
         
-        e = repository.save(e);
+        return toDTO(e);
+    }
+
+    @Transactional
+    public EmployeeDTO patch(Long id, EmployeePatchRequest request) {
+        // Update only provided fields
+        Employee e = updateReturning(id, request.getVersion(), request.getFirstName(), request.getLastName(),
+                request.getEmail(), request.getDepartmentId());
+        return toDTO(e);
+    }
+
+    /**
+     * One {@code UPDATE ... RETURNING} round trip. Email conflicts surface as a unique
+     * constraint violation; an empty result is either a missing employee or a stale version.
+     */
+    private Employee updateReturning(Long id, Long version, String firstName, String lastName,
+                                     String email, Long departmentId) {
+        Employee e = repository.updateReturning(id, version, firstName, lastName, email, departmentId)
+                .orElseThrow(() -> version != null && repository.existsById(id)
+                        ? new EmployeeConflictException("Employee " + id + " was modified concurrently; expected version " + version)
+                        : new EmployeeNotFoundException(id));
         
         // Publish employee updated event
         EmployeeUpdatedEvent event = EmployeeUpdatedEvent.builder()
@@ -116,40 +317,18 @@ public class EmployeeService {
                 .updatedAt(e.getUpdatedAt())
                 .build();
         eventPublisher.publishEmployeeUpdated(event);
-        
-        // Record metrics
-        metrics.incrementEmployeeUpdated();
-        
-        return toDTO(e);
-    }
-
-    @Transactional
-    public EmployeeDTO patch(Long id, EmployeePatchRequest request) {
-        Employee e = repository.findById(id).orElseThrow(() -> new EmployeeNotFoundException(id));
-        
-        // Check for email conflicts (excluding current employee)
-        if (request.getEmail() != null && !request.getEmail().equals(e.getEmail())) {
-            if (repository.existsByEmailAndIdNot(request.getEmail(), id)) {
-                throw new IllegalArgumentException("Email already exists");
-            }
-        }
-        
-        // Update only provided fields
-        if (request.getFirstName() != null) e.setFirstName(request.getFirstName());
-        if (request.getLastName() != null) e.setLastName(request.getLastName());
-        if (request.getEmail() != null) e.setEmail(request.getEmail());
-        if (request.getDepartmentId() != null) e.setDepartmentId(request.getDepartmentId());
-        
-        e = repository.save(e);
-        return toDTO(e);
+        cacheManager.getCache(CacheNames.EMPLOYEES).evict(id);
+        readSnapshot.put(e);
+        listingCounter.invalidate();
+        return e;
     }
 
     @Transactional
     public void delete(Long id) {
-        Employee employee = repository.findById(id)
+        // One DELETE ... RETURNING round trip; the returned row feeds the event
+        Employee employee = repository.deleteReturning(id)
                 .orElseThrow(() -> new EmployeeNotFoundException(id));
         
-        // Publish employee deleted event before deletion
         EmployeeDeletedEvent event = EmployeeDeletedEvent.builder()
                 .employeeId(employee.getId())
                 .firstName(employee.getFirstName())
@@ -159,19 +338,18 @@ public class EmployeeService {
                 .deletedAt(java.time.LocalDateTime.now())
                 .build();
         eventPublisher.publishEmployeeDeleted(event);
-        
-        repository.deleteById(id);
+        cacheManager.getCache(CacheNames.EMPLOYEES).evict(id);
+        readSnapshot.remove(id);
+        listingCounter.invalidate();
         
         // Record metrics
         metrics.incrementEmployeeDeleted();
-        metrics.setTotalEmployees(repository.count());
+        metrics.adjustTotalEmployees(-1);
     }
 
     public List<EmployeeDTO> search(String query) {
         List<Employee> employees = repository.searchByNameOrEmail(query);
-        return employees.stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return toDTOs(employees);
     }
 
     public EmployeeStatsResponse getStats() {
@@ -234,6 +412,7 @@ public class EmployeeService {
                             .departmentId(employeeDTO.getDepartmentId())
                             .build();
                     e = repository.save(e);
+                    readSnapshot.put(e);
                     EmployeeDTO savedDTO = toDTO(e);
                     
                     results.add(BulkCreateResponse.BulkCreateResult.builder()
@@ -253,6 +432,10 @@ public class EmployeeService {
             }
         }
         
+        if (successful > 0) {
+            listingCounter.invalidate();
+        }
+        
         return BulkCreateResponse.builder()
                 .results(results)
                 .totalProcessed(request.getEmployees().size())
@@ -265,13 +448,19 @@ public class EmployeeService {
         return toDTO(e, true);
     }
 
+    /** Enriched DTOs whose departments are all requested before any is waited for. */
+    private List<EmployeeDTO> toDTOs(List<Employee> employees) {
+        Map<Long, DepartmentDTO> departments = findDepartments(employees);
+        return employees.stream()
+                .map(e -> toDTO(e, departments.get(e.getDepartmentId())))
+                .collect(Collectors.toList());
+    }
+
     private EmployeeDTO toDTO(Employee e, boolean enrichWithDepartment) {
-        DepartmentDTO dept = null;
-        if (enrichWithDepartment && e.getDepartmentId() != null) {
-            try {
-                dept = departmentClient.getDepartment(e.getDepartmentId());
-            } catch (Exception ignored) { }
-        }
+        return toDTO(e, enrichWithDepartment ? findDepartment(e.getDepartmentId()) : null);
+    }
+
+    private EmployeeDTO toDTO(Employee e, DepartmentDTO dept) {
         return EmployeeDTO.builder()
                 .id(e.getId())
                 .firstName(e.getFirstName())
@@ -279,31 +468,153 @@ public class EmployeeService {
                 .email(e.getEmail())
                 .departmentId(e.getDepartmentId())
                 .department(dept)
+                .version(e.getVersion())
+                .updatedAt(e.getUpdatedAt() != null ? e.getUpdatedAt() : e.getCreatedAt())
                 .build();
     }
 
+    private DepartmentDTO findDepartment(Long departmentId) {
+        if (departmentId == null) {
+            return null;
+        }
+        try {
+            return cacheManager.getCache(CacheNames.DEPARTMENTS).get(departmentId, DepartmentDTO.class,
+                    () -> departmentLoader.load(departmentId).join());
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+
+    /**
+     * Departments of the given employees: cache misses are all handed to the loader first, so
+     * they travel in as few batches as possible. Failed lookups are left out.
+     */
+    private Map<Long, DepartmentDTO> findDepartments(Collection<Employee> employees) {
+        return findDepartmentsById(employees.stream().map(Employee::getDepartmentId).collect(Collectors.toList()));
+    }
+
+    private Map<Long, DepartmentDTO> findDepartmentsById(Collection<Long> departmentIds) {
+        TwoTierCache cache = cacheManager.getCache(CacheNames.DEPARTMENTS);
+        Map<Long, DepartmentDTO> departments = new HashMap<>();
+        Map<Long, CompletableFuture<DepartmentDTO>> pending = new HashMap<>();
+        for (Long departmentId : departmentIds) {
+            if (departmentId == null || departments.containsKey(departmentId) || pending.containsKey(departmentId)) {
+                continue;
+            }
+            DepartmentDTO cached = cache.getIfPresent(departmentId, DepartmentDTO.class);
+            if (cached != null) {
+                departments.put(departmentId, cached);
+            } else {
+                pending.put(departmentId, departmentLoader.load(departmentId));
+            }
+        }
+        pending.forEach((departmentId, future) -> {
+            try {
+                DepartmentDTO dept = future.join();
+                if (dept != null) {
+                    cache.put(departmentId, dept);
+                    departments.put(departmentId, dept);
+                }
+            } catch (RuntimeException ignored) {
+                // Left unenriched, as a single failed lookup would be
+            }
+        });
+        return departments;
+    }
+
+    /** Requested fields in request order; {@code id} is always included so rows stay addressable. */
+    private Set<String> parseFields(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        selected.add("id");
+        List<String> unknown = new ArrayList<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (SELECTABLE_FIELDS.contains(name)) {
+                selected.add(name);
+            } else {
+                unknown.add(name);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new EmployeeValidationException("Unknown fields " + unknown + "; selectable fields are " + SELECTABLE_FIELDS);
+        }
+        return selected;
+    }
+
+    /** Entity attributes to select: the requested columns, plus departmentId when enriching. */
+    private List<String> attributesFor(Set<String> fields) {
+        Set<String> attributes = new LinkedHashSet<>(fields);
+        if (attributes.remove("department")) {
+            attributes.add("departmentId");
+        }
+        return new ArrayList<>(attributes);
+    }
+
+    /** Rows of the selected fields; departments are looked up together, as for the DTO listings. */
+    private List<Map<String, Object>> toRows(List<Tuple> tuples, Set<String> fields) {
+        Map<Long, DepartmentDTO> departments = fields.contains("department")
+                ? findDepartmentsById(tuples.stream()
+                        .map(t -> t.get("departmentId", Long.class))
+                        .collect(Collectors.toList()))
+                : Map.of();
+        return tuples.stream()
+                .map(t -> toRow(t, fields, departments))
+                .collect(Collectors.toList());
+    }
+
+    private Map<String, Object> toRow(Tuple tuple, Set<String> fields, Map<Long, DepartmentDTO> departments) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String field : fields) {
+            row.put(field, field.equals("department")
+                    ? departments.get(tuple.get("departmentId", Long.class))
+                    : tuple.get(field));
+        }
+        return row;
+    }
+
+    /**
+     * Parses {@code property[,asc|desc]}. Only keys backed by an index are sortable, so a page
+     * never needs a full sort of the table; {@code id} breaks ties for stable paging.
+     */
     private Sort parseSort(String sortParam) {
         if (sortParam == null || sortParam.trim().isEmpty()) {
-            return Sort.by(Sort.Direction.ASC, "lastName");
+            return Sort.by(Sort.Direction.ASC, "lastName").and(Sort.by("id"));
         }
         
         String[] parts = sortParam.split(",");
-        if (parts.length != 2) {
-            return Sort.by(Sort.Direction.ASC, "lastName");
-        }
-        
         String property = parts[0].trim();
-        String direction = parts[1].trim().toUpperCase();
+        if (!SORTABLE_FIELDS.contains(property)) {
+            throw new EmployeeValidationException("Cannot sort by '" + property + "'; sortable fields are " + SORTABLE_FIELDS);
+        }
+        String direction = parts.length > 1 ? parts[1].trim().toUpperCase() : "ASC";
         
         Sort.Direction sortDirection = direction.equals("DESC") ? Sort.Direction.DESC : Sort.Direction.ASC;
-        return Sort.by(sortDirection, property);
+        Sort sort = Sort.by(sortDirection, property);
+        return property.equals("id") ? sort : sort.and(Sort.by(sortDirection, "id"));
     }
 
-    private PageResponse<EmployeeDTO> buildPageResponse(Page<Employee> page) {
-        List<EmployeeDTO> content = page.getContent().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    private ListingCounter.Total countTotal(EmployeeSearchRequest request, Pageable pageable, int contentSize) {
+        boolean filtered = request.getEmail() != null || request.getLastName() != null || request.getDepartmentId() != null;
+        return listingCounter.count(request.getCountStrategy(), filterSignature(request), filtered, pageable, contentSize,
+                () -> repository.countByFilters(request.getEmail(), request.getLastName(), request.getDepartmentId()),
+                repository::estimateCount);
+    }
+
+    /** Filters match case-insensitively, so the signature is normalized the same way. */
+    private static String filterSignature(EmployeeSearchRequest request) {
+        return "email=" + normalize(request.getEmail())
+                + "&lastName=" + normalize(request.getLastName())
+                + "&departmentId=" + (request.getDepartmentId() != null ? request.getDepartmentId() : "");
+    }
+
+    private static String normalize(String filter) {
+        return filter != null ? filter.toLowerCase(Locale.ROOT) : "";
+    }
 
+    private <T> PageResponse<T> buildPageResponse(Page<?> page, List<T> content, CountStrategy countStrategy) {
         PageResponse.SortInfo sortInfo = null;
         if (page.getSort().isSorted()) {
             Sort.Order order = page.getSort().iterator().next();
@@ -313,7 +624,7 @@ public class EmployeeService {
                     .build();
         }
 
-        return PageResponse.<EmployeeDTO>builder()
+        return PageResponse.<T>builder()
                 .content(content)
                 .page(page.getNumber())
                 .size(page.getSize())
@@ -324,6 +635,7 @@ public class EmployeeService {
                 .last(page.isLast())
                 .hasNext(page.hasNext())
                 .hasPrevious(page.hasPrevious())
+                .countStrategy(countStrategy)
                 .build();
     }
 }
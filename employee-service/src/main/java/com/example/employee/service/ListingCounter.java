@@ -0,0 +1,70 @@
+package com.example.employee.service;
+
+import com.example.employee.cache.CacheNames;
+import com.example.employee.cache.TwoTierCacheManager;
+import com.example.employee.dto.CountStrategy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Supplies {@code totalElements} for listing pages so deep pages don't have to pay for a
+ * {@code COUNT(*)} on every request. A short page always yields the exact total for free.
+ */
+@Component
+public class ListingCounter {
+
+    public record Total(long value, CountStrategy strategy) {
+    }
+
+    private final TwoTierCacheManager cacheManager;
+    private final CountStrategy defaultStrategy;
+
+    public ListingCounter(TwoTierCacheManager cacheManager,
+                          @Value("${employee.service.pagination.count-strategy:exact}") String defaultStrategy) {
+        this.cacheManager = cacheManager;
+        CountStrategy configured = CountStrategy.from(defaultStrategy);
+        this.defaultStrategy = configured != null ? configured : CountStrategy.EXACT;
+    }
+
+    /**
+     * @param requested   strategy asked for by the client, or null for the configured default
+     * @param signature   normalized filter, the cache key for {@link CountStrategy#CACHED}
+     * @param filtered    whether any filter applies; estimates only describe the whole table
+     * @param contentSize rows returned for {@code pageable}
+     * @param exact       runs the {@code COUNT(*)}
+     * @param estimate    planner estimate for the whole table, negative when unavailable
+     */
+    public Total count(CountStrategy requested, String signature, boolean filtered, Pageable pageable,
+                       int contentSize, LongSupplier exact, LongSupplier estimate) {
+        long seen = pageable.isPaged() ? pageable.getOffset() + contentSize : contentSize;
+        if (pageable.isUnpaged() || (contentSize > 0 && contentSize < pageable.getPageSize())
+                || (contentSize == 0 && pageable.getOffset() == 0)) {
+            return new Total(seen, CountStrategy.EXACT);
+        }
+        CountStrategy strategy = requested != null ? requested : defaultStrategy;
+        if (strategy == CountStrategy.ESTIMATED) {
+            if (!filtered) {
+                long estimated = estimate.getAsLong();
+                if (estimated >= 0) {
+                    return new Total(Math.max(estimated, seen), CountStrategy.ESTIMATED);
+                }
+            }
+            // Filtered or never analyzed: the cached exact count is the next cheapest
+            strategy = CountStrategy.CACHED;
+        }
+        if (strategy == CountStrategy.CACHED) {
+            Long cached = cacheManager.getCache(CacheNames.EMPLOYEE_COUNTS).get(signature, Long.class, exact::getAsLong);
+            return new Total(Math.max(cached, seen), CountStrategy.CACHED);
+        }
+        return new Total(exact.getAsLong(), CountStrategy.EXACT);
+    }
+
+    /** Any write may move rows in or out of any filter, so all cached totals and pages go. */
+    public void invalidate() {
+        cacheManager.getCache(CacheNames.EMPLOYEE_COUNTS).clear();
+        cacheManager.getCache(CacheNames.EMPLOYEE_PAGES).clear();
+    }
+}
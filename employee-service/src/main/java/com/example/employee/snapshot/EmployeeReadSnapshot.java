@@ -0,0 +1,281 @@
+package com.example.employee.snapshot;
+
+import com.example.employee.domain.Employee;
+import com.example.employee.repo.EmployeeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Read model over {@link EmployeeSnapshotStore}. Own writes are applied after their transaction
+ * commits, other instances' writes when their events arrive, and on startup the mapped file
+ * catches up by comparing ids and versions with the table, so a restart reloads only the rows
+ * that changed while it was down. Until caught up, and whenever it has fallen out of step,
+ * nothing is served from it and callers read the database.
+ */
+@Slf4j
+public class EmployeeReadSnapshot implements DisposableBean {
+
+    private final EmployeeSnapshotStore store;
+    private final EmployeeRepository repository;
+    private final TransactionTemplate primary;
+    private final int chunkSize;
+    private volatile boolean serving;
+    private volatile boolean outOfStep;
+
+    public EmployeeReadSnapshot(EmployeeSnapshotStore store, EmployeeRepository repository,
+                                TransactionTemplate transactionTemplate, int chunkSize, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.repository = repository;
+        this.primary = transactionTemplate;
+        this.chunkSize = chunkSize;
+        if (store != null) {
+            Gauge.builder("employee.snapshot.records", store, EmployeeSnapshotStore::size)
+                    .description("Employees held in the read snapshot")
+                    .register(meterRegistry);
+            Gauge.builder("employee.snapshot.arena.used", store, EmployeeSnapshotStore::arenaUsed)
+                    .description("Bytes of the snapshot string arena in use, including superseded strings")
+                    .baseUnit("bytes")
+                    .register(meterRegistry);
+            Gauge.builder("employee.snapshot.serving", this, s -> s.isServing() ? 1 : 0)
+                    .description("1 while reads are served from the snapshot")
+                    .register(meterRegistry);
+        }
+    }
+
+    public static EmployeeReadSnapshot disabled() {
+        return new EmployeeReadSnapshot(null, null, null, 0, null);
+    }
+
+    public boolean isServing() {
+        return serving;
+    }
+
+    /** Empty when not serving or not in the snapshot; callers then read the database. */
+    public Optional<Employee> findById(Long id) {
+        return serving && id != null ? Optional.ofNullable(store.get(id)) : Optional.empty();
+    }
+
+    /**
+     * One page of a department's employees sorted in memory, with an exact total. Empty when
+     * not serving.
+     */
+    public Optional<Page<Employee>> findByDepartment(Long departmentId, Pageable pageable) {
+        if (!serving) {
+            return Optional.empty();
+        }
+        List<Employee> members = new ArrayList<>(store.findByDepartment(departmentId));
+        members.sort(comparator(pageable.getSort()));
+        int from = (int) Math.min(pageable.getOffset(), members.size());
+        int to = Math.min(from + pageable.getPageSize(), members.size());
+        return Optional.of(new PageImpl<>(members.subList(from, to), pageable, members.size()));
+    }
+
+    /** Applies a row written by this instance once its transaction commits. */
+    public void put(Employee employee) {
+        if (store != null) {
+            afterCommit(() -> store.upsert(employee));
+        }
+    }
+
+    public void remove(Long id) {
+        removeAll(List.of(id));
+    }
+
+    public void removeAll(Collection<Long> ids) {
+        if (store != null) {
+            List<Long> removed = List.copyOf(ids);
+            afterCommit(() -> removed.forEach(store::remove));
+        }
+    }
+
+    /**
+     * Re-reads the given employees and applies them once the current transaction commits;
+     * ids no longer in the table are removed. Inside a transaction this sees its own
+     * uncommitted rows; outside one it reads the primary, as a lagging replica could return
+     * a version older than the event that triggered the reload.
+     */
+    public void reload(Collection<Long> ids) {
+        if (store == null || ids.isEmpty()) {
+            return;
+        }
+        List<Employee> rows;
+        try {
+            rows = primary.execute(status -> repository.findAllById(ids));
+        } catch (RuntimeException ex) {
+            outOfStep(ex);
+            return;
+        }
+        afterCommit(() -> apply(ids, rows));
+    }
+
+    /** Runs once the application is up, so startup is not held back by the catch-up. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void catchUp() {
+        if (store == null) {
+            return;
+        }
+        Thread thread = new Thread(this::synchronize, "employee-snapshot-catch-up");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Walks the table in id order, reading only ids and versions, and reloads rows whose
+     * version differs from the snapshot's. Ids in the snapshot that the walk skips over
+     * were deleted meanwhile.
+     */
+    void synchronize() {
+        long started = System.nanoTime();
+        long[] local = store.ids();
+        int next = 0;
+        int reloaded = 0;
+        int removed = 0;
+        long afterId = 0;
+        try {
+            while (true) {
+                long from = afterId;
+                List<Object[]> page = primary.execute(status ->
+                        repository.findIdVersionsAfter(from, PageRequest.of(0, chunkSize)));
+                List<Long> stale = new ArrayList<>();
+                for (Object[] row : page) {
+                    long id = ((Number) row[0]).longValue();
+                    long version = row[1] != null ? ((Number) row[1]).longValue() : 0;
+                    while (next < local.length && local[next] < id) {
+                        removed += store.remove(local[next++]) ? 1 : 0;
+                    }
+                    if (next < local.length && local[next] == id) {
+                        next++;
+                    }
+                    if (store.versionOf(id) != version) {
+                        stale.add(id);
+                    }
+                    afterId = id;
+                }
+                if (!stale.isEmpty()) {
+                    apply(stale, primary.execute(status -> repository.findAllById(stale)));
+                    reloaded += stale.size();
+                }
+                if (page.size() < chunkSize) {
+                    break;
+                }
+            }
+            while (next < local.length) {
+                removed += store.remove(local[next++]) ? 1 : 0;
+            }
+            serving = !outOfStep;
+            log.info("Employee snapshot caught up in {} ms: {} records, {} reloaded, {} removed{}",
+                    (System.nanoTime() - started) / 1_000_000, store.size(), reloaded, removed,
+                    store.isRecovered() ? "" : " (initial load)");
+        } catch (RuntimeException ex) {
+            log.error("Employee snapshot failed to catch up; reads stay on the database", ex);
+        }
+    }
+
+    private void apply(Collection<Long> ids, Iterable<Employee> rows) {
+        Set<Long> missing = new HashSet<>(ids);
+        for (Employee row : rows) {
+            store.upsert(row);
+            missing.remove(row.getId());
+        }
+        missing.forEach(store::remove);
+    }
+
+    private void afterCommit(Runnable change) {
+        Runnable guarded = () -> {
+            try {
+                change.run();
+            } catch (RuntimeException ex) {
+                outOfStep(ex);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    guarded.run();
+                }
+            });
+        } else {
+            guarded.run();
+        }
+    }
+
+    /** A change the snapshot could not take leaves it behind; the next restart catches up. */
+    private void outOfStep(RuntimeException ex) {
+        outOfStep = true;
+        serving = false;
+        log.error("Employee snapshot out of step, serving from the database until restart", ex);
+    }
+
+    /**
+     * Same order as the database: text by code point, the {@code "C"} collation of the sortable
+     * columns; nulls last ascending, first descending.
+     */
+    private static Comparator<Employee> comparator(Sort sort) {
+        Comparator<Employee> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Employee> next = switch (order.getProperty()) {
+                case "id" -> Comparator.comparing(Employee::getId);
+                case "lastName" -> text(Employee::getLastName);
+                case "email" -> text(Employee::getEmail);
+                case "departmentId" -> nullsLast(Employee::getDepartmentId);
+                default -> throw new IllegalArgumentException("Cannot sort snapshot by " + order.getProperty());
+            };
+            next = order.isDescending() ? next.reversed() : next;
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator != null ? comparator : Comparator.comparing(Employee::getId);
+    }
+
+    private static <T extends Comparable<? super T>> Comparator<Employee> nullsLast(Function<Employee, T> key) {
+        return Comparator.comparing(key, Comparator.nullsLast(Comparator.naturalOrder()));
+    }
+
+    private static Comparator<Employee> text(Function<Employee, String> key) {
+        return Comparator.comparing(key, Comparator.nullsLast(EmployeeReadSnapshot::compareCodePoints));
+    }
+
+    /** How the {@code "C"} collation sorts UTF-8; {@link String#compareTo} differs outside the BMP. */
+    private static int compareCodePoints(String a, String b) {
+        int i = 0;
+        while (i < a.length() && i < b.length()) {
+            int x = a.codePointAt(i);
+            int y = b.codePointAt(i);
+            if (x != y) {
+                return Integer.compare(x, y);
+            }
+            i += Character.charCount(x);
+        }
+        return Integer.compare(a.length(), b.length());
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        if (store != null) {
+            serving = false;
+            store.close();
+        }
+    }
+}
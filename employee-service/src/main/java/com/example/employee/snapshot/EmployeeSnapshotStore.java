@@ -0,0 +1,482 @@
+package com.example.employee.snapshot;
+
+import com.example.employee.domain.Employee;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Employee rows in one memory-mapped file: a header, {@code capacity} fixed-width records and
+ * an append-only UTF-8 string arena. Records never move, so a primitive id → slot map and a
+ * department → slots index are all the heap holds; both are rebuilt by scanning the records
+ * when the file is mapped. Changed strings are appended, and the arena is compacted in place
+ * once it runs out.
+ * <p>
+ * The header carries a clean flag that is only set by {@link #close()} after a full flush;
+ * a file left dirty by a crash may hold torn records and is discarded on the next open.
+ * The file is held under an exclusive lock while mapped, so a second store, in this or
+ * another process, cannot map and write it at the same time.
+ */
+@Slf4j
+public class EmployeeSnapshotStore implements Closeable {
+
+    static final int MAGIC = 0x454D5053;
+    static final int FORMAT_VERSION = 1;
+    static final int HEADER_SIZE = 64;
+    static final int RECORD_SIZE = 64;
+
+    // Header layout
+    private static final int H_MAGIC = 0;
+    private static final int H_FORMAT = 4;
+    private static final int H_CAPACITY = 8;
+    private static final int H_ARENA_CAPACITY = 12;
+    private static final int H_HIGH_WATER = 16;
+    private static final int H_ARENA_USED = 20;
+    private static final int H_CLEAN = 24;
+
+    // Record layout; id 0 marks a free slot, Long.MIN_VALUE a null number, length -1 a null string
+    private static final int R_ID = 0;
+    private static final int R_VERSION = 8;
+    private static final int R_DEPARTMENT = 16;
+    private static final int R_CREATED_AT = 24;
+    private static final int R_UPDATED_AT = 32;
+    private static final int R_FIRST_NAME = 40;
+    private static final int R_LAST_NAME = 48;
+    private static final int R_EMAIL = 56;
+
+    private static final long NULL = Long.MIN_VALUE;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int arenaStart;
+    private final int arenaCapacity;
+    private final boolean recovered;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final LongIntHashMap slots;
+    private final Map<Long, SlotList> departments = new HashMap<>();
+    private final SlotList freeSlots = new SlotList();
+    private int highWater;
+    private int arenaUsed;
+
+    private EmployeeSnapshotStore(Path path, FileChannel channel, MappedByteBuffer buffer, int capacity,
+                                  int arenaCapacity, boolean recovered) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.arenaStart = HEADER_SIZE + capacity * RECORD_SIZE;
+        this.arenaCapacity = arenaCapacity;
+        this.recovered = recovered;
+        this.slots = new LongIntHashMap(1024);
+    }
+
+    /**
+     * Maps {@code path}, reusing its records if it was closed cleanly with the same layout and
+     * starting empty otherwise. The whole file is one mapping, so it must stay below 2 GB.
+     *
+     * @throws SnapshotLockedException when another store already holds the file
+     */
+    public static EmployeeSnapshotStore open(Path path, int capacity, int arenaBytes) throws IOException {
+        long size = HEADER_SIZE + (long) capacity * RECORD_SIZE + arenaBytes;
+        if (capacity <= 0 || arenaBytes <= 0 || size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Snapshot of " + capacity + " records and " + arenaBytes
+                    + " arena bytes does not fit one mapping");
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            lock(channel, path);
+            boolean reusable = isReusable(channel, capacity, arenaBytes);
+            if (!reusable) {
+                channel.truncate(0);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            EmployeeSnapshotStore store = new EmployeeSnapshotStore(path, channel, buffer, capacity, arenaBytes, reusable);
+            store.init();
+            return store;
+        } catch (IOException | RuntimeException ex) {
+            channel.close();
+            throw ex;
+        }
+    }
+
+    /** Held until the channel closes; released by the OS if the process dies. */
+    private static void lock(FileChannel channel, Path path) throws IOException {
+        FileLock fileLock;
+        try {
+            fileLock = channel.tryLock();
+        } catch (OverlappingFileLockException ex) {
+            fileLock = null;
+        }
+        if (fileLock == null) {
+            throw new SnapshotLockedException(path);
+        }
+    }
+
+    private static boolean isReusable(FileChannel channel, int capacity, int arenaBytes) throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            return false;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        channel.read(header, 0);
+        return header.getInt(H_MAGIC) == MAGIC
+                && header.getInt(H_FORMAT) == FORMAT_VERSION
+                && header.getInt(H_CAPACITY) == capacity
+                && header.getInt(H_ARENA_CAPACITY) == arenaBytes
+                && header.getInt(H_CLEAN) == 1;
+    }
+
+    private void init() {
+        if (recovered) {
+            highWater = buffer.getInt(H_HIGH_WATER);
+            arenaUsed = buffer.getInt(H_ARENA_USED);
+            for (int slot = 0; slot < highWater; slot++) {
+                long id = buffer.getLong(offset(slot) + R_ID);
+                if (id == 0) {
+                    freeSlots.add(slot);
+                } else {
+                    slots.put(id, slot);
+                    index(slot, buffer.getLong(offset(slot) + R_DEPARTMENT));
+                }
+            }
+            log.info("Mapped employee snapshot {} with {} records", path, slots.size());
+        } else {
+            buffer.putInt(H_MAGIC, MAGIC);
+            buffer.putInt(H_FORMAT, FORMAT_VERSION);
+            buffer.putInt(H_CAPACITY, capacity);
+            buffer.putInt(H_ARENA_CAPACITY, arenaCapacity);
+            writeWatermarks();
+        }
+        // Dirty until closed cleanly
+        buffer.putInt(H_CLEAN, 0);
+        buffer.force(0, HEADER_SIZE);
+    }
+
+    /** Whether the file held records from a previous clean shutdown. */
+    public boolean isRecovered() {
+        return recovered;
+    }
+
+    public Employee get(long id) {
+        lock.readLock().lock();
+        try {
+            int slot = slots.get(id);
+            return slot == LongIntHashMap.MISSING ? null : read(slot);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Stored version of {@code id}, or -1 if absent. */
+    public long versionOf(long id) {
+        lock.readLock().lock();
+        try {
+            int slot = slots.get(id);
+            return slot == LongIntHashMap.MISSING ? -1 : buffer.getLong(offset(slot) + R_VERSION);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Employee> findByDepartment(long departmentId) {
+        lock.readLock().lock();
+        try {
+            SlotList members = departments.get(departmentId);
+            if (members == null) {
+                return List.of();
+            }
+            List<Employee> employees = new ArrayList<>(members.size);
+            for (int i = 0; i < members.size; i++) {
+                employees.add(read(members.slots[i]));
+            }
+            return employees;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** All stored ids in ascending order. */
+    public long[] ids() {
+        lock.readLock().lock();
+        try {
+            long[] ids = new long[slots.size()];
+            int n = 0;
+            for (int slot = 0; slot < highWater; slot++) {
+                long id = buffer.getLong(offset(slot) + R_ID);
+                if (id != 0) {
+                    ids[n++] = id;
+                }
+            }
+            Arrays.sort(ids, 0, n);
+            return n == ids.length ? ids : Arrays.copyOf(ids, n);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int arenaUsed() {
+        lock.readLock().lock();
+        try {
+            return arenaUsed;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inserts or overwrites the employee's record. A version older than the stored one is
+     * ignored, so replays and late events cannot roll a record back.
+     *
+     * @return whether the record changed
+     */
+    public boolean upsert(Employee employee) {
+        long id = employee.getId();
+        long version = employee.getVersion() != null ? employee.getVersion() : 0;
+        lock.writeLock().lock();
+        try {
+            int slot = slots.get(id);
+            if (slot != LongIntHashMap.MISSING && buffer.getLong(offset(slot) + R_VERSION) > version) {
+                return false;
+            }
+            byte[] firstName = bytes(employee.getFirstName());
+            byte[] lastName = bytes(employee.getLastName());
+            byte[] email = bytes(employee.getEmail());
+            int needed = length(firstName) + length(lastName) + length(email);
+            if (arenaUsed + needed > arenaCapacity) {
+                compact();
+                if (arenaUsed + needed > arenaCapacity) {
+                    throw new IllegalStateException("Snapshot string arena is full (" + arenaCapacity + " bytes)");
+                }
+            }
+            if (slot == LongIntHashMap.MISSING) {
+                slot = allocateSlot();
+                slots.put(id, slot);
+            } else {
+                unindex(slot, buffer.getLong(offset(slot) + R_DEPARTMENT));
+            }
+            int offset = offset(slot);
+            buffer.putLong(offset + R_VERSION, version);
+            buffer.putLong(offset + R_DEPARTMENT, orNull(employee.getDepartmentId()));
+            buffer.putLong(offset + R_CREATED_AT, micros(employee.getCreatedAt()));
+            buffer.putLong(offset + R_UPDATED_AT, micros(employee.getUpdatedAt()));
+            putString(offset + R_FIRST_NAME, firstName);
+            putString(offset + R_LAST_NAME, lastName);
+            putString(offset + R_EMAIL, email);
+            buffer.putLong(offset + R_ID, id);
+            index(slot, orNull(employee.getDepartmentId()));
+            writeWatermarks();
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** @return whether the employee was present */
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            int slot = slots.remove(id);
+            if (slot == LongIntHashMap.MISSING) {
+                return false;
+            }
+            unindex(slot, buffer.getLong(offset(slot) + R_DEPARTMENT));
+            buffer.putLong(offset(slot) + R_ID, 0);
+            freeSlots.add(slot);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Flushes the mapping and marks the file clean, so the next open can reuse it. */
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            writeWatermarks();
+            buffer.force();
+            buffer.putInt(H_CLEAN, 1);
+            buffer.force(0, HEADER_SIZE);
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Releases the file without flushing or marking it clean, as a crash would. */
+    void abandon() throws IOException {
+        channel.close();
+    }
+
+    private Employee read(int slot) {
+        int offset = offset(slot);
+        long departmentId = buffer.getLong(offset + R_DEPARTMENT);
+        return Employee.builder()
+                .id(buffer.getLong(offset + R_ID))
+                .version(buffer.getLong(offset + R_VERSION))
+                .departmentId(departmentId == NULL ? null : departmentId)
+                .createdAt(dateTime(buffer.getLong(offset + R_CREATED_AT)))
+                .updatedAt(dateTime(buffer.getLong(offset + R_UPDATED_AT)))
+                .firstName(getString(offset + R_FIRST_NAME))
+                .lastName(getString(offset + R_LAST_NAME))
+                .email(getString(offset + R_EMAIL))
+                .build();
+    }
+
+    /** Rewrites the strings of live records from the start of the arena, dropping superseded ones. */
+    private void compact() {
+        List<Employee> live = new ArrayList<>(slots.size());
+        List<Integer> liveSlots = new ArrayList<>(slots.size());
+        for (int slot = 0; slot < highWater; slot++) {
+            if (buffer.getLong(offset(slot) + R_ID) != 0) {
+                live.add(read(slot));
+                liveSlots.add(slot);
+            }
+        }
+        int before = arenaUsed;
+        arenaUsed = 0;
+        for (int i = 0; i < live.size(); i++) {
+            int offset = offset(liveSlots.get(i));
+            Employee employee = live.get(i);
+            putString(offset + R_FIRST_NAME, bytes(employee.getFirstName()));
+            putString(offset + R_LAST_NAME, bytes(employee.getLastName()));
+            putString(offset + R_EMAIL, bytes(employee.getEmail()));
+        }
+        log.info("Compacted employee snapshot arena from {} to {} bytes", before, arenaUsed);
+    }
+
+    private int allocateSlot() {
+        if (freeSlots.size > 0) {
+            return freeSlots.slots[--freeSlots.size];
+        }
+        if (highWater == capacity) {
+            throw new IllegalStateException("Snapshot is full (" + capacity + " records)");
+        }
+        return highWater++;
+    }
+
+    private void index(int slot, long departmentId) {
+        if (departmentId != NULL) {
+            departments.computeIfAbsent(departmentId, d -> new SlotList()).add(slot);
+        }
+    }
+
+    private void unindex(int slot, long departmentId) {
+        SlotList members = departmentId == NULL ? null : departments.get(departmentId);
+        if (members != null) {
+            members.remove(slot);
+            if (members.size == 0) {
+                departments.remove(departmentId);
+            }
+        }
+    }
+
+    private void putString(int field, byte[] value) {
+        if (value == null) {
+            buffer.putInt(field, 0);
+            buffer.putInt(field + 4, -1);
+            return;
+        }
+        buffer.put(arenaStart + arenaUsed, value);
+        buffer.putInt(field, arenaUsed);
+        buffer.putInt(field + 4, value.length);
+        arenaUsed += value.length;
+    }
+
+    private String getString(int field) {
+        int length = buffer.getInt(field + 4);
+        if (length < 0) {
+            return null;
+        }
+        byte[] value = new byte[length];
+        buffer.get(arenaStart + buffer.getInt(field), value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    private void writeWatermarks() {
+        buffer.putInt(H_HIGH_WATER, highWater);
+        buffer.putInt(H_ARENA_USED, arenaUsed);
+    }
+
+    private static int offset(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static int length(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    private static long orNull(Long value) {
+        return value == null ? NULL : value;
+    }
+
+    private static long micros(LocalDateTime value) {
+        return value == null ? NULL : value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000;
+    }
+
+    private static LocalDateTime dateTime(long micros) {
+        return micros == NULL ? null : LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    /** Growable int array; removal swaps in the last element. */
+    private static final class SlotList {
+        int[] slots = new int[8];
+        int size;
+
+        void add(int slot) {
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            slots[size++] = slot;
+        }
+
+        void remove(int slot) {
+            for (int i = 0; i < size; i++) {
+                if (slots[i] == slot) {
+                    slots[i] = slots[--size];
+                    return;
+                }
+            }
+        }
+    }
+}
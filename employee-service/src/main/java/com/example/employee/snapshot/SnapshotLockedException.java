@@ -0,0 +1,15 @@
+package com.example.employee.snapshot;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Thrown when the snapshot file is already mapped by another store, typically a second
+ * instance started with the same snapshot path.
+ */
+public class SnapshotLockedException extends IOException {
+
+    public SnapshotLockedException(Path path) {
+        super("Snapshot file " + path.toAbsolutePath() + " is in use by another snapshot store");
+    }
+}
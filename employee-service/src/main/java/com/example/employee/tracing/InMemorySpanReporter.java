@@ -0,0 +1,38 @@
+package com.example.employee.tracing;
+
+import io.micrometer.tracing.exporter.FinishedSpan;
+import io.micrometer.tracing.exporter.SpanReporter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the most recent finished spans in memory for local use; the oldest are dropped
+ * once {@code capacity} is reached.
+ */
+public class InMemorySpanReporter implements SpanReporter {
+
+    private final int capacity;
+    private final Deque<SpanRecord> spans;
+
+    public InMemorySpanReporter(int capacity) {
+        this.capacity = Math.max(1, capacity);
+        this.spans = new ArrayDeque<>(this.capacity);
+    }
+
+    @Override
+    public synchronized void report(FinishedSpan span) {
+        if (spans.size() == capacity) {
+            spans.removeFirst();
+        }
+        spans.addLast(SpanRecord.from(span));
+    }
+
+    /** Retained spans, oldest first, optionally limited to one trace. */
+    public synchronized List<SpanRecord> spans(String traceId) {
+        return spans.stream()
+                .filter(span -> traceId == null || traceId.equals(span.traceId()))
+                .toList();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.employee.tracing;
+
+import io.micrometer.tracing.exporter.FinishedSpan;
+import io.micrometer.tracing.exporter.SpanFilter;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Tags every span with its wall-clock latency ({@code latency.ms}) so exported traces can be
+ * read without a trace UI.
+ */
+public class LatencySpanFilter implements SpanFilter {
+
+    public static final String LATENCY_TAG = "latency.ms";
+
+    @Override
+    public FinishedSpan map(FinishedSpan span) {
+        Map<String, String> tags = new HashMap<>(span.getTags());
+        tags.put(LATENCY_TAG, String.format(Locale.ROOT, "%.3f", SpanRecord.durationMicros(span) / 1_000.0));
+        return span.setTags(tags);
+    }
+}
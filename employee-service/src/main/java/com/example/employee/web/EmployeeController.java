@@ -7,6 +7,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -25,7 +26,9 @@ public class EmployeeController {
             @RequestParam(required = false) Long departmentId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "lastName,asc") String sort) {
+            @RequestParam(defaultValue = "lastName,asc") String sort,
+            @RequestParam(required = false) String count,
+            WebRequest webRequest) {
         
         EmployeeSearchRequest request = EmployeeSearchRequest.builder()
                 .email(email)
@@ -34,16 +37,30 @@ public class EmployeeController {
                 .page(page)
                 .size(size)
                 .sort(sort)
+                .countStrategy(CountStrategy.from(count))
                 .build();
         
-        return service.getAllPaginated(request);
+        if (ConditionalRequests.isConditional(webRequest)
+                && ConditionalRequests.checkNotModified(webRequest, service.getPageValidator(request))) {
+            return null;
+        }
+        PageResponse<EmployeeDTO> response = service.getAllPaginated(request);
+        ConditionalRequests.checkNotModified(webRequest, EmployeeService.validatorOf(response));
+        return response;
     }
 
     @GetMapping("/{id}")
     public EmployeeDTO getById(
             @PathVariable Long id,
-            @RequestParam(defaultValue = "true") boolean enrich) {
-        return service.getById(id, enrich);
+            @RequestParam(defaultValue = "true") boolean enrich,
+            WebRequest webRequest) {
+        if (ConditionalRequests.isConditional(webRequest)
+                && ConditionalRequests.checkNotModified(webRequest, service.getValidator(id, enrich))) {
+            return null;
+        }
+        EmployeeDTO dto = service.getById(id, enrich);
+        ConditionalRequests.checkNotModified(webRequest, EmployeeService.validatorOf(dto));
+        return dto;
     }
 
     @PostMapping
@@ -22,6 +22,9 @@ import java.util.Optional;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    /** Postgres name of the unique constraint on employees.email. */
+    private static final String EMAIL_UNIQUE_CONSTRAINT = "employees_email_key";
+
     /** Build a base ProblemDetail with common properties. */
     private ProblemDetail base(HttpStatus status, String title, String detail, HttpServletRequest req) {
         ProblemDetail pd = ProblemDetail.forStatusAndDetail(status, detail);
@@ -59,9 +62,14 @@ public class GlobalExceptionHandler {
         return base(HttpStatus.NOT_FOUND, "Resource not found", ex.getMessage(), req);
     }
 
-    /** 409 — DB unique/foreign key conflicts, etc. */
+    /** 409 — DB unique/foreign key conflicts, etc. A duplicate email is reported as an employee conflict. */
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ProblemDetail handleConflict(DataIntegrityViolationException ex, HttpServletRequest req) {
+        String cause = ex.getMostSpecificCause().getMessage();
+        if (cause != null && cause.contains(EMAIL_UNIQUE_CONSTRAINT)) {
+            return handleEmployeeConflict(
+                    new EmployeeConflictException("Employee already exists with the given email", ex), req);
+        }
         return base(HttpStatus.CONFLICT, "Conflict", "Duplicate or illegal state", req);
     }
 
@@ -2,13 +2,17 @@ package com.example.employee.web.v2;
 
 import com.example.employee.annotation.ApiVersion;
 import com.example.employee.dto.*;
+import com.example.employee.service.EmployeeBulkService;
 import com.example.employee.service.EmployeeService;
+import com.example.employee.web.ConditionalRequests;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Employee Controller V2 - Enhanced API with additional features
@@ -20,6 +24,7 @@ import java.util.List;
 public class EmployeeControllerV2 {
 
     private final EmployeeService service;
+    private final EmployeeBulkService bulkService;
 
     @GetMapping
     public PageResponse<EmployeeDTO> getAll(
@@ -29,7 +34,9 @@ public class EmployeeControllerV2 {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "lastName,asc") String sort,
-            @RequestParam(defaultValue = "false") boolean enrichWithDepartment) {
+            @RequestParam(defaultValue = "false") boolean enrichWithDepartment,
+            @RequestParam(required = false) String count,
+            WebRequest webRequest) {
         
         EmployeeSearchRequest request = EmployeeSearchRequest.builder()
                 .email(email)
@@ -38,15 +45,66 @@ public class EmployeeControllerV2 {
                 .page(page)
                 .size(size)
                 .sort(sort)
+                .countStrategy(CountStrategy.from(count))
                 .build();
         
-        return service.getAllPaginated(request);
+        if (ConditionalRequests.isConditional(webRequest)
+                && ConditionalRequests.checkNotModified(webRequest, service.getPageValidator(request))) {
+            return null;
+        }
+        PageResponse<EmployeeDTO> response = service.getAllPaginated(request);
+        ConditionalRequests.checkNotModified(webRequest, EmployeeService.validatorOf(response));
+        return response;
+    }
+
+    /** Sparse fieldset, e.g. {@code ?fields=id,email}; only those columns are selected. */
+    @GetMapping(params = "fields")
+    public PageResponse<Map<String, Object>> getAllFields(
+            @RequestParam String fields,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String lastName,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "lastName,asc") String sort,
+            @RequestParam(required = false) String count) {
+
+        EmployeeSearchRequest request = EmployeeSearchRequest.builder()
+                .email(email)
+                .lastName(lastName)
+                .departmentId(departmentId)
+                .page(page)
+                .size(size)
+                .sort(sort)
+                .countStrategy(CountStrategy.from(count))
+                .build();
+
+        return service.getAllPaginated(request, fields);
     }
 
     @GetMapping("/{id}")
     public EmployeeDTO getById(@PathVariable Long id, 
-                              @RequestParam(defaultValue = "true") boolean enrichWithDepartment) {
-        return service.getById(id, enrichWithDepartment);
+                              @RequestParam(defaultValue = "true") boolean enrichWithDepartment,
+                              WebRequest webRequest) {
+        if (ConditionalRequests.isConditional(webRequest)
+                && ConditionalRequests.checkNotModified(webRequest, service.getValidator(id, enrichWithDepartment))) {
+            return null;
+        }
+        EmployeeDTO dto = service.getById(id, enrichWithDepartment);
+        ConditionalRequests.checkNotModified(webRequest, EmployeeService.validatorOf(dto));
+        return dto;
+    }
+
+    /** Up to {@code employee.service.bulk.batch-get-max-ids} employees in one call. */
+    @PostMapping("/batch-get")
+    public EmployeeBatchGetResponse batchGet(@Valid @RequestBody EmployeeBatchGetRequest request,
+                                             @RequestParam(defaultValue = "true") boolean enrichWithDepartment) {
+        return service.getByIds(request.getIds(), enrichWithDepartment);
+    }
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public Map<String, Object> getByIdFields(@PathVariable Long id, @RequestParam String fields) {
+        return service.getById(id, fields);
     }
 
     @PostMapping
@@ -76,6 +134,11 @@ public class EmployeeControllerV2 {
         return service.search(query);
     }
 
+    @GetMapping(value = "/search", params = "fields")
+    public List<Map<String, Object>> searchFields(@RequestParam String query, @RequestParam String fields) {
+        return service.search(query, fields);
+    }
+
     @GetMapping("/stats")
     public EmployeeStatsResponse getStats() {
         return service.getStats();
@@ -86,4 +149,14 @@ public class EmployeeControllerV2 {
     public BulkCreateResponse bulkCreate(@Valid @RequestBody BulkCreateRequest request) {
         return service.bulkCreate(request);
     }
+
+    @PatchMapping("/bulk")
+    public BulkOperationResponse bulkUpdate(@Valid @RequestBody BulkUpdateRequest request) {
+        return bulkService.bulkUpdate(request);
+    }
+
+    @PostMapping("/bulk/delete")
+    public BulkOperationResponse bulkDelete(@Valid @RequestBody BulkDeleteRequest request) {
+        return bulkService.bulkDelete(request);
+    }
 }
@@ -0,0 +1,4 @@
+-- Columns mapped by Employee that V1 did not create, plus the optimistic lock version
+ALTER TABLE employee.employees ADD COLUMN IF NOT EXISTS created_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE employee.employees ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP;
+ALTER TABLE employee.employees ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
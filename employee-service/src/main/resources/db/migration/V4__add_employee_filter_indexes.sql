@@ -0,0 +1,29 @@
+-- Indexes behind the listing filters, sort keys and search (see EmployeeSpecifications).
+-- text_pattern_ops lets lower(col) LIKE 'prefix%' use the index under any collation.
+
+-- departmentId filter, countByDepartment, and department listings sorted by last name
+CREATE INDEX IF NOT EXISTS idx_employees_department_last_name
+    ON employee.employees (department_id, last_name, id);
+
+-- Default listing order (lastName, id)
+CREATE INDEX IF NOT EXISTS idx_employees_last_name
+    ON employee.employees (last_name, id);
+
+-- Case-insensitive lastName prefix and email equality/prefix filters
+CREATE INDEX IF NOT EXISTS idx_employees_last_name_lower
+    ON employee.employees (lower(last_name) text_pattern_ops);
+
+CREATE INDEX IF NOT EXISTS idx_employees_email_lower
+    ON employee.employees (lower(email) text_pattern_ops);
+
+-- Substring search and '*' filters; trigram indexes are the only index type that serves '%x%'
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA employee;
+
+CREATE INDEX IF NOT EXISTS idx_employees_first_name_trgm
+    ON employee.employees USING gin (lower(first_name) employee.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_employees_last_name_trgm
+    ON employee.employees USING gin (lower(last_name) employee.gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_employees_email_trgm
+    ON employee.employees USING gin (lower(email) employee.gin_trgm_ops);
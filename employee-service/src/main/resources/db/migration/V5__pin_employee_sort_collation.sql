@@ -0,0 +1,7 @@
+-- Listings sort by last_name and email, and EmployeeReadSnapshot serves department pages from
+-- memory. The "C" collation orders by code point whatever the server locale, which the
+-- snapshot reproduces exactly; locale collations such as en_US.utf8 have no Java equivalent.
+-- The indexes on these columns are rebuilt with the new collation.
+ALTER TABLE employee.employees
+    ALTER COLUMN last_name TYPE VARCHAR(120) COLLATE "C",
+    ALTER COLUMN email TYPE VARCHAR(200) COLLATE "C";
@@ -0,0 +1,192 @@
+package com.example.employee.cache;
+
+import com.example.employee.config.EmployeeCacheProperties;
+import com.example.employee.dto.DepartmentDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+
+class TwoTierCacheTest {
+
+    private final InMemoryL2Cache shared = new InMemoryL2Cache();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final TwoTierCacheManager instanceA =
+            new TwoTierCacheManager(new EmployeeCacheProperties(), shared, registry);
+    private final TwoTierCacheManager instanceB =
+            new TwoTierCacheManager(new EmployeeCacheProperties(), shared, new SimpleMeterRegistry());
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private DepartmentDTO load(long id) {
+        loads.incrementAndGet();
+        return DepartmentDTO.builder().id(id).code("D" + id).name("Dept " + id).build();
+    }
+
+    @Test
+    @DisplayName("a second instance warms its L1 from the shared L2 instead of the loader")
+    void second_instance_warms_from_l2() {
+        instanceA.getCache(CacheNames.DEPARTMENTS).get(1L, DepartmentDTO.class, () -> load(1L));
+        DepartmentDTO fromB = instanceB.getCache(CacheNames.DEPARTMENTS).get(1L, DepartmentDTO.class, () -> load(1L));
+        instanceA.getCache(CacheNames.DEPARTMENTS).get(1L, DepartmentDTO.class, () -> load(1L));
+
+        assertThat(fromB.getCode()).isEqualTo("D1");
+        assertThat(loads).hasValue(1);
+        assertThat(registry.counter("cache.tiered.gets", "cache", "departments", "result", "l1_hit").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("evict() drops both tiers; evictLocal() only this instance's L1")
+    void evict_and_evict_local() {
+        TwoTierCache a = instanceA.getCache(CacheNames.DEPARTMENTS);
+        TwoTierCache b = instanceB.getCache(CacheNames.DEPARTMENTS);
+        a.get(2L, DepartmentDTO.class, () -> load(2L));
+        b.get(2L, DepartmentDTO.class, () -> load(2L));
+
+        a.evict(2L);
+        assertThat(b.getIfPresent(2L, DepartmentDTO.class)).isNotNull();
+
+        b.evictLocal(2L);
+        assertThat(b.getIfPresent(2L, DepartmentDTO.class)).isNull();
+    }
+
+    @Test
+    @DisplayName("disabled caches always call the loader")
+    void disabled_cache_passes_through() {
+        EmployeeCacheProperties properties = new EmployeeCacheProperties();
+        properties.setEnabled(false);
+        TwoTierCache cache = new TwoTierCacheManager(properties, shared, registry).getCache(CacheNames.DEPARTMENTS);
+
+        cache.get(3L, DepartmentDTO.class, () -> load(3L));
+        cache.get(3L, DepartmentDTO.class, () -> load(3L));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("concurrent misses for one key share a single load")
+    void single_flight_coalesces_concurrent_misses() throws Exception {
+        TwoTierCache cache = instanceA.getCache(CacheNames.DEPARTMENTS);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<DepartmentDTO>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(callers.submit(() -> cache.get(4L, DepartmentDTO.class, () -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return load(4L);
+                })));
+            }
+            waitUntil(() -> registry.counter("cache.tiered.loads", "cache", "departments", "result", "coalesced")
+                    .count() == 7.0);
+            release.countDown();
+
+            for (Future<DepartmentDTO> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS).getId()).isEqualTo(4L);
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("expired entries are served stale while one background reload runs")
+    void stale_while_revalidate_serves_old_value() throws Exception {
+        EmployeeCacheProperties properties = new EmployeeCacheProperties();
+        properties.setTtl(Duration.ofMillis(50));
+        properties.setStaleWhileRevalidate(Duration.ofSeconds(30));
+        properties.setEarlyRefreshBeta(0);
+        TwoTierCache cache = new TwoTierCacheManager(properties, new InMemoryL2Cache(), registry)
+                .getCache(CacheNames.DEPARTMENTS);
+        cache.get(5L, DepartmentDTO.class, () -> load(5L));
+        Thread.sleep(80);
+
+        DepartmentDTO stale = cache.get(5L, DepartmentDTO.class, () -> load(5L));
+
+        assertThat(stale.getId()).isEqualTo(5L);
+        waitUntil(() -> loads.get() == 2);
+        assertThat(registry.counter("cache.tiered.gets", "cache", "departments", "result", "stale_hit").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("a high early-refresh beta reloads fresh entries in the background")
+    void early_refresh_reloads_before_expiry() throws Exception {
+        EmployeeCacheProperties properties = new EmployeeCacheProperties();
+        properties.setEarlyRefreshBeta(1_000_000);
+        TwoTierCache cache = new TwoTierCacheManager(properties, new InMemoryL2Cache(), registry)
+                .getCache(CacheNames.DEPARTMENTS);
+        cache.get(6L, DepartmentDTO.class, () -> load(6L));
+
+        // Early refresh is probabilistic; with this beta nearly every hit triggers it
+        for (int i = 0; i < 20 && loads.get() < 2; i++) {
+            cache.get(6L, DepartmentDTO.class, () -> load(6L));
+            Thread.sleep(5);
+        }
+
+        waitUntil(() -> loads.get() == 2);
+        assertThat(registry.counter("cache.tiered.refreshes", "cache", "departments", "trigger", "early").count())
+                .isGreaterThanOrEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("a byte budget bounds L1 by the estimated size of its values")
+    void byte_budget_bounds_l1() throws Exception {
+        EmployeeCacheProperties properties = new EmployeeCacheProperties();
+        EmployeeCacheProperties.Spec spec = new EmployeeCacheProperties.Spec();
+        spec.setMaxBytes(DataSize.ofKilobytes(8));
+        properties.getCaches().put(CacheNames.EMPLOYEE_PAGES, spec);
+        TwoTierCache cache = new TwoTierCacheManager(properties, shared, registry).getCache(CacheNames.EMPLOYEE_PAGES);
+
+        for (int i = 0; i < 50; i++) {
+            cache.put(i, List.of("x".repeat(1024)));
+        }
+
+        // Eviction runs asynchronously; the weight reads low until buffered writes are drained
+        waitUntil(() -> registry.get("cache.tiered.l1.size").tag("cache", "employee-pages").gauge().value() <= 8);
+        assertThat(registry.get("cache.tiered.l1.size").tag("cache", "employee-pages").gauge().value())
+                .isGreaterThanOrEqualTo(1.0);
+        assertThat(registry.get("cache.tiered.l1.weight").tag("cache", "employee-pages").gauge().value())
+                .isLessThanOrEqualTo(8192);
+        assertThat(ObjectSizeEstimator.estimate(List.of("x".repeat(1024)))).isBetween(1024L, 1200L);
+    }
+
+    @Test
+    @DisplayName("page caches stay local to the instance")
+    void page_cache_skips_the_shared_tier() {
+        instanceA.getCache(CacheNames.EMPLOYEE_PAGES).put("email=&page=0", List.of(load(1L)));
+
+        List<?> onA = instanceA.getCache(CacheNames.EMPLOYEE_PAGES).getIfPresent("email=&page=0", List.class);
+        List<?> onB = instanceB.getCache(CacheNames.EMPLOYEE_PAGES).getIfPresent("email=&page=0", List.class);
+
+        assertThat(onA).hasSize(1);
+        assertThat(onB).isNull();
+    }
+}
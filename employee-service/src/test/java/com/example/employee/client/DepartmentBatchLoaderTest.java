@@ -0,0 +1,88 @@
+package com.example.employee.client;
+
+import com.example.employee.dto.DepartmentBatchGetRequest;
+import com.example.employee.dto.DepartmentBatchGetResponse;
+import com.example.employee.dto.DepartmentDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DepartmentBatchLoaderTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    DepartmentClient client = mock(DepartmentClient.class);
+    DepartmentBatchLoader loader;
+
+    @AfterEach
+    void tearDown() {
+        loader.destroy();
+    }
+
+    private void answerFound(Long... ids) {
+        when(client.getDepartments(any())).thenAnswer(inv -> {
+            List<Long> requested = inv.<DepartmentBatchGetRequest>getArgument(0).getIds();
+            return DepartmentBatchGetResponse.builder()
+                    .found(requested.stream()
+                            .filter(List.of(ids)::contains)
+                            .map(id -> DepartmentDTO.builder().id(id).code("D" + id).build())
+                            .toList())
+                    .build();
+        });
+    }
+
+    @Test
+    @DisplayName("lookups within the window travel as one batch-get; unknown ids complete with null")
+    void batches_within_window() {
+        loader = new DepartmentBatchLoader(client, Duration.ofMillis(50), 100, 1, registry);
+        answerFound(1L, 2L);
+
+        CompletableFuture<DepartmentDTO> first = loader.load(1L);
+        CompletableFuture<DepartmentDTO> again = loader.load(1L);
+        CompletableFuture<DepartmentDTO> second = loader.load(2L);
+        CompletableFuture<DepartmentDTO> unknown = loader.load(3L);
+
+        assertThat(first.join().getCode()).isEqualTo("D1");
+        assertThat(again).isSameAs(first);
+        assertThat(second.join().getCode()).isEqualTo("D2");
+        assertThat(unknown.join()).isNull();
+        verify(client, times(1)).getDepartments(any());
+        verify(client, never()).getDepartment(any());
+        assertThat(registry.get("department.loader.batch.size").summary().totalAmount()).isEqualTo(3);
+        assertThat(registry.get("department.loader.queue.wait").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("a full batch leaves before its window; a failed call fails each caller")
+    void full_batch_leaves_early() {
+        loader = new DepartmentBatchLoader(client, Duration.ofHours(1), 2, 1, registry);
+        answerFound(1L, 2L);
+
+        assertThat(loader.load(1L)).isNotDone();
+        assertThat(loader.load(2L).join().getCode()).isEqualTo("D2");
+
+        doThrow(new IllegalStateException("down")).when(client).getDepartments(any());
+        CompletableFuture<DepartmentDTO> a = loader.load(4L);
+        CompletableFuture<DepartmentDTO> b = loader.load(5L);
+        assertThatThrownBy(a::join).hasRootCauseMessage("down");
+        assertThatThrownBy(b::join).hasRootCauseMessage("down");
+    }
+
+    @Test
+    @DisplayName("a zero window calls getDepartment directly")
+    void zero_window_passes_through() {
+        loader = new DepartmentBatchLoader(client, Duration.ZERO, 100, 1, registry);
+        when(client.getDepartment(7L)).thenReturn(DepartmentDTO.builder().id(7L).build());
+
+        assertThat(loader.load(7L).join().getId()).isEqualTo(7L);
+        verify(client, never()).getDepartments(any());
+    }
+}
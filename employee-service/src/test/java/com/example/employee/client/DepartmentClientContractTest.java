@@ -0,0 +1,36 @@
+package com.example.employee.client;
+
+import feign.MethodMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Request lines DepartmentClient sends. department-service's DepartmentClientMappingTest
+ * replays the same lines against its controllers.
+ */
+class DepartmentClientContractTest {
+
+    @Test
+    @DisplayName("every method targets an unversioned /api/departments path, versioned by header")
+    void request_lines_match_department_service() {
+        Map<String, String> lines = new SpringMvcContract().parseAndValidateMetadata(DepartmentClient.class).stream()
+                .collect(Collectors.toMap(m -> m.method().getName(), DepartmentClientContractTest::requestLine));
+
+        assertThat(lines).containsOnly(
+                entry("getDepartment", "GET /api/departments/{id} API-Version=[]"),
+                entry("getDepartmentByCode", "GET /api/departments/code/{code} API-Version=[v2]"),
+                entry("getDepartments", "POST /api/departments/batch-get API-Version=[v2]"));
+    }
+
+    private static String requestLine(MethodMetadata metadata) {
+        return metadata.template().method() + " " + metadata.template().url()
+                + " API-Version=" + metadata.template().headers().getOrDefault("API-Version", List.of());
+    }
+}
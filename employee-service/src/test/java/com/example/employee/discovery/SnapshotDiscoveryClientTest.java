@@ -0,0 +1,74 @@
+package com.example.employee.discovery;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cloud.client.ServiceInstance;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SnapshotDiscoveryClientTest {
+
+    @TempDir
+    Path dir;
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private RegistrySnapshot snapshot(String hash) {
+        return RegistrySnapshot.builder()
+                .takenAt(Instant.parse("2024-01-01T00:00:00Z"))
+                .appsHashCode(hash)
+                .services(Map.of("DEPARTMENT-SERVICE", List.of(RegistrySnapshot.SnapshotInstance.builder()
+                        .instanceId("dept-1").host("10.0.0.5").port(8082).metadata(Map.of("zone", "a"))
+                        .build())))
+                .build();
+    }
+
+    @Test
+    @DisplayName("a saved snapshot is loaded by a fresh store on the next start")
+    void snapshot_survives_restart() {
+        Path file = dir.resolve("registry.json");
+        new RegistrySnapshotStore(file, mapper).save(snapshot("UP_1_"));
+
+        RegistrySnapshotStore restarted = new RegistrySnapshotStore(file, mapper);
+
+        assertThat(restarted.current()).isPresent();
+        assertThat(restarted.current().get().getServices()).containsKey("DEPARTMENT-SERVICE");
+    }
+
+    @Test
+    @DisplayName("getInstances(): serves snapshot instances marked stale, case-insensitively")
+    void get_instances_marks_stale() {
+        RegistrySnapshotStore store = new RegistrySnapshotStore(dir.resolve("registry.json"), mapper);
+        store.save(snapshot("UP_1_"));
+        SnapshotDiscoveryClient client = new SnapshotDiscoveryClient(store);
+
+        List<ServiceInstance> instances = client.getInstances("department-service");
+
+        assertThat(instances).hasSize(1);
+        assertThat(instances.get(0).getHost()).isEqualTo("10.0.0.5");
+        assertThat(instances.get(0).getMetadata())
+                .containsEntry("zone", "a")
+                .containsEntry(SnapshotDiscoveryClient.STALE_METADATA_KEY, "stale");
+    }
+
+    @Test
+    @DisplayName("getInstances(): empty without a snapshot so Eureka stays authoritative")
+    void get_instances_without_snapshot_is_empty() {
+        SnapshotDiscoveryClient client =
+                new SnapshotDiscoveryClient(new RegistrySnapshotStore(dir.resolve("missing.json"), mapper));
+
+        assertThat(client.getInstances("DEPARTMENT-SERVICE")).isEmpty();
+        assertThat(client.getServices()).isEmpty();
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.employee.messaging;
+
+import com.example.employee.event.DepartmentUpdatedEvent;
+import com.example.employee.event.EmployeeCreatedEvent;
+import com.example.employee.event.EmployeesBulkDeletedEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AvroEventCodecTest {
+
+    EventSchemaRegistry registry = EventSchemaRegistry.fromClasspath();
+    AvroEventCodec codec = new AvroEventCodec(registry);
+    AvroEventMessageConverter converter = new AvroEventMessageConverter(codec);
+
+    static EmployeeCreatedEvent created() {
+        return EmployeeCreatedEvent.builder()
+                .employeeId(42L)
+                .firstName("Ada")
+                .lastName("Lovelace")
+                .email("ada@example.com")
+                .departmentId(7L)
+                .createdAt(LocalDateTime.parse("2024-03-01T09:15:30.123456"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("events round-trip through single-object encoding")
+    void round_trip() {
+        byte[] bytes = codec.encode(created());
+
+        assertThat(AvroEventCodec.isAvro(bytes)).isTrue();
+        assertThat(codec.decode(bytes, EmployeeCreatedEvent.class)).isEqualTo(created());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> generic = codec.decode(bytes, Map.class);
+        assertThat(generic)
+                .containsEntry("employeeId", 42L)
+                .containsEntry("email", "ada@example.com")
+                .containsEntry("eventType", "EMPLOYEE_CREATED");
+    }
+
+    @Test
+    @DisplayName("a message written with an older schema version resolves against the latest")
+    void resolves_older_writer_schema() {
+        Schema v1 = registry.latest("EmployeeCreatedEvent").orElseThrow().getValue();
+        List<Schema.Field> fields = new ArrayList<>(v1.getFields().stream()
+                .map(f -> new Schema.Field(f, f.schema())).toList());
+        fields.add(new Schema.Field("title", SchemaBuilder.builder().stringType(), null, "n/a"));
+        Schema v2 = Schema.createRecord(v1.getName(), v1.getDoc(), v1.getNamespace(), false, fields);
+
+        byte[] written = codec.encode(created());
+        EventSchemaRegistry upgraded = EventSchemaRegistry.fromClasspath();
+        upgraded.register(v2, 2);
+
+        assertThat(new AvroEventCodec(upgraded).decode(written, EmployeeCreatedEvent.class)).isEqualTo(created());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> generic = new AvroEventCodec(upgraded).decode(written, Map.class);
+        assertThat(generic).doesNotContainKey("title");
+    }
+
+    @Test
+    @DisplayName("converter encodes for Avro bindings and leaves JSON to the next converter")
+    void negotiates_by_content_type() {
+        Message<?> avro = converter.toMessage(created(),
+                new MessageHeaders(Map.of(MessageHeaders.CONTENT_TYPE, "application/*+avro")));
+        assertThat(avro).isNotNull();
+        assertThat(avro.getHeaders().get(MessageHeaders.CONTENT_TYPE))
+                .isEqualTo("application/vnd.employeecreatedevent.v1+avro");
+        assertThat(converter.fromMessage(avro, EmployeeCreatedEvent.class)).isEqualTo(created());
+
+        assertThat(converter.toMessage(created(),
+                new MessageHeaders(Map.of(MessageHeaders.CONTENT_TYPE, "application/json")))).isNull();
+        // No schema: stays on the JSON path even for an Avro binding
+        assertThat(converter.toMessage(EmployeesBulkDeletedEvent.builder().build(),
+                new MessageHeaders(Map.of(MessageHeaders.CONTENT_TYPE, "application/*+avro")))).isNull();
+        Message<byte[]> json = MessageBuilder.withPayload("{\"departmentId\":7}".getBytes(StandardCharsets.UTF_8))
+                .setHeader(MessageHeaders.CONTENT_TYPE, "application/json")
+                .build();
+        assertThat(converter.fromMessage(json, DepartmentUpdatedEvent.class)).isNull();
+    }
+}
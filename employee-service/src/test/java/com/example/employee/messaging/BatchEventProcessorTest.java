@@ -0,0 +1,94 @@
+package com.example.employee.messaging;
+
+import com.example.employee.event.DepartmentUpdatedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class BatchEventProcessorTest {
+
+    static final Clock CLOCK = Clock.fixed(Instant.parse("2024-01-01T12:00:05Z"), ZoneOffset.UTC);
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    BatchEventProcessor processor = new BatchEventProcessor(4, registry, CLOCK);
+
+    @AfterEach
+    void tearDown() {
+        processor.destroy();
+    }
+
+    private static DepartmentUpdatedEvent event(long departmentId, String name) {
+        return DepartmentUpdatedEvent.builder()
+                .departmentId(departmentId)
+                .name(name)
+                .updatedAt(LocalDateTime.parse("2024-01-01T12:00:00"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("events of one aggregate are handled in delivery order")
+    void keeps_order_per_aggregate() {
+        List<DepartmentUpdatedEvent> batch = IntStream.range(0, 200)
+                .mapToObj(i -> event(i % 10, "v" + i))
+                .toList();
+        Map<Long, List<String>> seen = new ConcurrentHashMap<>();
+
+        processor.process("departmentUpdated", batch, DepartmentUpdatedEvent::getDepartmentId,
+                DepartmentUpdatedEvent::getUpdatedAt,
+                e -> seen.computeIfAbsent(e.getDepartmentId(), id -> Collections.synchronizedList(new ArrayList<>()))
+                        .add(e.getName()));
+
+        assertThat(seen).hasSize(10);
+        seen.forEach((id, names) -> assertThat(names).containsExactlyElementsOf(
+                IntStream.range(0, 200).filter(i -> i % 10 == id).mapToObj(i -> "v" + i).toList()));
+        // Each department lands in exactly one lane
+        assertThat(processor.partition(batch, DepartmentUpdatedEvent::getDepartmentId).stream()
+                .flatMap(lane -> lane.stream().map(DepartmentUpdatedEvent::getDepartmentId).distinct()))
+                .doesNotHaveDuplicates()
+                .hasSize(10);
+    }
+
+    @Test
+    @DisplayName("records batch size, latency and lag from the event time")
+    void records_metrics() {
+        processor.process("departmentUpdated", List.of(event(1, "a"), event(2, "b")),
+                DepartmentUpdatedEvent::getDepartmentId, DepartmentUpdatedEvent::getUpdatedAt, e -> { });
+
+        assertThat(registry.get("messaging.consumer.batch.size").tag("binding", "departmentUpdated")
+                .summary().totalAmount()).isEqualTo(2);
+        assertThat(registry.get("messaging.consumer.batch.latency").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+        assertThat(registry.get("messaging.consumer.lag").timer().max(TimeUnit.SECONDS)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("a failing lane fails the whole batch so it is redelivered")
+    void failure_is_rethrown() {
+        assertThatThrownBy(() -> processor.process("departmentUpdated", List.of(event(1, "a"), event(2, "b")),
+                DepartmentUpdatedEvent::getDepartmentId, DepartmentUpdatedEvent::getUpdatedAt, e -> {
+                    if (e.getDepartmentId() == 2) {
+                        throw new IllegalStateException("boom");
+                    }
+                }))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+
+        assertThat(registry.get("messaging.consumer.batch.latency").tag("outcome", "failure").timer().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.employee.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class EventCoalescerTest {
+
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    List<String> published = new CopyOnWriteArrayList<>();
+    EventCoalescer coalescer = new EventCoalescer("employeeUpdated-out-0", Duration.ofHours(1), registry);
+
+    @AfterEach
+    void tearDown() {
+        coalescer.destroy();
+    }
+
+    private Runnable publish(String event) {
+        return () -> published.add(event);
+    }
+
+    @Test
+    @DisplayName("keeps the latest update per aggregate in first-arrival order")
+    void coalesces_per_aggregate() {
+        coalescer.submit(1L, publish("1:a"));
+        coalescer.submit(2L, publish("2:a"));
+        coalescer.submit(1L, publish("1:b"));
+        coalescer.submit(1L, publish("1:c"));
+        assertThat(published).isEmpty();
+        assertThat(coalescer.pendingCount()).isEqualTo(2);
+
+        coalescer.destroy();
+
+        assertThat(published).containsExactly("1:c", "2:a");
+        assertThat(registry.get("messaging.events.coalesced").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("flush publishes the pending update ahead of a bypassing event")
+    void flush_before_bypass() {
+        coalescer.submit(1L, publish("1:update"));
+        coalescer.submit(2L, publish("2:update"));
+
+        coalescer.flush(1L);
+        published.add("1:delete");
+
+        assertThat(published).containsExactly("1:update", "1:delete");
+        assertThat(coalescer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("flushing a chunk publishes its pending updates in pending order")
+    void flush_chunk_before_bulk_event() {
+        coalescer.submit(3L, publish("3:update"));
+        coalescer.submit(2L, publish("2:update"));
+        coalescer.submit(1L, publish("1:update"));
+
+        coalescer.flush(List.of(1L, 3L, 4L));
+
+        assertThat(published).containsExactly("3:update", "1:update");
+        assertThat(coalescer.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("submit does not wait for a publish in progress")
+    void publishes_outside_the_monitor() throws InterruptedException {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        coalescer.submit(1L, () -> {
+            sending.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            published.add("1:update");
+        });
+        Thread flusher = new Thread(() -> coalescer.flush(1L));
+        flusher.start();
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            coalescer.submit(2L, publish("2:update"));
+            assertThat(coalescer.pendingCount()).isEqualTo(1);
+        });
+
+        release.countDown();
+        flusher.join();
+        assertThat(published).containsExactly("1:update");
+    }
+
+    @Test
+    @DisplayName("the window elapses on the scheduler; a zero window publishes inline")
+    void publishes_after_window() throws InterruptedException {
+        EventCoalescer shortWindow = new EventCoalescer("b", Duration.ofMillis(20), registry);
+        shortWindow.submit(1L, publish("1:a"));
+        shortWindow.submit(1L, publish("1:b"));
+        for (int i = 0; i < 100 && published.isEmpty(); i++) {
+            Thread.sleep(10);
+        }
+        assertThat(published).containsExactly("1:b");
+        shortWindow.destroy();
+
+        EventCoalescer disabled = new EventCoalescer("c", Duration.ZERO, registry);
+        disabled.submit(1L, publish("1:now"));
+        assertThat(published).containsExactly("1:b", "1:now");
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.employee.messaging;
+
+import com.example.employee.event.EmployeeCreatedEvent;
+import com.example.employee.event.EmployeeDeletedEvent;
+import com.example.employee.event.EmployeeUpdatedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bytes per event and serialization CPU of the JSON and Avro encodings over a realistic mix
+ * of employee events. Tagged {@code benchmark}; run with {@code mvn test -Pbenchmarks} and
+ * size the run with {@code -Dbenchmark.events=...}.
+ */
+@Tag("benchmark")
+@Slf4j
+class EventEncodingBenchmarkTest {
+
+    static final int EVENTS = Integer.getInteger("benchmark.events", 100_000);
+    static final int WARMUP_ROUNDS = 5;
+    static final int ROUNDS = 10;
+
+    /** The Boot-configured mapper: ISO date strings, field names in every message. */
+    final ObjectMapper json = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    final AvroEventCodec avro = new AvroEventCodec(EventSchemaRegistry.fromClasspath());
+
+    interface Codec {
+        byte[] encode(Object event) throws IOException;
+
+        Object decode(byte[] bytes, Class<?> type) throws IOException;
+    }
+
+    record Result(String name, double bytesPerEvent, double encodeNanos, double decodeNanos) {
+        @Override
+        public String toString() {
+            return String.format("%-5s %8.1f bytes/event %8.0f ns encode %8.0f ns decode",
+                    name, bytesPerEvent, encodeNanos, decodeNanos);
+        }
+    }
+
+    static List<Object> events() {
+        LocalDateTime now = LocalDateTime.now();
+        return IntStream.range(0, EVENTS).<Object>mapToObj(i -> switch (i % 10) {
+            // Mostly updates, as in production traffic
+            case 0, 1 -> EmployeeCreatedEvent.builder().employeeId((long) i).firstName("First" + i % 1000)
+                    .lastName("Last" + i % 50_000).email("user" + i + "@example.com").departmentId(1L + i % 1000)
+                    .createdAt(now).build();
+            case 9 -> EmployeeDeletedEvent.builder().employeeId((long) i).firstName("First" + i % 1000)
+                    .lastName("Last" + i % 50_000).email("user" + i + "@example.com").departmentId(1L + i % 1000)
+                    .deletedAt(now).build();
+            default -> EmployeeUpdatedEvent.builder().employeeId((long) i).firstName("First" + i % 1000)
+                    .lastName("Last" + i % 50_000).email("user" + i + "@example.com").departmentId(1L + i % 1000)
+                    .updatedAt(now).build();
+        }).toList();
+    }
+
+    static Result measure(String name, Codec codec, List<Object> events) throws IOException {
+        byte[][] encoded = new byte[events.size()][];
+        long bytes = 0;
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int round = 0; round < WARMUP_ROUNDS + ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < encoded.length; i++) {
+                encoded[i] = codec.encode(events.get(i));
+            }
+            long encodedAt = System.nanoTime();
+            for (int i = 0; i < encoded.length; i++) {
+                codec.decode(encoded[i], events.get(i).getClass());
+            }
+            if (round >= WARMUP_ROUNDS) {
+                encodeNanos += encodedAt - start;
+                decodeNanos += System.nanoTime() - encodedAt;
+            }
+        }
+        for (byte[] message : encoded) {
+            bytes += message.length;
+        }
+        double count = (double) events.size();
+        return new Result(name, bytes / count, encodeNanos / (count * ROUNDS), decodeNanos / (count * ROUNDS));
+    }
+
+    @Test
+    @DisplayName("reports bytes and serialization time per event for JSON and Avro")
+    void compare_encodings() throws IOException {
+        List<Object> events = events();
+
+        Result jsonResult = measure("json", new Codec() {
+            public byte[] encode(Object event) throws IOException {
+                return json.writeValueAsBytes(event);
+            }
+
+            public Object decode(byte[] bytes, Class<?> type) throws IOException {
+                return json.readValue(bytes, type);
+            }
+        }, events);
+        Result avroResult = measure("avro", new Codec() {
+            public byte[] encode(Object event) {
+                return avro.encode(event);
+            }
+
+            public Object decode(byte[] bytes, Class<?> type) {
+                return avro.decode(bytes, type);
+            }
+        }, events);
+
+        log.info("{} events, {} rounds\n{}\n{}", EVENTS, ROUNDS, jsonResult, avroResult);
+        assertThat(avroResult.bytesPerEvent()).isLessThan(jsonResult.bytesPerEvent());
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.employee.profiling;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class ProfilingDataSourceTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestProfile.clear();
+    }
+
+    @Test
+    @DisplayName("executions of prepared statements are counted against the current request")
+    void counts_statement_executions() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement("select 1")).thenReturn(statement);
+        RequestProfile profile = RequestProfile.start();
+
+        try (Connection proxied = new ProfilingDataSource(target).getConnection();
+             PreparedStatement prepared = proxied.prepareStatement("select 1")) {
+            prepared.setLong(1, 42L);
+            prepared.executeQuery();
+            prepared.executeQuery();
+        }
+
+        verify(statement).setLong(1, 42L);
+        verify(statement, times(2)).executeQuery();
+        assertThat(profile.getStatements()).isEqualTo(2);
+        assertThat(profile.mostRepeatedStatement()).isEqualTo(Map.entry("select 1", 2));
+    }
+
+    @Test
+    @DisplayName("statements inside a traced operation are observed as jdbc.query spans")
+    void observes_statements_inside_a_trace() throws Exception {
+        DataSource target = mock(DataSource.class);
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(target.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        List<Observation.Context> stopped = new ArrayList<>();
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new ObservationHandler<>() {
+            @Override
+            public void onStop(Observation.Context context) {
+                stopped.add(context);
+            }
+
+            @Override
+            public boolean supportsContext(Observation.Context context) {
+                return true;
+            }
+        });
+
+        try (Connection proxied = new ProfilingDataSource(target, registry).getConnection()) {
+            proxied.prepareStatement("select 1").executeQuery();
+            Observation.createNotStarted("http.server.requests", registry).observeChecked(
+                    () -> proxied.prepareStatement("\nselect e1_0.id from employee.employees e1_0").executeQuery());
+        }
+
+        assertThat(stopped).extracting(Observation.Context::getName).containsExactly("jdbc.query", "http.server.requests");
+        assertThat(stopped.get(0).getLowCardinalityKeyValue("db.operation").getValue()).isEqualTo("select");
+    }
+}
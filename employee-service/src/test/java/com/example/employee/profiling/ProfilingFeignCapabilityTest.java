@@ -0,0 +1,63 @@
+package com.example.employee.profiling;
+
+import com.example.employee.resilience.CircuitBreakerExecutor;
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.circuitbreaker.resilience4j.Resilience4JCircuitBreakerFactory;
+import org.springframework.cloud.client.circuitbreaker.CircuitBreaker;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ProfilingFeignCapabilityTest {
+
+    final Request request = Request.create(Request.HttpMethod.GET, "http://departments/api/v1/departments/1",
+            Map.of(), null, null, null);
+
+    final CircuitBreakerExecutor executor = new CircuitBreakerExecutor(2);
+
+    @AfterEach
+    void tearDown() {
+        RequestProfile.clear();
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("a call the circuit breaker runs on its own thread is counted against the caller's request")
+    void call_through_circuit_breaker_is_counted() {
+        Resilience4JCircuitBreakerFactory factory = new Resilience4JCircuitBreakerFactory(
+                CircuitBreakerRegistry.ofDefaults(), TimeLimiterRegistry.ofDefaults(), null);
+        executor.customize(factory);
+        CircuitBreaker breaker = factory.create("department-service");
+
+        AtomicReference<Thread> callThread = new AtomicReference<>();
+        Client http = (request, options) -> {
+            callThread.set(Thread.currentThread());
+            return Response.builder().request(request).status(200).headers(Map.of()).build();
+        };
+        Client client = new ProfilingFeignCapability().enrich(http);
+        RequestProfile profile = RequestProfile.start();
+
+        Response response = breaker.run(() -> {
+            try {
+                return client.execute(request, new Request.Options());
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }, ex -> null);
+
+        assertThat(response.status()).isEqualTo(200);
+        assertThat(callThread.get()).isNotSameAs(Thread.currentThread());
+        assertThat(profile.getRemoteCalls()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.employee.profiling;
+
+import com.example.employee.config.RequestProfilingProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestProfilingFilterTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private RequestProfilingFilter filter(int maxStatements) {
+        RequestProfilingProperties properties = new RequestProfilingProperties();
+        properties.setMaxStatements(maxStatements);
+        return new RequestProfilingFilter(properties, registry);
+    }
+
+    /** Simulates a handler that loads a list and then one row per element. */
+    private static MockFilterChain handler(int lookups) {
+        return new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+                request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/employees");
+                RequestProfile profile = RequestProfile.current();
+                profile.recordStatement("select * from employees", 1_000_000);
+                for (int i = 0; i < lookups; i++) {
+                    profile.recordStatement("select * from departments where id=?", 500_000);
+                }
+                profile.recordRemoteCall(2_000_000);
+                response.getWriter().write("[]");
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("adds Server-Timing before the body and records per-endpoint metrics")
+    void adds_server_timing_and_metrics() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter(20).doFilter(new MockHttpServletRequest("GET", "/api/employees"), response, handler(2));
+
+        assertThat(response.getHeader(RequestProfilingFilter.SERVER_TIMING))
+                .startsWith("db;dur=2.0;desc=\"3 queries\", remote;dur=2.0;desc=\"1 calls\", total;dur=");
+        assertThat(registry.get("http.server.requests.db.statements").tag("uri", "/api/employees")
+                .summary().totalAmount()).isEqualTo(3);
+        assertThat(registry.get("http.server.requests.remote.calls").summary().totalAmount()).isEqualTo(1);
+        assertThat(registry.find("http.server.requests.excessive").counter()).isNull();
+        assertThat(RequestProfile.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("counts requests over the statement threshold and reports the repeated statement")
+    void flags_n_plus_one() throws Exception {
+        RequestProfilingFilter filter = filter(5);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/employees"), new MockHttpServletResponse(), handler(10));
+
+        assertThat(registry.get("http.server.requests.excessive").tag("reason", "statements").counter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.employee.repo;
+
+import com.example.employee.repo.QueryPlanHarness.QueryCase;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.testcontainers.DockerClientFactory;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/**
+ * Plan regression suite for every {@link EmployeeRepository} query over a table seeded with
+ * {@link QueryPlanHarness#ROWS} employees in 1000 departments, explaining the SQL the
+ * repository actually sends. The plans are tagged
+ * {@code query-plan} and need Docker; run them with {@code mvn test -Pquery-plans}.
+ */
+class EmployeeQueryPlanTest {
+
+    private static final PageRequest FIRST_PAGE = PageRequest.of(0, 20, Sort.by("lastName", "id"));
+    private static final List<Long> CHUNK = LongStream.rangeClosed(1_000, 1_099).boxed().toList();
+
+    /**
+     * Each repository method called with representative arguments; the harness explains every
+     * statement the call sends. Budgets are shared buffers (hit + read) per statement; a
+     * sequential scan of the seeded heap is tens of thousands of pages, so any budget here is
+     * only exceeded by a plan change.
+     */
+    static List<QueryCase<EmployeeRepository>> cases() {
+        return List.of(
+                QueryCase.of("existsByEmail", repo -> repo.existsByEmail("user4242@example.com"), 20),
+                QueryCase.of("existsByEmailAndIdNot", repo -> repo.existsByEmailAndIdNot("user4242@example.com", 1L), 20),
+                // Content page and its count query
+                QueryCase.of("findByDepartmentId", repo -> repo.findByDepartmentId(7L, FIRST_PAGE), 200),
+                QueryCase.of("searchByNameOrEmail", repo -> repo.searchByNameOrEmail("ast0012"), 2_000),
+                QueryCase.of("estimateCount", EmployeeRepository::estimateCount, 20),
+                // Whole-table aggregate for the stats endpoint; may scan, but never more than the heap once
+                QueryCase.scan("countByDepartment", EmployeeRepository::countByDepartment, QueryPlanHarness.ROWS / 50),
+                QueryCase.of("findIdVersionsAfter", repo -> repo.findIdVersionsAfter(0L, PageRequest.of(0, 5_000)), 500),
+                QueryCase.of("updateReturning", repo -> repo.updateReturning(42L, 0L, "Ann", null, null, null), 200),
+                QueryCase.of("deleteReturning", repo -> repo.deleteReturning(43L), 50),
+                QueryCase.of("bulkUpdateReturning", repo -> repo.bulkUpdateReturning(CHUNK, null, null, 9L), 5_000),
+                QueryCase.of("bulkDeleteReturning", repo -> repo.bulkDeleteReturning(CHUNK), 2_000),
+                QueryCase.of("findContentByFilters", "unfiltered",
+                        repo -> repo.findContentByFilters(null, null, null, FIRST_PAGE), 100),
+                QueryCase.of("findContentByFilters", "department, by last name",
+                        repo -> repo.findContentByFilters(null, null, 7L, FIRST_PAGE), 100),
+                QueryCase.of("findContentByFilters", "full email",
+                        repo -> repo.findContentByFilters("user4242@example.com", null, null, FIRST_PAGE), 50),
+                QueryCase.of("findContentByFilters", "email prefix",
+                        repo -> repo.findContentByFilters("user4242", null, null, FIRST_PAGE), 500),
+                QueryCase.of("findContentByFilters", "last name prefix and department",
+                        repo -> repo.findContentByFilters(null, "last0012", 7L, FIRST_PAGE), 1_000),
+                QueryCase.of("findContentByFilters", "last name substring",
+                        repo -> repo.findContentByFilters(null, "*ast0012", null, FIRST_PAGE), 2_000),
+                QueryCase.of("findContentByFilters", "by email",
+                        repo -> repo.findContentByFilters(null, null, null,
+                                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "email", "id"))), 100),
+                QueryCase.of("findProjectedByFilters",
+                        repo -> repo.findProjectedByFilters(List.of("id", "lastName"), null, "last0012", null, FIRST_PAGE),
+                        1_000),
+                QueryCase.of("findIdsByFilters", repo -> repo.findIdsByFilters(null, null, 7L, 0L, 500), 500),
+                QueryCase.of("countByFilters", "department", repo -> repo.countByFilters(null, null, 7L), 200),
+                QueryCase.of("countByFilters", "last name prefix", repo -> repo.countByFilters(null, "last0012", null), 1_000),
+                QueryCase.of("findProjectedById", repo -> repo.findProjectedById(List.of("id", "email"), 42L), 20),
+                QueryCase.of("searchProjected", repo -> repo.searchProjected(List.of("id", "lastName"), "ast0012"), 2_000));
+    }
+
+    @Test
+    @DisplayName("every repository method has a plan case")
+    void every_repository_method_is_covered() {
+        Set<String> methods = Stream.of(EmployeeRepository.class, EmployeeProjectionRepository.class)
+                .flatMap(type -> Arrays.stream(type.getDeclaredMethods()))
+                .filter(method -> !method.isSynthetic() && !method.isDefault() && !Modifier.isStatic(method.getModifiers()))
+                .map(Method::getName)
+                .collect(Collectors.toSet());
+
+        assertThat(cases().stream().map(QueryCase::method).collect(Collectors.toSet()))
+                .containsExactlyInAnyOrderElementsOf(methods);
+    }
+
+    @Tag("query-plan")
+    @TestFactory
+    @DisplayName("repository queries use indexes within their buffer budget")
+    Stream<DynamicTest> plans() throws SQLException {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "query plan tests need Docker");
+        QueryPlanHarness harness = QueryPlanHarness.start("employee", "flyway_schema_history_employees");
+        harness.seed("INSERT INTO employee.employees (first_name, last_name, email, department_id) "
+                + "SELECT 'First' || (i % 1000), 'Last' || lpad((i % 50000)::text, 5, '0'), "
+                + "'user' || i || '@example.com', 1 + i % 1000 "
+                + "FROM generate_series(1, " + QueryPlanHarness.ROWS + ") AS i");
+        EmployeeRepository repository = harness.repository(EmployeeRepository.class);
+        return cases().stream()
+                .map(queryCase -> dynamicTest(queryCase.name(), () -> harness.assertPlan(queryCase, repository)))
+                .onClose(() -> {
+                    try {
+                        harness.close();
+                    } catch (SQLException ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                });
+    }
+}
@@ -0,0 +1,331 @@
+package com.example.employee.repo;
+
+import com.example.employee.domain.Employee;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * PostgreSQL container migrated with the service's Flyway scripts and seeded at production
+ * scale, with the service's repositories running against it. Each case calls a repository
+ * method in a rolled back transaction and records the statements Hibernate sends, with their
+ * bound parameters; each statement is then replayed under {@code EXPLAIN (ANALYZE, BUFFERS)}
+ * inside another rolled back transaction, so DML cases leave the data set unchanged.
+ */
+final class QueryPlanHarness implements AutoCloseable {
+
+    static final String IMAGE = "postgres:15-alpine";
+
+    /** Seeded row count; override with {@code -Dquery-plan.rows=...}. */
+    static final long ROWS = Long.getLong("query-plan.rows", 2_000_000L);
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final PostgreSQLContainer<?> container;
+    private final Connection connection;
+    private final StatementRecorder recorder = new StatementRecorder();
+    private AnnotationConfigApplicationContext repositories;
+
+    private QueryPlanHarness(PostgreSQLContainer<?> container, Connection connection) {
+        this.container = container;
+        this.connection = connection;
+    }
+
+    static QueryPlanHarness start(String schema, String historyTable) throws SQLException {
+        PostgreSQLContainer<?> container = new PostgreSQLContainer<>(IMAGE);
+        container.start();
+        Flyway.configure()
+                .dataSource(container.getJdbcUrl(), container.getUsername(), container.getPassword())
+                .locations("classpath:db/migration")
+                .schemas(schema)
+                .defaultSchema(schema)
+                .table(historyTable)
+                .createSchemas(true)
+                .load()
+                .migrate();
+        Connection connection = DriverManager.getConnection(
+                container.getJdbcUrl(), container.getUsername(), container.getPassword());
+        return new QueryPlanHarness(container, connection);
+    }
+
+    /** Runs the seed statements, then refreshes statistics and the visibility map. */
+    void seed(String... statements) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+            statement.execute("VACUUM ANALYZE");
+        }
+    }
+
+    /** The service's repository of the given type, backed by the container through the recorder. */
+    <R> R repository(Class<R> type) {
+        if (repositories == null) {
+            repositories = new AnnotationConfigApplicationContext();
+            repositories.registerBean("dataSource", DataSource.class, () -> recorder.wrap(new DriverManagerDataSource(
+                    container.getJdbcUrl(), container.getUsername(), container.getPassword())));
+            repositories.register(Repositories.class);
+            repositories.refresh();
+        }
+        return repositories.getBean(type);
+    }
+
+    /** Statements the call sends, with their parameters; the call's own changes are rolled back. */
+    List<RecordedStatement> record(Runnable call) {
+        TransactionTemplate transaction = new TransactionTemplate(repositories.getBean(PlatformTransactionManager.class));
+        return recorder.record(() -> transaction.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            call.run();
+        }));
+    }
+
+    Plan explain(RecordedStatement recorded) throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + recorded.sql())) {
+            recorded.bind(statement);
+            try (ResultSet rs = statement.executeQuery()) {
+                rs.next();
+                JsonNode plan = MAPPER.readTree(rs.getString(1)).get(0).get("Plan");
+                return Plan.of(plan);
+            }
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unreadable plan for " + recorded.sql(), ex);
+        } finally {
+            connection.rollback();
+            connection.setAutoCommit(true);
+        }
+    }
+
+    /**
+     * Fails when the method sends no SQL, or when any statement it sends degrades to a
+     * sequential scan or touches more shared buffers than allowed.
+     */
+    <R> void assertPlan(QueryCase<R> queryCase, R repository) throws SQLException {
+        List<RecordedStatement> statements = record(() -> queryCase.call().accept(repository));
+        assertThat(statements).as("%s sent no SQL", queryCase.name()).isNotEmpty();
+        for (RecordedStatement statement : statements) {
+            Plan plan = explain(statement);
+            if (!queryCase.scanAllowed()) {
+                assertThat(plan.seqScans())
+                        .as("%s degraded to a sequential scan:%n%s%n%s", queryCase.name(), statement.sql(), plan.json())
+                        .isEmpty();
+            }
+            assertThat(plan.sharedBuffers())
+                    .as("%s touched more shared buffers than its budget:%n%s%n%s",
+                            queryCase.name(), statement.sql(), plan.json())
+                    .isLessThanOrEqualTo(queryCase.bufferBudget());
+        }
+    }
+
+    @Override
+    public void close() throws SQLException {
+        try {
+            if (repositories != null) {
+                repositories.close();
+            }
+            connection.close();
+        } finally {
+            container.stop();
+        }
+    }
+
+    /** The service's JPA setup without the rest of the application. */
+    @Configuration
+    @EnableJpaRepositories(basePackageClasses = EmployeeRepository.class)
+    static class Repositories {
+
+        @Bean
+        LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+            LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+            factory.setDataSource(dataSource);
+            factory.setPackagesToScan(Employee.class.getPackageName());
+            factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+            // Spring Boot's naming, so the SQL matches what the service sends
+            factory.setJpaPropertyMap(Map.of(
+                    "hibernate.default_schema", "employee",
+                    "hibernate.physical_naming_strategy",
+                    "org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy",
+                    "hibernate.implicit_naming_strategy",
+                    "org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy",
+                    "hibernate.cache.use_second_level_cache", "false",
+                    "hibernate.cache.use_query_cache", "false"));
+            return factory;
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+            return new JpaTransactionManager(entityManagerFactory);
+        }
+    }
+
+    /**
+     * A repository method called with representative arguments. Whole-table aggregates set
+     * {@code scanAllowed} and are held to the budget alone.
+     */
+    record QueryCase<R>(String method, String variant, Consumer<R> call, long bufferBudget, boolean scanAllowed) {
+
+        static <R> QueryCase<R> of(String method, Consumer<R> call, long bufferBudget) {
+            return new QueryCase<>(method, null, call, bufferBudget, false);
+        }
+
+        static <R> QueryCase<R> of(String method, String variant, Consumer<R> call, long bufferBudget) {
+            return new QueryCase<>(method, variant, call, bufferBudget, false);
+        }
+
+        static <R> QueryCase<R> scan(String method, Consumer<R> call, long bufferBudget) {
+            return new QueryCase<>(method, null, call, bufferBudget, true);
+        }
+
+        String name() {
+            return variant == null ? method : method + " (" + variant + ")";
+        }
+    }
+
+    /** A prepared statement as sent, with the setter calls that bound its parameters. */
+    record RecordedStatement(String sql, List<Binding> bindings) {
+
+        void bind(PreparedStatement statement) throws SQLException {
+            for (Binding binding : bindings) {
+                binding.apply(statement);
+            }
+        }
+    }
+
+    record Binding(Method setter, Object[] args) {
+
+        void apply(PreparedStatement statement) throws SQLException {
+            StatementRecorder.invoke(statement, setter, args);
+        }
+    }
+
+    /**
+     * Wraps a data source so the prepared statements executed while recording are kept, together
+     * with the {@code set*(index, ...)} calls that bound them.
+     */
+    static final class StatementRecorder {
+
+        private final List<RecordedStatement> recorded = new CopyOnWriteArrayList<>();
+        private volatile boolean recording;
+
+        synchronized List<RecordedStatement> record(Runnable call) {
+            recorded.clear();
+            recording = true;
+            try {
+                call.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(recorded);
+        }
+
+        DataSource wrap(DataSource dataSource) {
+            return proxy(DataSource.class, (method, args) -> {
+                Object result = invoke(dataSource, method, args);
+                return result instanceof Connection connection ? wrap(connection) : result;
+            });
+        }
+
+        private Connection wrap(Connection connection) {
+            return proxy(Connection.class, (method, args) -> {
+                Object result = invoke(connection, method, args);
+                return method.getName().equals("prepareStatement")
+                        ? wrap((PreparedStatement) result, (String) args[0])
+                        : result;
+            });
+        }
+
+        private PreparedStatement wrap(PreparedStatement statement, String sql) {
+            List<Binding> bindings = new ArrayList<>();
+            return proxy(PreparedStatement.class, (method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer) {
+                    bindings.add(new Binding(method, args.clone()));
+                } else if (name.equals("clearParameters")) {
+                    bindings.clear();
+                } else if (name.startsWith("execute") && (args == null || args.length == 0) && recording) {
+                    recorded.add(new RecordedStatement(sql, List.copyOf(bindings)));
+                }
+                return invoke(statement, method, args);
+            });
+        }
+
+        private interface Handler {
+            Object handle(Method method, Object[] args) throws SQLException;
+        }
+
+        private static <T> T proxy(Class<T> type, Handler handler) {
+            return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                    (proxy, method, args) -> handler.handle(method, args)));
+        }
+
+        static Object invoke(Object target, Method method, Object[] args) throws SQLException {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException ex) {
+                if (ex.getCause() instanceof SQLException sql) {
+                    throw sql;
+                }
+                if (ex.getCause() instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                throw new IllegalStateException(ex.getCause());
+            } catch (IllegalAccessException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /** Shared buffers (hit + read) of the whole plan and the service relations scanned sequentially. */
+    record Plan(JsonNode json, long sharedBuffers, List<String> seqScans) {
+
+        static Plan of(JsonNode root) {
+            List<String> seqScans = new ArrayList<>();
+            collectSeqScans(root, seqScans);
+            long buffers = root.path("Shared Hit Blocks").asLong() + root.path("Shared Read Blocks").asLong();
+            return new Plan(root, buffers, seqScans);
+        }
+
+        private static void collectSeqScans(JsonNode node, List<String> seqScans) {
+            String relation = node.path("Relation Name").asText();
+            // Catalog lookups such as estimateCount() are free to scan the small pg_* tables
+            if ("Seq Scan".equals(node.path("Node Type").asText()) && !relation.startsWith("pg_")) {
+                seqScans.add(relation);
+            }
+            for (JsonNode child : node.path("Plans")) {
+                collectSeqScans(child, seqScans);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.employee.resilience;
+
+import com.example.employee.client.DepartmentClient;
+import feign.Client;
+import feign.Request;
+import feign.RequestTemplate;
+import feign.Response;
+import feign.Target;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class FeignBulkheadCapabilityTest {
+
+    BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(1)
+            .maxWaitDuration(Duration.ZERO)
+            .build());
+    Request.Options options = new Request.Options();
+
+    private Request request() {
+        RequestTemplate template = new RequestTemplate();
+        template.feignTarget(new Target.HardCodedTarget<>(DepartmentClient.class, "DEPARTMENT-SERVICE", "http://departments"));
+        return Request.create(Request.HttpMethod.GET, "http://departments/api/v1/departments/1",
+                Map.of(), null, null, template);
+    }
+
+    private static Response ok(Request request) {
+        return Response.builder().request(request).status(200).headers(Map.of()).build();
+    }
+
+    @Test
+    @DisplayName("a call beyond the client's bulkhead is rejected at once and the permit returns afterwards")
+    void full_bulkhead_rejects_immediately() throws Exception {
+        AtomicReference<Client> enriched = new AtomicReference<>();
+        AtomicReference<Throwable> nested = new AtomicReference<>();
+        Client delegate = (request, opts) -> {
+            try {
+                enriched.get().execute(request(), opts);
+            } catch (Throwable ex) {
+                nested.set(ex);
+            }
+            return ok(request);
+        };
+        enriched.set(new FeignBulkheadCapability(registry).enrich(delegate));
+
+        assertThat(enriched.get().execute(request(), options).status()).isEqualTo(200);
+
+        assertThat(nested.get()).isInstanceOf(BulkheadFullException.class);
+        assertThat(registry.bulkhead("department-service").getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("a failed call releases its permit")
+    void failure_releases_permit() {
+        Client down = (request, opts) -> {
+            throw new IllegalStateException("down");
+        };
+        Client failing = new FeignBulkheadCapability(registry).enrich(down);
+
+        assertThatThrownBy(() -> failing.execute(request(), options)).hasMessage("down");
+        assertThat(registry.bulkhead("department-service").getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+}
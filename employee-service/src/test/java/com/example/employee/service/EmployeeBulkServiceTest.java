@@ -0,0 +1,162 @@
+package com.example.employee.service;
+
+import com.example.employee.cache.L2Cache;
+import com.example.employee.cache.TwoTierCacheManager;
+import com.example.employee.config.BulkOperationProperties;
+import com.example.employee.config.EmployeeCacheProperties;
+import com.example.employee.dto.BulkDeleteRequest;
+import com.example.employee.dto.BulkOperationResponse;
+import com.example.employee.dto.BulkUpdateRequest;
+import com.example.employee.dto.EmployeeFilter;
+import com.example.employee.event.EmployeesBulkDeletedEvent;
+import com.example.employee.event.EmployeesBulkUpdatedEvent;
+import com.example.employee.exception.EmployeeValidationException;
+import com.example.employee.messaging.EmployeeEventPublisher;
+import com.example.employee.metrics.EmployeeMetrics;
+import com.example.employee.repo.EmployeeRepository;
+import com.example.employee.snapshot.EmployeeReadSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EmployeeBulkServiceTest {
+
+    @Mock
+    EmployeeRepository repository;
+    @Mock
+    EmployeeEventPublisher eventPublisher;
+    @Mock
+    EmployeeMetrics metrics;
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    EmployeeBulkService service;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        BulkOperationProperties properties = new BulkOperationProperties();
+        properties.setChunkSize(2);
+        properties.setMaxIds(5);
+        TwoTierCacheManager cacheManager =
+                new TwoTierCacheManager(new EmployeeCacheProperties(), L2Cache.NONE, new SimpleMeterRegistry());
+        service = new EmployeeBulkService(repository, eventPublisher, metrics, cacheManager,
+                new TransactionTemplate(transactionManager), properties, new ListingCounter(cacheManager, "exact"),
+                EmployeeReadSnapshot.disabled());
+    }
+
+    private static Object[] row(long id, Long from, Long to) {
+        return new Object[]{id, from, to};
+    }
+
+    @Test
+    @DisplayName("bulkUpdate(): chunks ids and publishes one event per department move")
+    void bulk_update_by_ids_publishes_aggregate_events() {
+        when(repository.bulkUpdateReturning(List.of(1L, 2L), null, null, 9L))
+                .thenReturn(List.of(row(1, 1L, 9L), row(2, 1L, 9L)));
+        when(repository.bulkUpdateReturning(List.of(3L), null, null, 9L))
+                .thenReturn(List.of());
+
+        BulkOperationResponse response = service.bulkUpdate(BulkUpdateRequest.builder()
+                .ids(List.of(1L, 2L, 3L, 2L))
+                .patch(BulkUpdateRequest.Patch.builder().departmentId(9L).build())
+                .build());
+
+        assertThat(response.getChunks()).hasSize(2);
+        assertThat(response.getTotalAffected()).isEqualTo(2);
+        assertThat(response.getChunks().get(1).getMissingIds()).containsExactly(3L);
+
+        ArgumentCaptor<EmployeesBulkUpdatedEvent> event = ArgumentCaptor.forClass(EmployeesBulkUpdatedEvent.class);
+        verify(eventPublisher).publishEmployeesBulkUpdated(event.capture());
+        assertThat(event.getValue().getCount()).isEqualTo(2);
+        assertThat(event.getValue().getFromDepartmentId()).isEqualTo(1L);
+        assertThat(event.getValue().getToDepartmentId()).isEqualTo(9L);
+        assertThat(event.getValue().getChangedFields()).containsExactly("departmentId");
+        verify(metrics).incrementEmployeeUpdated(2);
+    }
+
+    @Test
+    @DisplayName("bulkDelete(): walks the filter by id keyset until a short chunk")
+    void bulk_delete_by_filter_walks_keyset() {
+        when(repository.findIdsByFilters(null, null, 4L, 0L, 2)).thenReturn(List.of(10L, 11L));
+        when(repository.findIdsByFilters(null, null, 4L, 11L, 2)).thenReturn(List.of(12L));
+        when(repository.bulkDeleteReturning(List.of(10L, 11L))).thenReturn(List.of(row(10, 4L, null), row(11, 4L, null)));
+        when(repository.bulkDeleteReturning(List.of(12L))).thenReturn(List.<Object[]>of(row(12, 4L, null)));
+
+        BulkOperationResponse response = service.bulkDelete(BulkDeleteRequest.builder()
+                .filter(EmployeeFilter.builder().departmentId(4L).build())
+                .build());
+
+        assertThat(response.getChunks()).hasSize(2);
+        assertThat(response.getTotalAffected()).isEqualTo(3);
+        verify(eventPublisher, times(2)).publishEmployeesBulkDeleted(any(EmployeesBulkDeletedEvent.class));
+        verify(metrics).adjustTotalEmployees(-2);
+        verify(metrics).adjustTotalEmployees(-1);
+    }
+
+    @Test
+    @DisplayName("bulkUpdate(): a failing id chunk is reported and later chunks still run")
+    void failed_chunk_is_reported() {
+        when(repository.bulkUpdateReturning(List.of(1L, 2L), "X", null, null))
+                .thenThrow(new DataIntegrityViolationException("boom"));
+        when(repository.bulkUpdateReturning(List.of(3L), "X", null, null)).thenReturn(List.<Object[]>of(row(3, 1L, 1L)));
+
+        BulkOperationResponse response = service.bulkUpdate(BulkUpdateRequest.builder()
+                .ids(List.of(1L, 2L, 3L))
+                .patch(BulkUpdateRequest.Patch.builder().firstName("X").build())
+                .build());
+
+        assertThat(response.getFailedChunks()).isEqualTo(1);
+        assertThat(response.getChunks().get(0).getError()).contains("boom");
+        assertThat(response.getTotalAffected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("rejects requests without exactly one target or over the id limit")
+    void validates_target() {
+        BulkUpdateRequest.Patch patch = BulkUpdateRequest.Patch.builder().lastName("Y").build();
+
+        assertThatThrownBy(() -> service.bulkUpdate(BulkUpdateRequest.builder().patch(patch).build()))
+                .isInstanceOf(EmployeeValidationException.class);
+        assertThatThrownBy(() -> service.bulkDelete(BulkDeleteRequest.builder()
+                .ids(List.of(1L)).filter(EmployeeFilter.builder().lastName("a").build()).build()))
+                .isInstanceOf(EmployeeValidationException.class);
+        assertThatThrownBy(() -> service.bulkDelete(BulkDeleteRequest.builder()
+                .ids(List.of(1L, 2L, 3L, 4L, 5L, 6L)).build()))
+                .isInstanceOf(EmployeeValidationException.class);
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("a filter of blank or bare-wildcard values is empty, not a match on every row")
+    void rejects_filters_that_match_everything() {
+        BulkUpdateRequest.Patch patch = BulkUpdateRequest.Patch.builder().lastName("Y").build();
+
+        assertThatThrownBy(() -> service.bulkUpdate(BulkUpdateRequest.builder().patch(patch)
+                .filter(EmployeeFilter.builder().email(" ").build()).build()))
+                .isInstanceOf(EmployeeValidationException.class);
+        assertThatThrownBy(() -> service.bulkDelete(BulkDeleteRequest.builder()
+                .filter(EmployeeFilter.builder().lastName("*").build()).build()))
+                .isInstanceOf(EmployeeValidationException.class);
+        assertThatThrownBy(() -> service.bulkDelete(BulkDeleteRequest.builder()
+                .filter(EmployeeFilter.builder().email("").lastName(" * ").build()).build()))
+                .isInstanceOf(EmployeeValidationException.class);
+        verifyNoInteractions(repository);
+    }
+}
@@ -1,10 +1,25 @@
 package com.example.employee.service;
 
-import com.example.employee.client.DepartmentClient;
+import com.example.employee.cache.L2Cache;
+import com.example.employee.cache.TwoTierCacheManager;
+import com.example.employee.client.DepartmentBatchLoader;
+import com.example.employee.config.BulkOperationProperties;
+import com.example.employee.config.EmployeeCacheProperties;
 import com.example.employee.domain.Employee;
+import com.example.employee.dto.DepartmentDTO;
+import com.example.employee.dto.EmployeeBatchGetResponse;
 import com.example.employee.dto.EmployeeDTO;
+import com.example.employee.dto.EmployeeSearchRequest;
+import com.example.employee.dto.EmployeeUpdateRequest;
+import com.example.employee.exception.EmployeeConflictException;
+import com.example.employee.exception.EmployeeValidationException;
+import com.example.employee.messaging.EmployeeEventPublisher;
+import com.example.employee.metrics.EmployeeMetrics;
 import com.example.employee.repo.EmployeeRepository;
+import com.example.employee.snapshot.EmployeeReadSnapshot;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.Tuple;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -14,12 +29,18 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,7 +49,21 @@ public class EmployeeServiceTest {
     @Mock
     EmployeeRepository repository;
     @Mock
-    DepartmentClient departmentClient;
+    DepartmentBatchLoader departmentLoader;
+    @Mock
+    EmployeeEventPublisher eventPublisher;
+    @Mock
+    EmployeeMetrics metrics;
+    @Spy
+    TwoTierCacheManager cacheManager =
+            new TwoTierCacheManager(new EmployeeCacheProperties(), L2Cache.NONE, new SimpleMeterRegistry());
+
+    @Mock
+    ListingCounter listingCounter;
+    @Spy
+    EmployeeReadSnapshot readSnapshot = EmployeeReadSnapshot.disabled();
+    @Spy
+    BulkOperationProperties bulkProperties = new BulkOperationProperties();
 
     @InjectMocks
     EmployeeService service;
@@ -82,19 +117,44 @@ public class EmployeeServiceTest {
         verify(repository).findById(999L);
     }
 
+    @Test
+    @DisplayName("getByIds(): one IN query, one lookup per department, missing ids reported")
+    void getByIds_batches_loads_and_enrichment() {
+        // Given
+        when(repository.findAllById(List.of(3L, 1L, 2L))).thenReturn(List.of(
+                Employee.builder().id(1L).firstName("Alice").lastName("Nguyen").email("alice@example.com").departmentId(7L).build(),
+                Employee.builder().id(3L).firstName("Carol").lastName("Diaz").email("carol@example.com").departmentId(7L).build()));
+        when(departmentLoader.load(7L)).thenReturn(
+                CompletableFuture.completedFuture(DepartmentDTO.builder().id(7L).code("ENG").build()));
+
+        // When
+        EmployeeBatchGetResponse result = service.getByIds(List.of(3L, 1L, 3L, 2L), true);
+
+        // Then
+        assertThat(result.getFound()).extracting(EmployeeDTO::getId).containsExactly(3L, 1L);
+        assertThat(result.getFound()).allSatisfy(dto -> assertThat(dto.getDepartment().getCode()).isEqualTo("ENG"));
+        assertThat(result.getMissingIds()).containsExactly(2L);
+        verify(departmentLoader, times(1)).load(7L);
+
+        bulkProperties.setBatchGetMaxIds(1);
+        assertThatThrownBy(() -> service.getByIds(List.of(1L, 2L), true))
+                .isInstanceOf(EmployeeValidationException.class);
+    }
+
     @ParameterizedTest(name = "create({0}) → duplicate? {1}")
     @CsvSource({
             "dina@example.com, false",
             "alice@example.com, true"
     })
-    @DisplayName("create(): throws when email exists; persists otherwise")
+    @DisplayName("create(): lets the unique constraint reject duplicates; persists otherwise")
     void create_handles_duplicates(String email, boolean duplicate) {
-        when(repository.existsByEmail(email)).thenReturn(duplicate);
         if (duplicate) {
+            when(repository.save(any(Employee.class)))
+                    .thenThrow(new DataIntegrityViolationException("employees_email_key"));
             assertThatThrownBy(() -> service.create(EmployeeDTO.builder()
                     .firstName("X").lastName("Y").email(email).build()))
-                    .isInstanceOf(IllegalArgumentException.class)
-                    .hasMessageContaining("Email already exists");
+                    .isInstanceOf(DataIntegrityViolationException.class);
+            verify(eventPublisher, never()).publishEmployeeCreated(any());
         } else {
             when(repository.save(any(Employee.class)))
                     .thenAnswer(inv -> { Employee e = inv.getArgument(0); e.setId(101L); return e; });
@@ -102,6 +162,106 @@ public class EmployeeServiceTest {
                     .firstName("X").lastName("Y").email(email).build());
             assertThat(out.getId()).isEqualTo(101L);
         }
+        verify(repository, never()).existsByEmail(any());
+    }
+
+    @Test
+    @DisplayName("update(): stale version with an existing employee is a conflict")
+    void update_with_stale_version_conflicts() {
+        when(repository.updateReturning(1L, 3L, "New", null, null, null)).thenReturn(Optional.empty());
+        when(repository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> service.update(1L, EmployeeUpdateRequest.builder().firstName("New").version(3L).build()))
+                .isInstanceOf(EmployeeConflictException.class);
+    }
+
+    @Test
+    @DisplayName("delete(): publishes the deleted event from the returned row")
+    void delete_publishes_from_returned_row() {
+        Employee deleted = Employee.builder().id(7L).firstName("Gone").lastName("Person")
+                .email("gone@example.com").departmentId(2L).build();
+        when(repository.deleteReturning(7L)).thenReturn(Optional.of(deleted));
+
+        service.delete(7L);
+
+        verify(eventPublisher).publishEmployeeDeleted(argThat(event ->
+                event.getEmployeeId() == 7L && "gone@example.com".equals(event.getEmail())));
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("getById(fields): selects only requested columns and skips enrichment")
+    void getById_with_fields_selects_only_requested_columns() {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("id")).thenReturn(5L);
+        when(tuple.get("email")).thenReturn("e@example.com");
+        when(repository.findProjectedById(List.of("id", "email"), 5L)).thenReturn(Optional.of(tuple));
+
+        Map<String, Object> row = service.getById(5L, "email");
+
+        assertThat(row).containsExactly(entry("id", 5L), entry("email", "e@example.com"));
+        verifyNoInteractions(departmentLoader);
+    }
+
+    @Test
+    @DisplayName("getById(fields): department selects departmentId and enriches")
+    void getById_with_department_field_enriches() {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get("id")).thenReturn(5L);
+        when(tuple.get("departmentId", Long.class)).thenReturn(2L);
+        when(repository.findProjectedById(List.of("id", "departmentId"), 5L)).thenReturn(Optional.of(tuple));
+        when(departmentLoader.load(2L)).thenReturn(
+                CompletableFuture.completedFuture(DepartmentDTO.builder().id(2L).name("IT").build()));
+
+        Map<String, Object> row = service.getById(5L, "department");
+
+        assertThat(row).containsOnlyKeys("id", "department");
+        assertThat(((DepartmentDTO) row.get("department")).getName()).isEqualTo("IT");
     }
 
+    @Test
+    @DisplayName("search(fields): department lookups are all dispatched before any is awaited")
+    void search_with_department_field_batches_lookups() {
+        Tuple first = mock(Tuple.class);
+        Tuple second = mock(Tuple.class);
+        Tuple third = mock(Tuple.class);
+        when(first.get("departmentId", Long.class)).thenReturn(7L);
+        when(second.get("departmentId", Long.class)).thenReturn(8L);
+        when(third.get("departmentId", Long.class)).thenReturn(7L);
+        when(repository.searchProjected(List.of("id", "departmentId"), "a"))
+                .thenReturn(List.of(first, second, third));
+        // Department 7 only resolves once 8 has been requested too, as when both share a batch
+        CompletableFuture<DepartmentDTO> engineering = new CompletableFuture<>();
+        when(departmentLoader.load(7L)).thenReturn(engineering);
+        when(departmentLoader.load(8L)).thenAnswer(invocation -> {
+            engineering.complete(DepartmentDTO.builder().id(7L).code("ENG").build());
+            return CompletableFuture.completedFuture(DepartmentDTO.builder().id(8L).code("FIN").build());
+        });
+
+        List<Map<String, Object>> rows = assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> service.search("a", "department"));
+
+        assertThat(rows).extracting(row -> ((DepartmentDTO) row.get("department")).getCode())
+                .containsExactly("ENG", "FIN", "ENG");
+        verify(departmentLoader, times(1)).load(7L);
+    }
+
+    @Test
+    @DisplayName("getById(fields): unknown field is a validation error")
+    void getById_with_unknown_field_is_rejected() {
+        assertThatThrownBy(() -> service.getById(5L, "id,salary"))
+                .isInstanceOf(EmployeeValidationException.class)
+                .hasMessageContaining("salary");
+    }
+
+    @Test
+    @DisplayName("getAllPaginated(): sorting by a non-indexed field is rejected before querying")
+    void getAllPaginated_with_unindexed_sort_is_rejected() {
+        EmployeeSearchRequest request = EmployeeSearchRequest.builder().sort("firstName,asc").build();
+
+        assertThatThrownBy(() -> service.getAllPaginated(request))
+                .isInstanceOf(EmployeeValidationException.class)
+                .hasMessageContaining("firstName");
+        verifyNoInteractions(repository);
+    }
 }
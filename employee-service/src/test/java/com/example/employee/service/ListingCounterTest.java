@@ -0,0 +1,64 @@
+package com.example.employee.service;
+
+import com.example.employee.cache.L2Cache;
+import com.example.employee.cache.TwoTierCacheManager;
+import com.example.employee.config.EmployeeCacheProperties;
+import com.example.employee.dto.CountStrategy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ListingCounterTest {
+
+    private final ListingCounter counter = new ListingCounter(
+            new TwoTierCacheManager(new EmployeeCacheProperties(), L2Cache.NONE, new SimpleMeterRegistry()), "exact");
+
+    private final AtomicInteger counts = new AtomicInteger();
+    private final LongSupplier exact = () -> {
+        counts.incrementAndGet();
+        return 500;
+    };
+
+    @Test
+    @DisplayName("count(): a short page yields the exact total without counting")
+    void short_page_needs_no_count() {
+        ListingCounter.Total total = counter.count(CountStrategy.CACHED, "k", true, PageRequest.of(3, 20), 7, exact, () -> -1);
+
+        assertThat(total).isEqualTo(new ListingCounter.Total(67, CountStrategy.EXACT));
+        assertThat(counts).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("count(): estimated totals only apply to unfiltered listings")
+    void estimated_only_when_unfiltered() {
+        assertThat(counter.count(CountStrategy.ESTIMATED, "all", false, PageRequest.of(0, 20), 20, exact, () -> 480))
+                .isEqualTo(new ListingCounter.Total(480, CountStrategy.ESTIMATED));
+        assertThat(counter.count(CountStrategy.ESTIMATED, "dept=1", true, PageRequest.of(0, 20), 20, exact, () -> 480).strategy())
+                .isEqualTo(CountStrategy.CACHED);
+    }
+
+    @Test
+    @DisplayName("count(): cached totals are reused per signature until invalidated")
+    void cached_until_invalidated() {
+        counter.count(CountStrategy.CACHED, "dept=1", true, PageRequest.of(1, 20), 20, exact, () -> -1);
+        counter.count(CountStrategy.CACHED, "dept=1", true, PageRequest.of(2, 20), 20, exact, () -> -1);
+        assertThat(counts).hasValue(1);
+
+        counter.invalidate();
+        counter.count(CountStrategy.CACHED, "dept=1", true, PageRequest.of(1, 20), 20, exact, () -> -1);
+        assertThat(counts).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("count(): no requested strategy falls back to the configured default")
+    void default_strategy_is_exact() {
+        assertThat(counter.count(null, "k", false, PageRequest.of(0, 20), 20, exact, () -> 1).strategy())
+                .isEqualTo(CountStrategy.EXACT);
+    }
+}
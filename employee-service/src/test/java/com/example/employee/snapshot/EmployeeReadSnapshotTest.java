@@ -0,0 +1,111 @@
+package com.example.employee.snapshot;
+
+import com.example.employee.domain.Employee;
+import com.example.employee.repo.EmployeeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.example.employee.snapshot.EmployeeSnapshotStoreTest.employee;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class EmployeeReadSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    EmployeeRepository repository = mock(EmployeeRepository.class);
+    EmployeeSnapshotStore store;
+    EmployeeReadSnapshot snapshot;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        store = EmployeeSnapshotStore.open(dir.resolve("employees.bin"), 100, 4096);
+        snapshot = new EmployeeReadSnapshot(store, repository, new TransactionTemplate(transactionManager), 2,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        snapshot.destroy();
+    }
+
+    private static Object[] row(long id, long version) {
+        return new Object[]{id, version};
+    }
+
+    @Test
+    @DisplayName("catching up reloads changed versions and drops deleted ids before serving")
+    void catches_up_by_version() {
+        store.upsert(employee(1, 0, 7L, "Unchanged"));
+        store.upsert(employee(2, 0, 7L, "Deleted"));
+        store.upsert(employee(3, 0, 7L, "Stale"));
+        store.upsert(employee(9, 0, 7L, "DeletedAtTheEnd"));
+        when(repository.findIdVersionsAfter(eq(0L), any())).thenReturn(List.of(row(1, 0), row(3, 1)));
+        when(repository.findIdVersionsAfter(eq(3L), any())).thenReturn(List.<Object[]>of(row(4, 0)));
+        when(repository.findAllById(List.of(3L))).thenReturn(List.of(employee(3, 1, 7L, "Fresh")));
+        when(repository.findAllById(List.of(4L))).thenReturn(List.of(employee(4, 0, 8L, "Created")));
+
+        assertThat(snapshot.findById(1L)).isEmpty();
+        snapshot.synchronize();
+
+        assertThat(snapshot.isServing()).isTrue();
+        assertThat(store.ids()).containsExactly(1L, 3L, 4L);
+        assertThat(snapshot.findById(3L)).get().extracting(Employee::getLastName).isEqualTo("Fresh");
+        verify(repository, never()).findAllById(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("department pages are sorted and counted in memory")
+    void pages_a_department() {
+        when(repository.findIdVersionsAfter(eq(0L), any())).thenReturn(List.of(row(1, 0), row(2, 0)));
+        when(repository.findIdVersionsAfter(eq(2L), any())).thenReturn(List.of(row(3, 0), row(4, 0)));
+        when(repository.findIdVersionsAfter(eq(4L), any())).thenReturn(List.of());
+        store.upsert(employee(1, 0, 7L, "Carter"));
+        store.upsert(employee(2, 0, 7L, "Adams"));
+        store.upsert(employee(3, 0, 7L, "Baker"));
+        store.upsert(employee(4, 0, 8L, "Aaron"));
+        snapshot.synchronize();
+
+        Page<Employee> page = snapshot.findByDepartment(7L,
+                PageRequest.of(0, 2, Sort.by("lastName").and(Sort.by("id")))).orElseThrow();
+
+        assertThat(page.getContent()).extracting(Employee::getLastName).containsExactly("Adams", "Baker");
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("mixed-case last names sort by code point like the C collation of the column")
+    void sorts_mixed_case_names_like_the_database() {
+        when(repository.findIdVersionsAfter(eq(0L), any())).thenReturn(List.of(row(1, 0), row(2, 0)));
+        when(repository.findIdVersionsAfter(eq(2L), any())).thenReturn(List.of(row(3, 0), row(4, 0)));
+        when(repository.findIdVersionsAfter(eq(4L), any())).thenReturn(List.of());
+        store.upsert(employee(1, 0, 7L, "de Vries"));
+        store.upsert(employee(2, 0, 7L, "Dunn"));
+        store.upsert(employee(3, 0, 7L, "\uD83D\uDE00"));
+        store.upsert(employee(4, 0, 7L, "\uFF21dams"));
+        snapshot.synchronize();
+
+        Page<Employee> page = snapshot.findByDepartment(7L,
+                PageRequest.of(0, 10, Sort.by("lastName").and(Sort.by("id")))).orElseThrow();
+
+        assertThat(page.getContent()).extracting(Employee::getId).containsExactly(2L, 1L, 4L, 3L);
+    }
+}
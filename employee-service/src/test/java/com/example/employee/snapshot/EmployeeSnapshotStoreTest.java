@@ -0,0 +1,110 @@
+package com.example.employee.snapshot;
+
+import com.example.employee.domain.Employee;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class EmployeeSnapshotStoreTest {
+
+    @TempDir
+    Path dir;
+
+    static Employee employee(long id, long version, Long departmentId, String lastName) {
+        return Employee.builder()
+                .id(id)
+                .version(version)
+                .firstName("Ada")
+                .lastName(lastName)
+                .email("user" + id + "@example.com")
+                .departmentId(departmentId)
+                .createdAt(LocalDateTime.parse("2024-03-01T09:15:30.123456"))
+                .build();
+    }
+
+    @Test
+    @DisplayName("records survive a clean close and are indexed again on open")
+    void reopens_after_clean_close() throws IOException {
+        Path file = dir.resolve("employees.bin");
+        EmployeeSnapshotStore store = EmployeeSnapshotStore.open(file, 100, 4096);
+        assertThat(store.isRecovered()).isFalse();
+        store.upsert(employee(1, 0, 7L, "Lovelace"));
+        store.upsert(employee(2, 0, 7L, "Hopper"));
+        store.upsert(employee(3, 0, null, "Turing"));
+        store.remove(2);
+        store.close();
+
+        EmployeeSnapshotStore reopened = EmployeeSnapshotStore.open(file, 100, 4096);
+        assertThat(reopened.isRecovered()).isTrue();
+        assertThat(reopened.ids()).containsExactly(1L, 3L);
+        assertThat(reopened.get(1)).usingRecursiveComparison().isEqualTo(employee(1, 0, 7L, "Lovelace"));
+        assertThat(reopened.get(3).getDepartmentId()).isNull();
+        assertThat(reopened.findByDepartment(7)).extracting(Employee::getId).containsExactly(1L);
+        reopened.close();
+    }
+
+    @Test
+    @DisplayName("a file not closed cleanly, or sized differently, starts empty")
+    void discards_dirty_or_resized_file() throws IOException {
+        Path file = dir.resolve("employees.bin");
+        EmployeeSnapshotStore crashed = EmployeeSnapshotStore.open(file, 100, 4096);
+        crashed.upsert(employee(1, 0, 7L, "Lovelace"));
+        crashed.abandon();
+
+        EmployeeSnapshotStore afterCrash = EmployeeSnapshotStore.open(file, 100, 4096);
+        assertThat(afterCrash.isRecovered()).isFalse();
+        assertThat(afterCrash.size()).isZero();
+        afterCrash.upsert(employee(1, 0, 7L, "Lovelace"));
+        afterCrash.close();
+
+        EmployeeSnapshotStore resized = EmployeeSnapshotStore.open(file, 200, 4096);
+        assertThat(resized.isRecovered()).isFalse();
+        assertThat(resized.size()).isZero();
+        resized.close();
+    }
+
+    @Test
+    @DisplayName("a file already mapped by another store is refused until that store closes")
+    void second_store_is_locked_out() throws IOException {
+        Path file = dir.resolve("employees.bin");
+        EmployeeSnapshotStore first = EmployeeSnapshotStore.open(file, 100, 4096);
+        first.upsert(employee(1, 0, 7L, "Lovelace"));
+
+        assertThatThrownBy(() -> EmployeeSnapshotStore.open(file, 100, 4096))
+                .isInstanceOf(SnapshotLockedException.class);
+        assertThat(first.get(1).getLastName()).isEqualTo("Lovelace");
+
+        first.close();
+        EmployeeSnapshotStore second = EmployeeSnapshotStore.open(file, 100, 4096);
+        assertThat(second.isRecovered()).isTrue();
+        second.close();
+    }
+
+    @Test
+    @DisplayName("older versions are ignored, department moves are re-indexed, the arena compacts")
+    void versions_departments_and_compaction() throws IOException {
+        EmployeeSnapshotStore store = EmployeeSnapshotStore.open(dir.resolve("employees.bin"), 10, 200);
+        store.upsert(employee(1, 3, 7L, "Lovelace"));
+
+        assertThat(store.upsert(employee(1, 2, 8L, "Stale"))).isFalse();
+        assertThat(store.upsert(employee(1, 4, 8L, "Byron"))).isTrue();
+        assertThat(store.findByDepartment(7)).isEmpty();
+        assertThat(store.findByDepartment(8)).extracting(Employee::getLastName).containsExactly("Byron");
+
+        // Each update appends ~25 bytes; 200 bytes only last because superseded strings are dropped
+        for (int version = 5; version < 50; version++) {
+            store.upsert(employee(1, version, 8L, "Name" + version));
+        }
+        assertThat(store.get(1).getLastName()).isEqualTo("Name49");
+        assertThat(store.arenaUsed()).isLessThan(200);
+        assertThat(store.versionOf(1)).isEqualTo(49);
+        assertThat(store.versionOf(2)).isEqualTo(-1);
+        store.close();
+    }
+}
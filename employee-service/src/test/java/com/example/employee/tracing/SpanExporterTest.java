@@ -0,0 +1,48 @@
+package com.example.employee.tracing;
+
+import brave.handler.MutableSpan;
+import io.micrometer.tracing.brave.bridge.BraveFinishedSpan;
+import io.micrometer.tracing.exporter.FinishedSpan;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpanExporterTest {
+
+    private static FinishedSpan span(String traceId, String spanId, long startMicros, long endMicros) {
+        MutableSpan span = new MutableSpan();
+        span.traceId(traceId);
+        span.id(spanId);
+        span.name("http get /api/employees/{id}");
+        span.startTimestamp(startMicros);
+        span.finishTimestamp(endMicros);
+        return BraveFinishedSpan.fromBrave(span);
+    }
+
+    private static final String TRACE_1 = "463ac35c9f6413ad";
+    private static final String TRACE_2 = "a2fb4a1d1a96d312";
+
+    @Test
+    @DisplayName("LatencySpanFilter tags each span with its duration in milliseconds")
+    void latency_tag() {
+        FinishedSpan span = new LatencySpanFilter().map(span(TRACE_1, "00000000000000b1", 1_000_000, 1_012_500));
+
+        assertThat(span.getTags()).containsEntry(LatencySpanFilter.LATENCY_TAG, "12.500");
+    }
+
+    @Test
+    @DisplayName("InMemorySpanReporter keeps the most recent spans and filters by trace")
+    void in_memory_reporter_is_bounded() {
+        InMemorySpanReporter reporter = new InMemorySpanReporter(2);
+
+        reporter.report(span(TRACE_1, "00000000000000b1", 0, 10));
+        reporter.report(span(TRACE_2, "00000000000000b2", 0, 10));
+        reporter.report(span(TRACE_1, "00000000000000b3", 0, 10));
+
+        assertThat(reporter.spans(null)).extracting(SpanRecord::spanId)
+                .containsExactly("00000000000000b2", "00000000000000b3");
+        assertThat(reporter.spans(TRACE_1)).singleElement()
+                .satisfies(record -> assertThat(record.durationMicros()).isEqualTo(10));
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.employee.web;
+
+import com.example.employee.dto.DepartmentDTO;
+import com.example.employee.dto.ResourceValidator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConditionalRequestsTest {
+
+    private static final LocalDateTime UPDATED = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+    @Test
+    @DisplayName("checkNotModified(): matching If-None-Match turns the response into a 304")
+    void matching_etag_is_not_modified() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees/5");
+        request.addHeader("If-None-Match", "\"5-3\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+
+        assertThat(ConditionalRequests.isConditional(webRequest)).isTrue();
+        assertThat(ConditionalRequests.checkNotModified(webRequest, ResourceValidator.of(5L, 3L, UPDATED))).isTrue();
+        assertThat(response.getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("checkNotModified(): plain GET gets ETag and Last-Modified headers")
+    void plain_get_receives_validators() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees/5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+
+        assertThat(ConditionalRequests.isConditional(webRequest)).isFalse();
+        assertThat(ConditionalRequests.checkNotModified(webRequest, ResourceValidator.of(5L, 4L, UPDATED))).isFalse();
+        assertThat(response.getHeader("ETag")).isEqualTo("\"5-4\"");
+        assertThat(response.getHeader("Last-Modified")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("ofPage(): page validator changes when any row version or the total changes")
+    void page_validator_tracks_rows_and_total() {
+        List<ResourceValidator> rows = List.of(ResourceValidator.of(1L, 0L, UPDATED), ResourceValidator.of(2L, 1L, UPDATED));
+        ResourceValidator page = ResourceValidator.ofPage(10, rows);
+
+        assertThat(page.etag()).startsWith("W/");
+        assertThat(ResourceValidator.ofPage(10, rows)).isEqualTo(page);
+        assertThat(ResourceValidator.ofPage(11, rows).etag()).isNotEqualTo(page.etag());
+        assertThat(ResourceValidator.ofPage(10, List.of(rows.get(0), ResourceValidator.of(2L, 2L, UPDATED))).etag())
+                .isNotEqualTo(page.etag());
+    }
+
+    @Test
+    @DisplayName("of(): an embedded department changes the validator and makes it weak")
+    void embedded_department_varies_validator() {
+        DepartmentDTO sales = DepartmentDTO.builder().id(7L).name("Sales").version(1L).updatedAt(UPDATED).build();
+        DepartmentDTO renamed = DepartmentDTO.builder().id(7L).name("Revenue").version(2L).updatedAt(UPDATED.plusDays(1)).build();
+
+        ResourceValidator bare = ResourceValidator.of(5L, 3L, UPDATED, null);
+        ResourceValidator enriched = ResourceValidator.of(5L, 3L, UPDATED, sales);
+        ResourceValidator afterRename = ResourceValidator.of(5L, 3L, UPDATED, renamed);
+
+        assertThat(bare).isEqualTo(ResourceValidator.of(5L, 3L, UPDATED));
+        assertThat(enriched.etag()).startsWith("W/").isNotEqualTo(bare.etag());
+        assertThat(afterRename.etag()).isNotEqualTo(enriched.etag());
+        assertThat(afterRename.lastModified()).isEqualTo(UPDATED.plusDays(1));
+        assertThat(ResourceValidator.of(5L, 3L, UPDATED, DepartmentDTO.builder().id(7L).name("Sales").build())
+                .lastModified()).isNull();
+    }
+}
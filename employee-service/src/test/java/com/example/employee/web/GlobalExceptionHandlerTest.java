@@ -0,0 +1,38 @@
+package com.example.employee.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ProblemDetail;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    @Test
+    @DisplayName("unique email violations are reported as employee conflicts")
+    void email_constraint_is_employee_conflict() {
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("ERROR: duplicate key value violates unique constraint \"employees_email_key\"", "23505"));
+
+        ProblemDetail pd = handler.handleConflict(ex, new MockHttpServletRequest("POST", "/api/v2/employees"));
+
+        assertThat(pd.getStatus()).isEqualTo(409);
+        assertThat(pd.getTitle()).isEqualTo("Employee conflict");
+    }
+
+    @Test
+    @DisplayName("other integrity violations keep the generic conflict")
+    void other_constraints_stay_generic() {
+        ProblemDetail pd = handler.handleConflict(new DataIntegrityViolationException("fk violation"),
+                new MockHttpServletRequest("POST", "/api/v2/employees"));
+
+        assertThat(pd.getStatus()).isEqualTo(409);
+        assertThat(pd.getTitle()).isEqualTo("Conflict");
+    }
+}